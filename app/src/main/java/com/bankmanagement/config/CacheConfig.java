@@ -0,0 +1,30 @@
+package com.bankmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration
+public class CacheConfig {
+    
+    private static final String SPEC_PREFIX = "app.cache.specs.";
+    
+    // spring.cache.caffeine.spec applies to every cache; app.cache.specs.<cache name> overrides it for one,
+    // e.g. to give entries that other nodes cannot evict a short expiry
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> perCacheSpecs(Environment environment) {
+        return cacheManager -> {
+            for (String cacheName : List.copyOf(cacheManager.getCacheNames())) {
+                String spec = environment.getProperty(SPEC_PREFIX + cacheName);
+                if (spec != null && !spec.isBlank()) {
+                    cacheManager.registerCustomCache(cacheName, Caffeine.from(spec).build());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.bankmanagement.config;
+
+import com.bankmanagement.metrics.HibernateStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    
+    // Registered as an instance so Hibernate uses the Spring bean instead of creating its own
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(HibernateStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+}
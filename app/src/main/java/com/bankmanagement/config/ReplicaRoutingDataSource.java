@@ -0,0 +1,77 @@
+package com.bankmanagement.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Read-only transactions go to a healthy replica, round-robin; everything else to the primary.
+// Needs a LazyConnectionDataSourceProxy in front, as the read-only flag is set after connection lookup
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    
+    public static final String PRIMARY = "primary";
+    
+    private final Map<String, DataSource> replicaDataSources;
+    private final List<String> replicas;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources) {
+        this.replicaDataSources = new LinkedHashMap<>(replicaDataSources);
+        this.replicas = new ArrayList<>(replicaDataSources.keySet());
+        
+        Map<Object, Object> targets = new HashMap<>(replicaDataSources);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            String replica = replicas.get((start + i) % replicas.size());
+            if (healthyReplicas.contains(replica)) {
+                return replica;
+            }
+        }
+        // No replica is within the lag budget
+        return PRIMARY;
+    }
+    
+    public Map<String, DataSource> getReplicaDataSources() {
+        return replicaDataSources;
+    }
+    
+    public void setReplicaHealthy(String replica, boolean healthy) {
+        if (healthy) {
+            healthyReplicas.add(replica);
+        } else {
+            healthyReplicas.remove(replica);
+        }
+    }
+    
+    // The replica pools are owned here; the primary pool is a bean in its own right
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicaDataSources.values()) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bankmanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Takes a replica out of rotation while its replay lag exceeds the budget or it cannot be reached
+public class ReplicationLagMonitor {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicationLagMonitor.class);
+    
+    // A caught-up replica reports zero rather than the time since the primary last committed
+    private static final String REPLAY_LAG_SQL =
+        "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+    
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+    
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final double maxLagSeconds;
+    
+    public ReplicationLagMonitor(ReplicaRoutingDataSource routingDataSource,
+                                 Duration maxLag,
+                                 MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        routingDataSource.getReplicaDataSources().forEach((name, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            this.replicas.put(name, jdbcTemplate);
+            lagSeconds.put(name, Double.NaN);
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                .description("Replay lag of a read replica in seconds; NaN while unreachable")
+                .baseUnit("seconds")
+                .tag("replica", name)
+                .register(meterRegistry);
+        });
+    }
+    
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval:PT5S}")
+    public void checkLag() {
+        replicas.forEach((name, jdbcTemplate) -> {
+            boolean healthy;
+            try {
+                Double lag = jdbcTemplate.queryForObject(REPLAY_LAG_SQL, Double.class);
+                lagSeconds.put(name, lag);
+                healthy = lag != null && lag <= maxLagSeconds;
+            } catch (DataAccessException e) {
+                lagSeconds.put(name, Double.NaN);
+                healthy = false;
+                log.warn("Replica {} is unreachable, routing its reads to the primary: {}", name, e.getMessage());
+            }
+            routingDataSource.setReplicaHealthy(name, healthy);
+        });
+    }
+}
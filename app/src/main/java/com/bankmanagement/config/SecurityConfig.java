@@ -0,0 +1,94 @@
+package com.bankmanagement.config;
+
+import com.bankmanagement.security.AdaptiveConcurrencyLimiter;
+import com.bankmanagement.security.AdminIpAllowlistFilter;
+import com.bankmanagement.security.ConcurrencyLimitFilter;
+import com.bankmanagement.security.JwtAuthenticationFilter;
+import com.bankmanagement.security.JwtTokenService;
+import com.bankmanagement.security.RateLimitFilter;
+import com.bankmanagement.security.RequestRateLimiter;
+import com.bankmanagement.service.AdminIpAllowlistService;
+import com.bankmanagement.service.TokenRevocationService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Configuration
+@EnableWebSecurity
+@EnableMethodSecurity
+public class SecurityConfig {
+    
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+    
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           JwtTokenService jwtTokenService,
+                                           TokenRevocationService tokenRevocationService,
+                                           AdminIpAllowlistService adminIpAllowlistService,
+                                           RequestRateLimiter requestRateLimiter,
+                                           AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                           @Value("${app.concurrency-limit.paths:/customers/**}") List<String> limitedPaths) throws Exception {
+        // Created here rather than as beans so Boot does not also register them as servlet filters
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenService, tokenRevocationService);
+        AdminIpAllowlistFilter adminIpAllowlistFilter = new AdminIpAllowlistFilter(adminIpAllowlistService);
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(requestRateLimiter);
+        ConcurrencyLimitFilter concurrencyLimitFilter = new ConcurrencyLimitFilter(concurrencyLimiter, limitedPaths);
+        
+        http
+            .csrf(csrf -> csrf.disable())
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // The allowlist and rate limiting need the authenticated principal; the concurrency limit only admits what passed it
+            .addFilterAfter(adminIpAllowlistFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, AdminIpAllowlistFilter.class)
+            .addFilterAfter(concurrencyLimitFilter, RateLimitFilter.class)
+            // Matchers are relative to the servlet context path (/api/v1)
+            .authorizeHttpRequests(authz -> authz
+                // The request was authorized before it failed; its error page must not be re-authorized as anonymous
+                .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                .requestMatchers("/customers/register").permitAll()
+                .requestMatchers("/auth/**").permitAll()
+                .requestMatchers("/actuator/**").permitAll()
+                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .anyRequest().authenticated()
+            );
+        
+        return http.build();
+    }
+    
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOriginPatterns(Arrays.asList("*"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setAllowCredentials(true);
+        
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
@@ -0,0 +1,39 @@
+package com.bankmanagement.config;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.QualifiedSequenceName;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
+import org.hibernate.id.enhanced.StandardNamingStrategy;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+
+import java.util.Map;
+
+// Names each id sequence <table>_id_seq, matching the sequences behind the original BIGSERIAL columns
+public class TableIdSequenceNamingStrategy implements ImplicitDatabaseObjectNamingStrategy {
+    
+    private final StandardNamingStrategy standard = new StandardNamingStrategy();
+    
+    @Override
+    public QualifiedName determineSequenceName(Identifier catalogName, Identifier schemaName,
+                                               Map<?, ?> configValues, ServiceRegistry serviceRegistry) {
+        String table = ConfigurationHelper.getString(PersistentIdentifierGenerator.TABLE, configValues);
+        if (table == null) {
+            return standard.determineSequenceName(catalogName, schemaName, configValues, serviceRegistry);
+        }
+        
+        Identifier sequenceName = serviceRegistry.getService(JdbcEnvironment.class)
+            .getIdentifierHelper()
+            .toIdentifier(table + "_id_seq");
+        return new QualifiedSequenceName(catalogName, schemaName, sequenceName);
+    }
+    
+    @Override
+    public QualifiedName determineTableName(Identifier catalogName, Identifier schemaName,
+                                            Map<?, ?> configValues, ServiceRegistry serviceRegistry) {
+        return standard.determineTableName(catalogName, schemaName, configValues, serviceRegistry);
+    }
+}
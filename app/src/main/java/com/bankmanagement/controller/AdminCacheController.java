@@ -0,0 +1,27 @@
+package com.bankmanagement.controller;
+
+import com.bankmanagement.service.ReferenceDataCacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/cache")
+@CrossOrigin(origins = "*")
+public class AdminCacheController {
+    
+    private final ReferenceDataCacheService referenceDataCacheService;
+    
+    @Autowired
+    public AdminCacheController(ReferenceDataCacheService referenceDataCacheService) {
+        this.referenceDataCacheService = referenceDataCacheService;
+    }
+    
+    @PostMapping("/reference-data/evict")
+    @PreAuthorize("@authz.hasRole(authentication, 'ADMIN')")
+    public ResponseEntity<Void> evictReferenceData() {
+        referenceDataCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
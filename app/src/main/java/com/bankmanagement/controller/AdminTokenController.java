@@ -0,0 +1,27 @@
+package com.bankmanagement.controller;
+
+import com.bankmanagement.service.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/tokens")
+@CrossOrigin(origins = "*")
+public class AdminTokenController {
+    
+    private final TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    public AdminTokenController(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+    
+    @PostMapping("/{tokenId}/revoke")
+    @PreAuthorize("@authz.hasRole(authentication, 'ADMIN')")
+    public ResponseEntity<Void> revokeToken(@PathVariable String tokenId) {
+        tokenRevocationService.revoke(tokenId, "revoked by administrator");
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.bankmanagement.controller;
+
+import com.bankmanagement.dto.LoginRequestDto;
+import com.bankmanagement.dto.RefreshTokenRequestDto;
+import com.bankmanagement.dto.TokenResponseDto;
+import com.bankmanagement.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/auth")
+@CrossOrigin(origins = "*")
+public class AuthController {
+    
+    private final AuthService authService;
+    
+    @Autowired
+    public AuthController(AuthService authService) {
+        this.authService = authService;
+    }
+    
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest,
+                                                  HttpServletRequest request) {
+        TokenResponseDto tokens = authService.login(loginRequest, request.getRemoteAddr());
+        return ResponseEntity.ok(tokens);
+    }
+    
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto refreshRequest) {
+        TokenResponseDto tokens = authService.refresh(refreshRequest.getRefreshToken());
+        return ResponseEntity.ok(tokens);
+    }
+    
+    // The refresh token is optional; without it only the access token is revoked
+    @PostMapping("/logout")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequestDto refreshRequest) {
+        String accessToken = authorization.substring("Bearer ".length()).trim();
+        authService.logout(accessToken, refreshRequest != null ? refreshRequest.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,281 @@
+package com.bankmanagement.controller;
+
+import com.bankmanagement.dto.BulkCustomerRegistrationDto;
+import com.bankmanagement.dto.Customer360Dto;
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.dto.CustomerFinancialSummaryDto;
+import com.bankmanagement.dto.CustomerRegistrationDto;
+import com.bankmanagement.dto.CustomerVersionDto;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.exception.CustomerVersionMismatchException;
+import com.bankmanagement.service.CreditScoreEngine;
+import com.bankmanagement.service.Customer360Service;
+import com.bankmanagement.service.CustomerFinancialSummaryService;
+import com.bankmanagement.service.CustomerSearchService;
+import com.bankmanagement.service.CustomerService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/customers")
+@CrossOrigin(origins = "*")
+public class CustomerController {
+    
+    private final CustomerService customerService;
+    private final CustomerSearchService customerSearchService;
+    private final CustomerFinancialSummaryService financialSummaryService;
+    private final Customer360Service customer360Service;
+    private final CreditScoreEngine creditScoreEngine;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+    
+    @Autowired
+    public CustomerController(CustomerService customerService,
+                              CustomerSearchService customerSearchService,
+                              CustomerFinancialSummaryService financialSummaryService,
+                              Customer360Service customer360Service,
+                              CreditScoreEngine creditScoreEngine,
+                              ObjectMapper objectMapper) {
+        this.customerService = customerService;
+        this.customerSearchService = customerSearchService;
+        this.financialSummaryService = financialSummaryService;
+        this.customer360Service = customer360Service;
+        this.creditScoreEngine = creditScoreEngine;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+    
+    @PostMapping("/register")
+    public ResponseEntity<CustomerDto> registerCustomer(@Valid @RequestBody CustomerRegistrationDto registrationDto) {
+        CustomerDto customer = customerService.createCustomer(registrationDto);
+        return new ResponseEntity<>(customer, HttpStatus.CREATED);
+    }
+    
+    @PostMapping("/bulk-register")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<List<CustomerDto>> registerCustomers(@Valid @RequestBody BulkCustomerRegistrationDto bulkRegistrationDto) {
+        List<CustomerDto> customers = customerService.createCustomers(bulkRegistrationDto);
+        return new ResponseEntity<>(customers, HttpStatus.CREATED);
+    }
+    
+    @GetMapping("/{id}")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF') or @authz.isSelf(authentication, #id)")
+    public ResponseEntity<CustomerDto> getCustomerById(@PathVariable Long id,
+                                                       @RequestParam(required = false) Set<String> fields,
+                                                       WebRequest request,
+                                                       HttpServletResponse response) {
+        // Set before the check so a 304 carries it too
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        CustomerVersionDto version = customerService.getCustomerVersion(id);
+        if (request.checkNotModified(eTag(version.getVersion()), lastModified(version.getUpdatedAt()))) {
+            // 304 and validators are already on the response
+            return null;
+        }
+        
+        if (fields != null && !fields.isEmpty()) {
+            // checkNotModified has already set ETag and Last-Modified from the version lookup
+            return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(customerService.getCustomerById(id, fields));
+        }
+        
+        CustomerDto customer = customerService.getCustomerById(id);
+        return versioned(customer);
+    }
+    
+    @GetMapping("/{id}/360")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF') or @authz.isSelf(authentication, #id)")
+    public ResponseEntity<Customer360Dto> getCustomer360(@PathVariable Long id,
+                                                         @RequestParam(defaultValue = "20") int transactions) {
+        Customer360Dto customer = customer360Service.getCustomer360(id, transactions);
+        return ResponseEntity.ok(customer);
+    }
+    
+    @GetMapping("/{id}/financial-summary")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF') or @authz.isSelf(authentication, #id)")
+    public ResponseEntity<CustomerFinancialSummaryDto> getFinancialSummary(@PathVariable Long id) {
+        CustomerFinancialSummaryDto summary = financialSummaryService.getSummary(id);
+        return ResponseEntity.ok(summary);
+    }
+    
+    @GetMapping("/financial-summaries")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<List<CustomerFinancialSummaryDto>> getFinancialSummaries(@RequestParam List<Long> ids) {
+        List<CustomerFinancialSummaryDto> summaries = List.copyOf(financialSummaryService.getSummaries(ids).values());
+        return ResponseEntity.ok(summaries);
+    }
+    
+    @GetMapping("/username/{username}")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<CustomerDto> getCustomerByUsername(@PathVariable String username) {
+        CustomerDto customer = customerService.getCustomerByUsername(username);
+        return versioned(customer);
+    }
+    
+    @GetMapping("/customer-id/{customerId}")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<CustomerDto> getCustomerByCustomerId(@PathVariable String customerId) {
+        CustomerDto customer = customerService.getCustomerByCustomerId(customerId);
+        return versioned(customer);
+    }
+    
+    @GetMapping
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<Page<CustomerDto>> getAllCustomers(Pageable pageable,
+                                                             @RequestParam(required = false) Set<String> fields) {
+        Page<CustomerDto> customers = fields != null && !fields.isEmpty()
+            ? customerService.getAllCustomers(pageable, fields)
+            : customerService.getAllCustomers(pageable);
+        return ResponseEntity.ok(customers);
+    }
+    
+    @GetMapping("/search")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<List<CustomerDto>> searchCustomers(@RequestParam("q") String query,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        List<CustomerDto> customers = customerSearchService.search(query, limit);
+        return ResponseEntity.ok(customers);
+    }
+    
+    @GetMapping("/type/{customerType}")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<List<CustomerDto>> getCustomersByType(@PathVariable Customer.CustomerType customerType) {
+        List<CustomerDto> customers = customerService.getCustomersByType(customerType);
+        return ResponseEntity.ok(customers);
+    }
+    
+    @GetMapping(value = "/type/{customerType}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<StreamingResponseBody> streamCustomersByType(@PathVariable Customer.CustomerType customerType) {
+        return ndjson(consumer -> customerService.streamCustomersByType(customerType, consumer));
+    }
+    
+    @GetMapping("/active-verified")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<List<CustomerDto>> getActiveVerifiedCustomers() {
+        List<CustomerDto> customers = customerService.getActiveVerifiedCustomers();
+        return ResponseEntity.ok(customers);
+    }
+    
+    @GetMapping(value = "/active-verified/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<StreamingResponseBody> streamActiveVerifiedCustomers() {
+        return ndjson(customerService::streamActiveVerifiedCustomers);
+    }
+    
+    @PutMapping("/{id}")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF') or @authz.isSelf(authentication, #id)")
+    public ResponseEntity<CustomerDto> updateCustomer(@PathVariable Long id, @Valid @RequestBody CustomerDto customerDto,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CustomerDto updatedCustomer = customerService.updateCustomer(id, customerDto, expectedVersion(ifMatch));
+        return versioned(updatedCustomer);
+    }
+    
+    @DeleteMapping("/{id}")
+    @PreAuthorize("@authz.hasRole(authentication, 'ADMIN')")
+    public ResponseEntity<Void> deleteCustomer(@PathVariable Long id) {
+        customerService.deleteCustomer(id);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @PostMapping("/{id}/verify-kyc")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<CustomerDto> verifyKyc(@PathVariable Long id, @RequestParam Long verifiedBy) {
+        CustomerDto customer = customerService.verifyKyc(id, verifiedBy);
+        return versioned(customer);
+    }
+    
+    @PutMapping("/{id}/credit-score")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<CustomerDto> updateCreditScore(@PathVariable Long id, @RequestParam Integer creditScore) {
+        CustomerDto customer = customerService.updateCreditScore(id, creditScore);
+        return versioned(customer);
+    }
+    
+    // The run continues in the background; its totals are logged and recorded as metrics
+    @PostMapping("/credit-scores/recompute")
+    @PreAuthorize("@authz.hasRole(authentication, 'ADMIN')")
+    public ResponseEntity<Void> recomputeCreditScores() {
+        creditScoreEngine.startRescore();
+        return ResponseEntity.accepted().build();
+    }
+    
+    // Helper methods
+    private static ResponseEntity<CustomerDto> versioned(CustomerDto customer) {
+        // Validators come from the body itself, so they always describe what was sent
+        return ResponseEntity.ok()
+            .eTag(eTag(customer.getVersion()))
+            .lastModified(lastModified(customer.getUpdatedAt()))
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(customer);
+    }
+    
+    // Weak: JSON, CBOR, Smile and fields= bodies of one version are equivalent but not byte-identical
+    private static String eTag(Long version) {
+        return "W/\"" + (version != null ? version : 0L) + "\"";
+    }
+    
+    private static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+    
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        // Only a single tag is meaningful here; weak tags compare by value
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new CustomerVersionMismatchException("Unrecognised If-Match value: " + ifMatch);
+        }
+    }
+    
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<CustomerDto>> source) {
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            source.accept(dto -> {
+                try {
+                    ndjsonWriter.writeValue(generator, dto);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.close();
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
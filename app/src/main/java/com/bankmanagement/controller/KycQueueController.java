@@ -0,0 +1,53 @@
+package com.bankmanagement.controller;
+
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.dto.KycBatchDto;
+import com.bankmanagement.dto.KycBatchResultDto;
+import com.bankmanagement.security.PrincipalAuthorities;
+import com.bankmanagement.service.KycQueueService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/kyc-queue")
+@CrossOrigin(origins = "*")
+public class KycQueueController {
+    
+    private final KycQueueService kycQueueService;
+    
+    @Autowired
+    public KycQueueController(KycQueueService kycQueueService) {
+        this.kycQueueService = kycQueueService;
+    }
+    
+    @PostMapping("/claim")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<List<CustomerDto>> claim(@AuthenticationPrincipal PrincipalAuthorities principal,
+                                                   @RequestParam(defaultValue = "50") int size) {
+        // Claims are always made as the caller, so one staff member cannot act on another's queue
+        List<CustomerDto> customers = kycQueueService.claim(principal.getUserId(), size);
+        return ResponseEntity.ok(customers);
+    }
+    
+    @PostMapping("/approve")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<KycBatchResultDto> approve(@AuthenticationPrincipal PrincipalAuthorities principal,
+                                                     @Valid @RequestBody KycBatchDto batch) {
+        KycBatchResultDto result = kycQueueService.approve(principal.getUserId(), batch);
+        return ResponseEntity.ok(result);
+    }
+    
+    @PostMapping("/release")
+    @PreAuthorize("@authz.hasAnyRole(authentication, 'ADMIN', 'STAFF')")
+    public ResponseEntity<Void> release(@AuthenticationPrincipal PrincipalAuthorities principal,
+                                        @Valid @RequestBody KycBatchDto batch) {
+        kycQueueService.release(principal.getUserId(), batch);
+        return ResponseEntity.noContent().build();
+    }
+}
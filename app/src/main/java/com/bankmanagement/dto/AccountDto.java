@@ -0,0 +1,114 @@
+package com.bankmanagement.dto;
+
+import com.bankmanagement.entity.Account;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AccountDto {
+    
+    private Long id;
+    private String accountNumber;
+    private Account.AccountType accountType;
+    private Account.AccountStatus accountStatus;
+    private BigDecimal balance;
+    private String currency;
+    private BigDecimal interestRate;
+    private BigDecimal minimumBalance;
+    private LocalDateTime openingDate;
+    private LocalDateTime lastActivityDate;
+    private List<CardDto> cards = new ArrayList<>();
+    
+    // Constructors
+    public AccountDto() {}
+    
+    // Getters and Setters
+    public Long getId() { 
+        return id; 
+    }
+    
+    public void setId(Long id) { 
+        this.id = id; 
+    }
+    
+    public String getAccountNumber() { 
+        return accountNumber; 
+    }
+    
+    public void setAccountNumber(String accountNumber) { 
+        this.accountNumber = accountNumber; 
+    }
+    
+    public Account.AccountType getAccountType() { 
+        return accountType; 
+    }
+    
+    public void setAccountType(Account.AccountType accountType) { 
+        this.accountType = accountType; 
+    }
+    
+    public Account.AccountStatus getAccountStatus() { 
+        return accountStatus; 
+    }
+    
+    public void setAccountStatus(Account.AccountStatus accountStatus) { 
+        this.accountStatus = accountStatus; 
+    }
+    
+    public BigDecimal getBalance() { 
+        return balance; 
+    }
+    
+    public void setBalance(BigDecimal balance) { 
+        this.balance = balance; 
+    }
+    
+    public String getCurrency() { 
+        return currency; 
+    }
+    
+    public void setCurrency(String currency) { 
+        this.currency = currency; 
+    }
+    
+    public BigDecimal getInterestRate() { 
+        return interestRate; 
+    }
+    
+    public void setInterestRate(BigDecimal interestRate) { 
+        this.interestRate = interestRate; 
+    }
+    
+    public BigDecimal getMinimumBalance() { 
+        return minimumBalance; 
+    }
+    
+    public void setMinimumBalance(BigDecimal minimumBalance) { 
+        this.minimumBalance = minimumBalance; 
+    }
+    
+    public LocalDateTime getOpeningDate() { 
+        return openingDate; 
+    }
+    
+    public void setOpeningDate(LocalDateTime openingDate) { 
+        this.openingDate = openingDate; 
+    }
+    
+    public LocalDateTime getLastActivityDate() { 
+        return lastActivityDate; 
+    }
+    
+    public void setLastActivityDate(LocalDateTime lastActivityDate) { 
+        this.lastActivityDate = lastActivityDate; 
+    }
+    
+    public List<CardDto> getCards() { 
+        return cards; 
+    }
+    
+    public void setCards(List<CardDto> cards) { 
+        this.cards = cards; 
+    }
+}
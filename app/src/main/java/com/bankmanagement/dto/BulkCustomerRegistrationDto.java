@@ -0,0 +1,26 @@
+package com.bankmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkCustomerRegistrationDto {
+    
+    @NotEmpty(message = "At least one customer is required")
+    @Size(max = 1000, message = "A bulk registration cannot exceed 1000 customers")
+    private List<@Valid CustomerRegistrationDto> customers = new ArrayList<>();
+    
+    // Constructors
+    public BulkCustomerRegistrationDto() {}
+    
+    // Getters and Setters
+    public List<CustomerRegistrationDto> getCustomers() { 
+        return customers; 
+    }
+    
+    public void setCustomers(List<CustomerRegistrationDto> customers) { 
+        this.customers = customers; 
+    }
+}
@@ -0,0 +1,104 @@
+package com.bankmanagement.dto;
+
+import com.bankmanagement.entity.Card;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class CardDto {
+    
+    private Long id;
+    private Long accountId;
+    private String maskedCardNumber;
+    private String cardHolderName;
+    private Card.CardType cardType;
+    private Card.CardStatus cardStatus;
+    private LocalDate expiryDate;
+    private BigDecimal dailyLimit;
+    private BigDecimal monthlyLimit;
+    private LocalDateTime lastUsedDate;
+    
+    // Constructors
+    public CardDto() {}
+    
+    // Getters and Setters
+    public Long getId() { 
+        return id; 
+    }
+    
+    public void setId(Long id) { 
+        this.id = id; 
+    }
+    
+    public Long getAccountId() { 
+        return accountId; 
+    }
+    
+    public void setAccountId(Long accountId) { 
+        this.accountId = accountId; 
+    }
+    
+    public String getMaskedCardNumber() { 
+        return maskedCardNumber; 
+    }
+    
+    public void setMaskedCardNumber(String maskedCardNumber) { 
+        this.maskedCardNumber = maskedCardNumber; 
+    }
+    
+    public String getCardHolderName() { 
+        return cardHolderName; 
+    }
+    
+    public void setCardHolderName(String cardHolderName) { 
+        this.cardHolderName = cardHolderName; 
+    }
+    
+    public Card.CardType getCardType() { 
+        return cardType; 
+    }
+    
+    public void setCardType(Card.CardType cardType) { 
+        this.cardType = cardType; 
+    }
+    
+    public Card.CardStatus getCardStatus() { 
+        return cardStatus; 
+    }
+    
+    public void setCardStatus(Card.CardStatus cardStatus) { 
+        this.cardStatus = cardStatus; 
+    }
+    
+    public LocalDate getExpiryDate() { 
+        return expiryDate; 
+    }
+    
+    public void setExpiryDate(LocalDate expiryDate) { 
+        this.expiryDate = expiryDate; 
+    }
+    
+    public BigDecimal getDailyLimit() { 
+        return dailyLimit; 
+    }
+    
+    public void setDailyLimit(BigDecimal dailyLimit) { 
+        this.dailyLimit = dailyLimit; 
+    }
+    
+    public BigDecimal getMonthlyLimit() { 
+        return monthlyLimit; 
+    }
+    
+    public void setMonthlyLimit(BigDecimal monthlyLimit) { 
+        this.monthlyLimit = monthlyLimit; 
+    }
+    
+    public LocalDateTime getLastUsedDate() { 
+        return lastUsedDate; 
+    }
+    
+    public void setLastUsedDate(LocalDateTime lastUsedDate) { 
+        this.lastUsedDate = lastUsedDate; 
+    }
+}
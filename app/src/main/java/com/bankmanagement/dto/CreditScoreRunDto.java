@@ -0,0 +1,45 @@
+package com.bankmanagement.dto;
+
+public class CreditScoreRunDto {
+    
+    private Integer partitions;
+    private Long scored;
+    private Long updated;
+    private Long durationMillis;
+    
+    // Constructors
+    public CreditScoreRunDto() {}
+    
+    // Getters and Setters
+    public Integer getPartitions() { 
+        return partitions; 
+    }
+    
+    public void setPartitions(Integer partitions) { 
+        this.partitions = partitions; 
+    }
+    
+    public Long getScored() { 
+        return scored; 
+    }
+    
+    public void setScored(Long scored) { 
+        this.scored = scored; 
+    }
+    
+    public Long getUpdated() { 
+        return updated; 
+    }
+    
+    public void setUpdated(Long updated) { 
+        this.updated = updated; 
+    }
+    
+    public Long getDurationMillis() { 
+        return durationMillis; 
+    }
+    
+    public void setDurationMillis(Long durationMillis) { 
+        this.durationMillis = durationMillis; 
+    }
+}
@@ -0,0 +1,48 @@
+package com.bankmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Customer360Dto {
+    
+    private CustomerDto customer;
+    private List<AccountDto> accounts = new ArrayList<>();
+    private List<LoanDto> loans = new ArrayList<>();
+    private List<TransactionDto> recentTransactions = new ArrayList<>();
+    
+    // Constructors
+    public Customer360Dto() {}
+    
+    // Getters and Setters
+    public CustomerDto getCustomer() { 
+        return customer; 
+    }
+    
+    public void setCustomer(CustomerDto customer) { 
+        this.customer = customer; 
+    }
+    
+    public List<AccountDto> getAccounts() { 
+        return accounts; 
+    }
+    
+    public void setAccounts(List<AccountDto> accounts) { 
+        this.accounts = accounts; 
+    }
+    
+    public List<LoanDto> getLoans() { 
+        return loans; 
+    }
+    
+    public void setLoans(List<LoanDto> loans) { 
+        this.loans = loans; 
+    }
+    
+    public List<TransactionDto> getRecentTransactions() { 
+        return recentTransactions; 
+    }
+    
+    public void setRecentTransactions(List<TransactionDto> recentTransactions) { 
+        this.recentTransactions = recentTransactions; 
+    }
+}
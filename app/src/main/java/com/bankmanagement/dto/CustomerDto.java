@@ -30,6 +30,7 @@ public class CustomerDto {
     private User.UserStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     
     // Constructors
     public CustomerDto() {}
@@ -202,4 +203,12 @@ public class CustomerDto {
     public void setUpdatedAt(LocalDateTime updatedAt) { 
         this.updatedAt = updatedAt; 
     }
+    
+    public Long getVersion() { 
+        return version; 
+    }
+    
+    public void setVersion(Long version) { 
+        this.version = version; 
+    }
 }
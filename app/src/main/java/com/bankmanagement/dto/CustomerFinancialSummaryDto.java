@@ -0,0 +1,65 @@
+package com.bankmanagement.dto;
+
+import java.math.BigDecimal;
+
+public class CustomerFinancialSummaryDto {
+    
+    private Long customerId;
+    private BigDecimal totalBalance;
+    private Boolean hasActiveLoan;
+    private Boolean eligibleForLoan;
+    private Integer creditScore;
+    private Boolean kycVerified;
+    
+    // Constructors
+    public CustomerFinancialSummaryDto() {}
+    
+    // Getters and Setters
+    public Long getCustomerId() { 
+        return customerId; 
+    }
+    
+    public void setCustomerId(Long customerId) { 
+        this.customerId = customerId; 
+    }
+    
+    public BigDecimal getTotalBalance() { 
+        return totalBalance; 
+    }
+    
+    public void setTotalBalance(BigDecimal totalBalance) { 
+        this.totalBalance = totalBalance; 
+    }
+    
+    public Boolean getHasActiveLoan() { 
+        return hasActiveLoan; 
+    }
+    
+    public void setHasActiveLoan(Boolean hasActiveLoan) { 
+        this.hasActiveLoan = hasActiveLoan; 
+    }
+    
+    public Boolean getEligibleForLoan() { 
+        return eligibleForLoan; 
+    }
+    
+    public void setEligibleForLoan(Boolean eligibleForLoan) { 
+        this.eligibleForLoan = eligibleForLoan; 
+    }
+    
+    public Integer getCreditScore() { 
+        return creditScore; 
+    }
+    
+    public void setCreditScore(Integer creditScore) { 
+        this.creditScore = creditScore; 
+    }
+    
+    public Boolean getKycVerified() { 
+        return kycVerified; 
+    }
+    
+    public void setKycVerified(Boolean kycVerified) { 
+        this.kycVerified = kycVerified; 
+    }
+}
@@ -0,0 +1,44 @@
+package com.bankmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public class CustomerVersionDto {
+    
+    private Long id;
+    private Long version;
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public CustomerVersionDto() {}
+    
+    public CustomerVersionDto(Long id, Long version, LocalDateTime updatedAt) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() { 
+        return id; 
+    }
+    
+    public void setId(Long id) { 
+        this.id = id; 
+    }
+    
+    public Long getVersion() { 
+        return version; 
+    }
+    
+    public void setVersion(Long version) { 
+        this.version = version; 
+    }
+    
+    public LocalDateTime getUpdatedAt() { 
+        return updatedAt; 
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) { 
+        this.updatedAt = updatedAt; 
+    }
+}
@@ -0,0 +1,26 @@
+package com.bankmanagement.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+public class KycBatchDto {
+    
+    @NotEmpty(message = "At least one customer id is required")
+    @Size(max = 1000, message = "A KYC batch cannot exceed 1000 customers")
+    private List<@NotNull Long> customerIds = new ArrayList<>();
+    
+    // Constructors
+    public KycBatchDto() {}
+    
+    // Getters and Setters
+    public List<Long> getCustomerIds() { 
+        return customerIds; 
+    }
+    
+    public void setCustomerIds(List<Long> customerIds) { 
+        this.customerIds = customerIds; 
+    }
+}
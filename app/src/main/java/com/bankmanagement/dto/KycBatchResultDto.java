@@ -0,0 +1,30 @@
+package com.bankmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class KycBatchResultDto {
+    
+    private List<Long> approved = new ArrayList<>();
+    private List<Long> skipped = new ArrayList<>();
+    
+    // Constructors
+    public KycBatchResultDto() {}
+    
+    // Getters and Setters
+    public List<Long> getApproved() { 
+        return approved; 
+    }
+    
+    public void setApproved(List<Long> approved) { 
+        this.approved = approved; 
+    }
+    
+    public List<Long> getSkipped() { 
+        return skipped; 
+    }
+    
+    public void setSkipped(List<Long> skipped) { 
+        this.skipped = skipped; 
+    }
+}
@@ -0,0 +1,103 @@
+package com.bankmanagement.dto;
+
+import com.bankmanagement.entity.Loan;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class LoanDto {
+    
+    private Long id;
+    private String loanNumber;
+    private Loan.LoanType loanType;
+    private Loan.LoanStatus status;
+    private BigDecimal principalAmount;
+    private BigDecimal interestRate;
+    private Integer loanTermMonths;
+    private BigDecimal monthlyPayment;
+    private BigDecimal outstandingBalance;
+    private LocalDateTime dueDate;
+    
+    // Constructors
+    public LoanDto() {}
+    
+    // Getters and Setters
+    public Long getId() { 
+        return id; 
+    }
+    
+    public void setId(Long id) { 
+        this.id = id; 
+    }
+    
+    public String getLoanNumber() { 
+        return loanNumber; 
+    }
+    
+    public void setLoanNumber(String loanNumber) { 
+        this.loanNumber = loanNumber; 
+    }
+    
+    public Loan.LoanType getLoanType() { 
+        return loanType; 
+    }
+    
+    public void setLoanType(Loan.LoanType loanType) { 
+        this.loanType = loanType; 
+    }
+    
+    public Loan.LoanStatus getStatus() { 
+        return status; 
+    }
+    
+    public void setStatus(Loan.LoanStatus status) { 
+        this.status = status; 
+    }
+    
+    public BigDecimal getPrincipalAmount() { 
+        return principalAmount; 
+    }
+    
+    public void setPrincipalAmount(BigDecimal principalAmount) { 
+        this.principalAmount = principalAmount; 
+    }
+    
+    public BigDecimal getInterestRate() { 
+        return interestRate; 
+    }
+    
+    public void setInterestRate(BigDecimal interestRate) { 
+        this.interestRate = interestRate; 
+    }
+    
+    public Integer getLoanTermMonths() { 
+        return loanTermMonths; 
+    }
+    
+    public void setLoanTermMonths(Integer loanTermMonths) { 
+        this.loanTermMonths = loanTermMonths; 
+    }
+    
+    public BigDecimal getMonthlyPayment() { 
+        return monthlyPayment; 
+    }
+    
+    public void setMonthlyPayment(BigDecimal monthlyPayment) { 
+        this.monthlyPayment = monthlyPayment; 
+    }
+    
+    public BigDecimal getOutstandingBalance() { 
+        return outstandingBalance; 
+    }
+    
+    public void setOutstandingBalance(BigDecimal outstandingBalance) { 
+        this.outstandingBalance = outstandingBalance; 
+    }
+    
+    public LocalDateTime getDueDate() { 
+        return dueDate; 
+    }
+    
+    public void setDueDate(LocalDateTime dueDate) { 
+        this.dueDate = dueDate; 
+    }
+}
@@ -0,0 +1,32 @@
+package com.bankmanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class LoginRequestDto {
+    
+    @NotBlank(message = "Username is required")
+    private String username;
+    
+    @NotBlank(message = "Password is required")
+    private String password;
+    
+    // Constructors
+    public LoginRequestDto() {}
+    
+    // Getters and Setters
+    public String getUsername() { 
+        return username; 
+    }
+    
+    public void setUsername(String username) { 
+        this.username = username; 
+    }
+    
+    public String getPassword() { 
+        return password; 
+    }
+    
+    public void setPassword(String password) { 
+        this.password = password; 
+    }
+}
@@ -0,0 +1,21 @@
+package com.bankmanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshTokenRequestDto {
+    
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+    
+    // Constructors
+    public RefreshTokenRequestDto() {}
+    
+    // Getters and Setters
+    public String getRefreshToken() { 
+        return refreshToken; 
+    }
+    
+    public void setRefreshToken(String refreshToken) { 
+        this.refreshToken = refreshToken; 
+    }
+}
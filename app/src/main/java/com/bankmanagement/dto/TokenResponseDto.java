@@ -0,0 +1,55 @@
+package com.bankmanagement.dto;
+
+public class TokenResponseDto {
+    
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType = "Bearer";
+    // Seconds until the access token expires
+    private long expiresIn;
+    private Long userId;
+    
+    // Constructors
+    public TokenResponseDto() {}
+    
+    // Getters and Setters
+    public String getAccessToken() { 
+        return accessToken; 
+    }
+    
+    public void setAccessToken(String accessToken) { 
+        this.accessToken = accessToken; 
+    }
+    
+    public String getRefreshToken() { 
+        return refreshToken; 
+    }
+    
+    public void setRefreshToken(String refreshToken) { 
+        this.refreshToken = refreshToken; 
+    }
+    
+    public String getTokenType() { 
+        return tokenType; 
+    }
+    
+    public void setTokenType(String tokenType) { 
+        this.tokenType = tokenType; 
+    }
+    
+    public long getExpiresIn() { 
+        return expiresIn; 
+    }
+    
+    public void setExpiresIn(long expiresIn) { 
+        this.expiresIn = expiresIn; 
+    }
+    
+    public Long getUserId() { 
+        return userId; 
+    }
+    
+    public void setUserId(Long userId) { 
+        this.userId = userId; 
+    }
+}
@@ -0,0 +1,112 @@
+package com.bankmanagement.dto;
+
+import com.bankmanagement.entity.Transaction;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TransactionDto {
+    
+    private Long id;
+    private String transactionId;
+    private Long fromAccountId;
+    private Long toAccountId;
+    private Transaction.TransactionType transactionType;
+    private Transaction.TransactionStatus status;
+    private BigDecimal amount;
+    private String currency;
+    private BigDecimal feeAmount;
+    private String description;
+    private LocalDateTime transactionDate;
+    
+    // Constructors
+    public TransactionDto() {}
+    
+    // Getters and Setters
+    public Long getId() { 
+        return id; 
+    }
+    
+    public void setId(Long id) { 
+        this.id = id; 
+    }
+    
+    public String getTransactionId() { 
+        return transactionId; 
+    }
+    
+    public void setTransactionId(String transactionId) { 
+        this.transactionId = transactionId; 
+    }
+    
+    public Long getFromAccountId() { 
+        return fromAccountId; 
+    }
+    
+    public void setFromAccountId(Long fromAccountId) { 
+        this.fromAccountId = fromAccountId; 
+    }
+    
+    public Long getToAccountId() { 
+        return toAccountId; 
+    }
+    
+    public void setToAccountId(Long toAccountId) { 
+        this.toAccountId = toAccountId; 
+    }
+    
+    public Transaction.TransactionType getTransactionType() { 
+        return transactionType; 
+    }
+    
+    public void setTransactionType(Transaction.TransactionType transactionType) { 
+        this.transactionType = transactionType; 
+    }
+    
+    public Transaction.TransactionStatus getStatus() { 
+        return status; 
+    }
+    
+    public void setStatus(Transaction.TransactionStatus status) { 
+        this.status = status; 
+    }
+    
+    public BigDecimal getAmount() { 
+        return amount; 
+    }
+    
+    public void setAmount(BigDecimal amount) { 
+        this.amount = amount; 
+    }
+    
+    public String getCurrency() { 
+        return currency; 
+    }
+    
+    public void setCurrency(String currency) { 
+        this.currency = currency; 
+    }
+    
+    public BigDecimal getFeeAmount() { 
+        return feeAmount; 
+    }
+    
+    public void setFeeAmount(BigDecimal feeAmount) { 
+        this.feeAmount = feeAmount; 
+    }
+    
+    public String getDescription() { 
+        return description; 
+    }
+    
+    public void setDescription(String description) { 
+        this.description = description; 
+    }
+    
+    public LocalDateTime getTransactionDate() { 
+        return transactionDate; 
+    }
+    
+    public void setTransactionDate(LocalDateTime transactionDate) { 
+        this.transactionDate = transactionDate; 
+    }
+}
@@ -1,6 +1,8 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.service.FinancialSummaryCacheListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -9,6 +11,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "accounts")
+@EntityListeners(FinancialSummaryCacheListener.class)
 public class Account extends BaseEntity {
     
     @Column(name = "account_number", unique = true, nullable = false)
@@ -48,7 +51,8 @@ public class Account extends BaseEntity {
     @Column(name = "opening_date")
     private LocalDateTime openingDate;
     
-    @Column(name = "last_activity_date")
+    // Persisted on insert and by ActivityTouchService; entity updates leave it alone so they never race it
+    @Column(name = "last_activity_date", updatable = false)
     private LocalDateTime lastActivityDate;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,9 +62,7 @@ public class Account extends BaseEntity {
     @Column(name = "approved_at")
     private LocalDateTime approvedAt;
     
-    @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private List<Transaction> transactions = new ArrayList<>();
-    
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Card> cards = new ArrayList<>();
     
@@ -239,14 +241,6 @@ public class Account extends BaseEntity {
         this.approvedAt = approvedAt; 
     }
     
-    public List<Transaction> getTransactions() { 
-        return transactions; 
-    }
-    
-    public void setTransactions(List<Transaction> transactions) { 
-        this.transactions = transactions; 
-    }
-    
     public List<Card> getCards() { 
         return cards; 
     }
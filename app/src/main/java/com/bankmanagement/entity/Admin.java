@@ -1,13 +1,22 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.entity.Permission.PermissionType;
+import com.bankmanagement.security.PermissionSet;
+import com.bankmanagement.service.AdminIpAllowlistCacheListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "admins")
 @DiscriminatorValue("ADMIN")
+@EntityListeners(AdminIpAllowlistCacheListener.class)
 public class Admin extends User {
     
     @Column(name = "admin_id", unique = true, nullable = false)
@@ -26,6 +35,8 @@ public class Admin extends User {
     @Column(name = "ip_whitelist")
     private String ipWhitelist;
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Fetch(FetchMode.SELECT)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "admin_permissions",
@@ -34,6 +45,10 @@ public class Admin extends User {
     )
     private Set<Permission> permissions = new HashSet<>();
     
+    // Compiled from permissions and the super admin flag on first use, reset whenever either changes
+    @Transient
+    private volatile PermissionSet permissionSet;
+    
     // Enums
     public enum AdminLevel { 
         SYSTEM_ADMIN, BANK_ADMIN, BRANCH_ADMIN, OPERATIONS_ADMIN 
@@ -53,19 +68,46 @@ public class Admin extends User {
     }
     
     public boolean hasPermission(String permissionName) {
-        return permissions.stream().anyMatch(permission -> permission.getName().equals(permissionName));
+        return getPermissionSet().contains(permissionName);
+    }
+    
+    public boolean hasPermission(PermissionType permissionType) {
+        return getPermissionSet().contains(permissionType);
+    }
+    
+    public PermissionSet getPermissionSet() {
+        PermissionSet compiled = permissionSet;
+        if (compiled == null) {
+            compiled = Boolean.TRUE.equals(superAdmin) ? PermissionSet.ALL : PermissionSet.of(permissions);
+            permissionSet = compiled;
+        }
+        return compiled;
+    }
+    
+    public void addPermission(Permission permission) {
+        if (this.permissions.add(permission)) {
+            this.permissionSet = null;
+            markGrantsChanged();
+        }
+    }
+    
+    public void removePermission(Permission permission) {
+        if (this.permissions.remove(permission)) {
+            this.permissionSet = null;
+            markGrantsChanged();
+        }
     }
     
     public boolean canManageUsers() {
-        return hasPermission("USER_MANAGEMENT") || superAdmin;
+        return hasPermission(PermissionType.USER_MANAGEMENT);
     }
     
     public boolean canManageSystem() {
-        return hasPermission("SYSTEM_MANAGEMENT") || superAdmin;
+        return hasPermission(PermissionType.SYSTEM_MANAGEMENT);
     }
     
     public boolean canViewAuditLogs() {
-        return hasPermission("AUDIT_VIEW") || superAdmin;
+        return hasPermission(PermissionType.AUDIT_VIEW);
     }
     
     // Getters and Setters
@@ -91,6 +133,8 @@ public class Admin extends User {
     
     public void setSuperAdmin(Boolean superAdmin) { 
         this.superAdmin = superAdmin; 
+        this.permissionSet = null;
+        markGrantsChanged();
     }
     
     public LocalDateTime getLastSystemAccess() { 
@@ -109,11 +153,14 @@ public class Admin extends User {
         this.ipWhitelist = ipWhitelist; 
     }
     
+    // Read-only so every change goes through addPermission and removePermission, which reset the compiled set
     public Set<Permission> getPermissions() { 
-        return permissions; 
+        return Collections.unmodifiableSet(permissions); 
     }
     
     public void setPermissions(Set<Permission> permissions) { 
         this.permissions = permissions; 
+        this.permissionSet = null;
+        markGrantsChanged();
     }
 }
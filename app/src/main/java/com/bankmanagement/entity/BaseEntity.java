@@ -1,6 +1,10 @@
 package com.bankmanagement.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,8 +15,16 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
     
+    // Must match INCREMENT BY on the id sequences (V6)
+    public static final int ID_BLOCK_SIZE = 50;
+    
+    // Sequence per root table (see TableIdSequenceNamingStrategy); pooled-lo keeps inserts batchable
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled-lo")
+    @GenericGenerator(name = "pooled-lo", type = SequenceStyleGenerator.class, parameters = {
+        @Parameter(name = OptimizableGenerator.INCREMENT_PARAM, value = "" + ID_BLOCK_SIZE),
+        @Parameter(name = OptimizableGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
     
     @CreatedDate
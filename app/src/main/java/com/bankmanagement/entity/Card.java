@@ -52,7 +52,8 @@ public class Card extends BaseEntity {
     @Column(name = "activation_date")
     private LocalDateTime activationDate;
     
-    @Column(name = "last_used_date")
+    // Written only by ActivityTouchService, so a swipe never produces a versioned row update
+    @Column(name = "last_used_date", updatable = false)
     private LocalDateTime lastUsedDate;
     
     @Column(name = "is_contactless")
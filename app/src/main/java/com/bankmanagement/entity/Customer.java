@@ -1,6 +1,8 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.service.FinancialSummaryCacheListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -9,8 +11,14 @@ import java.util.List;
 @Entity
 @Table(name = "customers")
 @DiscriminatorValue("CUSTOMER")
+@EntityListeners(FinancialSummaryCacheListener.class)
+@NamedEntityGraph(name = Customer.GRAPH_ACCOUNTS, attributeNodes = @NamedAttributeNode("accounts"))
 public class Customer extends User {
     
+    public static final int MIN_LOAN_CREDIT_SCORE = 650;
+    
+    public static final String GRAPH_ACCOUNTS = "Customer.accounts";
+    
     @Column(name = "customer_id", unique = true, nullable = false)
     private String customerId;
     
@@ -39,15 +47,15 @@ public class Customer extends User {
     @Column(name = "kyc_verified_by")
     private Long kycVerifiedBy;
     
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Account> accounts = new ArrayList<>();
     
-    @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private List<Transaction> transactions = new ArrayList<>();
-    
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Loan> loans = new ArrayList<>();
     
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Card> cards = new ArrayList<>();
     
@@ -80,7 +88,7 @@ public class Customer extends User {
     }
     
     public boolean isEligibleForLoan() {
-        return creditScore != null && creditScore >= 650 && 
+        return creditScore != null && creditScore >= MIN_LOAN_CREDIT_SCORE && 
                kycVerified && 
                !hasActiveLoan();
     }
@@ -166,14 +174,6 @@ public class Customer extends User {
         this.accounts = accounts; 
     }
     
-    public List<Transaction> getTransactions() { 
-        return transactions; 
-    }
-    
-    public void setTransactions(List<Transaction> transactions) { 
-        this.transactions = transactions; 
-    }
-    
     public List<Loan> getLoans() { 
         return loans; 
     }
@@ -1,5 +1,6 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.service.FinancialSummaryCacheListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
@@ -9,6 +10,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "loans")
+@EntityListeners(FinancialSummaryCacheListener.class)
 public class Loan extends BaseEntity {
     
     @Column(name = "loan_number", unique = true, nullable = false)
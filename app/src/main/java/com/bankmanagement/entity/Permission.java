@@ -1,6 +1,10 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.service.PrincipalAuthoritiesCacheListener;
+import com.bankmanagement.service.TokenWatermarkListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.HashSet;
@@ -8,6 +12,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "permissions")
+@EntityListeners({PrincipalAuthoritiesCacheListener.class, TokenWatermarkListener.class})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Permission extends BaseEntity {
     
     @NotBlank(message = "Permission name is required")
@@ -35,7 +41,7 @@ public class Permission extends BaseEntity {
     // Enums
     public enum PermissionType { 
         SYSTEM, USER_MANAGEMENT, ACCOUNT_MANAGEMENT, TRANSACTION_MANAGEMENT, 
-        REPORT_VIEW, AUDIT_VIEW, CONFIGURATION, KYC_MANAGEMENT 
+        REPORT_VIEW, AUDIT_VIEW, CONFIGURATION, KYC_MANAGEMENT, SYSTEM_MANAGEMENT 
     }
     
     // Constructors
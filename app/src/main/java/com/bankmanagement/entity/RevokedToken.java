@@ -0,0 +1,84 @@
+package com.bankmanagement.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedToken extends BaseEntity {
+    
+    @NotBlank(message = "Token id is required")
+    @Size(max = 64, message = "Token id cannot exceed 64 characters")
+    @Column(name = "token_id", unique = true, nullable = false, updatable = false)
+    private String tokenId;
+    
+    @Column(name = "user_id", updatable = false)
+    private Long userId;
+    
+    // The row is only needed until the token would have expired anyway
+    @NotNull(message = "Expiry is required")
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+    
+    // False when revoked by id alone; expiresAt is then the longest possible token lifetime
+    @Column(name = "expiry_known", nullable = false, updatable = false)
+    private Boolean expiryKnown = true;
+    
+    @Size(max = 100, message = "Reason cannot exceed 100 characters")
+    @Column(name = "reason")
+    private String reason;
+    
+    // Constructors
+    public RevokedToken() {}
+    
+    public RevokedToken(String tokenId, Long userId, LocalDateTime expiresAt, String reason) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.reason = reason;
+    }
+    
+    // Getters and Setters
+    public String getTokenId() { 
+        return tokenId; 
+    }
+    
+    public void setTokenId(String tokenId) { 
+        this.tokenId = tokenId; 
+    }
+    
+    public Long getUserId() { 
+        return userId; 
+    }
+    
+    public void setUserId(Long userId) { 
+        this.userId = userId; 
+    }
+    
+    public LocalDateTime getExpiresAt() { 
+        return expiresAt; 
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) { 
+        this.expiresAt = expiresAt; 
+    }
+    
+    public Boolean getExpiryKnown() { 
+        return expiryKnown; 
+    }
+    
+    public void setExpiryKnown(Boolean expiryKnown) { 
+        this.expiryKnown = expiryKnown; 
+    }
+    
+    public String getReason() { 
+        return reason; 
+    }
+    
+    public void setReason(String reason) { 
+        this.reason = reason; 
+    }
+}
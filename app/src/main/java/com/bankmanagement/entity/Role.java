@@ -1,13 +1,24 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.entity.Permission.PermissionType;
+import com.bankmanagement.security.PermissionSet;
+import com.bankmanagement.service.PrincipalAuthoritiesCacheListener;
+import com.bankmanagement.service.TokenWatermarkListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@EntityListeners({PrincipalAuthoritiesCacheListener.class, TokenWatermarkListener.class})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Role extends BaseEntity {
     
     @NotBlank(message = "Role name is required")
@@ -19,6 +30,8 @@ public class Role extends BaseEntity {
     @Column(name = "description")
     private String description;
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Fetch(FetchMode.SELECT)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "role_permissions",
@@ -30,6 +43,10 @@ public class Role extends BaseEntity {
     @ManyToMany(mappedBy = "roles")
     private Set<Staff> staff = new HashSet<>();
     
+    // Compiled from permissions on first use and reset whenever they change
+    @Transient
+    private volatile PermissionSet permissionSet;
+    
     // Constructors
     public Role() {}
     
@@ -40,15 +57,30 @@ public class Role extends BaseEntity {
     
     // Business methods
     public boolean hasPermission(String permissionName) {
-        return permissions.stream().anyMatch(permission -> permission.getName().equals(permissionName));
+        return getPermissionSet().contains(permissionName);
+    }
+    
+    public boolean hasPermission(PermissionType permissionType) {
+        return getPermissionSet().contains(permissionType);
+    }
+    
+    public PermissionSet getPermissionSet() {
+        PermissionSet compiled = permissionSet;
+        if (compiled == null) {
+            compiled = PermissionSet.of(permissions);
+            permissionSet = compiled;
+        }
+        return compiled;
     }
     
     public void addPermission(Permission permission) {
         this.permissions.add(permission);
+        this.permissionSet = null;
     }
     
     public void removePermission(Permission permission) {
         this.permissions.remove(permission);
+        this.permissionSet = null;
     }
     
     // Getters and Setters
@@ -68,12 +100,14 @@ public class Role extends BaseEntity {
         this.description = description; 
     }
     
+    // Read-only so every change goes through addPermission and removePermission, which reset the compiled set
     public Set<Permission> getPermissions() { 
-        return permissions; 
+        return Collections.unmodifiableSet(permissions); 
     }
     
     public void setPermissions(Set<Permission> permissions) { 
         this.permissions = permissions; 
+        this.permissionSet = null;
     }
     
     public Set<Staff> getStaff() { 
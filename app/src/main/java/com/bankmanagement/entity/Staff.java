@@ -1,10 +1,17 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.security.PermissionSet;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "staff")
@@ -42,6 +49,8 @@ public class Staff extends User {
     @Column(name = "is_authorized_for_kyc")
     private Boolean isAuthorizedForKyc = false;
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Fetch(FetchMode.SELECT)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "staff_roles",
@@ -76,7 +85,33 @@ public class Staff extends User {
     }
     
     public boolean hasRole(String roleName) {
-        return roles.stream().anyMatch(role -> role.getName().equals(roleName));
+        return getRoleNames().contains(roleName);
+    }
+    
+    public Set<String> getRoleNames() {
+        return roles.stream().map(Role::getName).collect(Collectors.toUnmodifiableSet());
+    }
+    
+    // Not memoized here: a role's permissions can change without this staff member being touched.
+    // Each role caches its own set, so the union is a few bitwise ORs.
+    public PermissionSet getPermissionSet() {
+        PermissionSet union = PermissionSet.NONE;
+        for (Role role : roles) {
+            union = union.union(role.getPermissionSet());
+        }
+        return union;
+    }
+    
+    public void addRole(Role role) {
+        if (this.roles.add(role)) {
+            markGrantsChanged();
+        }
+    }
+    
+    public void removeRole(Role role) {
+        if (this.roles.remove(role)) {
+            markGrantsChanged();
+        }
     }
     
     public boolean canProcessTransactions() {
@@ -172,12 +207,14 @@ public class Staff extends User {
         this.isAuthorizedForKyc = isAuthorizedForKyc; 
     }
     
+    // Read-only so every change goes through addRole and removeRole
     public Set<Role> getRoles() { 
-        return roles; 
+        return Collections.unmodifiableSet(roles); 
     }
     
     public void setRoles(Set<Role> roles) { 
         this.roles = roles; 
+        markGrantsChanged();
     }
     
     public Set<Transaction> getProcessedTransactions() { 
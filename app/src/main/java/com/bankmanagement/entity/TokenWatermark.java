@@ -0,0 +1,47 @@
+package com.bankmanagement.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "token_watermarks")
+public class TokenWatermark extends BaseEntity {
+    
+    // Stands for every user: written when a role or permission definition changes
+    public static final long ALL_USERS = 0L;
+    
+    @NotNull(message = "User id is required")
+    @Column(name = "user_id", unique = true, nullable = false, updatable = false)
+    private Long userId;
+    
+    // Access tokens issued before this time are rejected
+    @NotNull(message = "Not-before time is required")
+    @Column(name = "not_before", nullable = false)
+    private LocalDateTime notBefore;
+    
+    // Constructors
+    public TokenWatermark() {}
+    
+    public TokenWatermark(Long userId, LocalDateTime notBefore) {
+        this.userId = userId;
+        this.notBefore = notBefore;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() { 
+        return userId; 
+    }
+    
+    public void setUserId(Long userId) { 
+        this.userId = userId; 
+    }
+    
+    public LocalDateTime getNotBefore() { 
+        return notBefore; 
+    }
+    
+    public void setNotBefore(LocalDateTime notBefore) { 
+        this.notBefore = notBefore; 
+    }
+}
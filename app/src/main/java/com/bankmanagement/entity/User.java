@@ -1,5 +1,7 @@
 package com.bankmanagement.entity;
 
+import com.bankmanagement.service.PrincipalAuthoritiesCacheListener;
+import com.bankmanagement.service.TokenWatermarkListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.time.LocalDate;
@@ -7,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners({PrincipalAuthoritiesCacheListener.class, TokenWatermarkListener.class})
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "user_type", discriminatorType = DiscriminatorType.STRING)
 public abstract class User extends BaseEntity {
@@ -54,15 +57,21 @@ public abstract class User extends BaseEntity {
     @Column(name = "status", nullable = false)
     private UserStatus status = UserStatus.ACTIVE;
     
-    @Column(name = "last_login")
+    // Written only by ActivityTouchService, so logins never produce a versioned row update
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
     
-    @Column(name = "failed_login_attempts")
+    // Written only by LoginAttemptService's batched flush, so login failures never bump the version
+    @Column(name = "failed_login_attempts", updatable = false)
     private Integer failedLoginAttempts = 0;
     
-    @Column(name = "account_locked_until")
+    @Column(name = "account_locked_until", updatable = false)
     private LocalDateTime accountLockedUntil;
     
+    // Set when status, roles or permissions change, so access tokens carrying the old grants are cut off
+    @Transient
+    private boolean grantsChanged;
+    
     // Enums
     public enum Gender { 
         MALE, FEMALE, OTHER, PREFER_NOT_TO_SAY 
@@ -92,16 +101,16 @@ public abstract class User extends BaseEntity {
         return accountLockedUntil != null && LocalDateTime.now().isBefore(accountLockedUntil);
     }
     
-    public void incrementFailedLoginAttempts() {
-        this.failedLoginAttempts++;
-        if (this.failedLoginAttempts >= 5) {
-            this.accountLockedUntil = LocalDateTime.now().plusMinutes(30);
-        }
+    public boolean isGrantsChanged() {
+        return grantsChanged;
     }
     
-    public void resetFailedLoginAttempts() {
-        this.failedLoginAttempts = 0;
-        this.accountLockedUntil = null;
+    public void clearGrantsChanged() {
+        this.grantsChanged = false;
+    }
+    
+    protected void markGrantsChanged() {
+        this.grantsChanged = true;
     }
     
     // Getters and Setters
@@ -182,6 +191,9 @@ public abstract class User extends BaseEntity {
     }
     
     public void setStatus(UserStatus status) { 
+        if (this.status != status) {
+            markGrantsChanged();
+        }
         this.status = status; 
     }
     
@@ -0,0 +1,12 @@
+package com.bankmanagement.exception;
+
+public class AccountNotFoundException extends RuntimeException {
+    
+    public AccountNotFoundException(String message) {
+        super(message);
+    }
+    
+    public AccountNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bankmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CreditScoreRunInProgressException extends RuntimeException {
+    
+    public CreditScoreRunInProgressException(String message) {
+        super(message);
+    }
+    
+    public CreditScoreRunInProgressException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bankmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class CustomerVersionMismatchException extends RuntimeException {
+    
+    public CustomerVersionMismatchException(String message) {
+        super(message);
+    }
+    
+    public CustomerVersionMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,9 @@
 package com.bankmanagement.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
 public class DuplicateCustomerException extends RuntimeException {
     
     public DuplicateCustomerException(String message) {
@@ -0,0 +1,16 @@
+package com.bankmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class InvalidCredentialsException extends RuntimeException {
+    
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+    
+    public InvalidCredentialsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
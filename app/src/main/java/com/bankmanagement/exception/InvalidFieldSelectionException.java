@@ -0,0 +1,16 @@
+package com.bankmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldSelectionException extends RuntimeException {
+    
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+    
+    public InvalidFieldSelectionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bankmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class LoginThrottledException extends RuntimeException {
+    
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+    
+    public LoginThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
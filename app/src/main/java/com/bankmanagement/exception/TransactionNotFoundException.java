@@ -0,0 +1,12 @@
+package com.bankmanagement.exception;
+
+public class TransactionNotFoundException extends RuntimeException {
+    
+    public TransactionNotFoundException(String message) {
+        super(message);
+    }
+    
+    public TransactionNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bankmanagement.metrics;
+
+import com.bankmanagement.repository.AccountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gauges that need a query are refreshed on a schedule rather than on every scrape
+@Component
+public class AccountMetricsCollector {
+    
+    private final AccountRepository accountRepository;
+    private final AtomicLong overdraftAccounts = new AtomicLong();
+    
+    @Autowired
+    public AccountMetricsCollector(AccountRepository accountRepository, MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        Gauge.builder("bank.accounts.overdraft", overdraftAccounts, AtomicLong::get)
+            .description("Accounts with a balance below their minimum balance")
+            .register(meterRegistry);
+    }
+    
+    // Read-only, so it goes to a replica when one is configured
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.metrics.gauge-refresh-interval:PT1M}")
+    public void refresh() {
+        overdraftAccounts.set(accountRepository.countOverdraftAccounts());
+    }
+}
@@ -0,0 +1,85 @@
+package com.bankmanagement.metrics;
+
+import com.bankmanagement.entity.Transaction.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Business event counters recorded by the services that perform the events. Completed events count once
+// their transaction commits; rejections count when they happen, because they usually roll it back.
+@Component
+public class DomainMetrics {
+    
+    private final Counter withdrawalsCompleted;
+    private final Counter withdrawalsRejectedInactive;
+    private final Counter withdrawalsRejectedFunds;
+    private final Counter depositsCompleted;
+    
+    // Transfers per second is the rate of bank.transactions{type="TRANSFER",status="completed"}
+    private final Map<TransactionType, Counter> transactionsCompleted;
+    private final Map<TransactionType, Counter> transactionsFailed;
+    
+    @Autowired
+    public DomainMetrics(MeterRegistry meterRegistry) {
+        this.withdrawalsCompleted = meterRegistry.counter("bank.withdrawals", "outcome", "completed");
+        this.withdrawalsRejectedInactive =
+            meterRegistry.counter("bank.withdrawals", "outcome", "rejected", "reason", "account_inactive");
+        this.withdrawalsRejectedFunds =
+            meterRegistry.counter("bank.withdrawals", "outcome", "rejected", "reason", "insufficient_funds");
+        this.depositsCompleted = meterRegistry.counter("bank.deposits", "outcome", "completed");
+        this.transactionsCompleted = transactionCounters(meterRegistry, "completed");
+        this.transactionsFailed = transactionCounters(meterRegistry, "failed");
+    }
+    
+    public void withdrawalCompleted() {
+        afterCommit(withdrawalsCompleted);
+    }
+    
+    public void withdrawalRejected(boolean accountInactive) {
+        (accountInactive ? withdrawalsRejectedInactive : withdrawalsRejectedFunds).increment();
+    }
+    
+    public void depositCompleted() {
+        afterCommit(depositsCompleted);
+    }
+    
+    public void transactionCompleted(TransactionType type) {
+        if (type != null) {
+            afterCommit(transactionsCompleted.get(type));
+        }
+    }
+    
+    public void transactionFailed(TransactionType type) {
+        if (type != null) {
+            afterCommit(transactionsFailed.get(type));
+        }
+    }
+    
+    // Helper methods
+    private static void afterCommit(Counter counter) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.increment();
+                }
+            });
+        } else {
+            counter.increment();
+        }
+    }
+    
+    private static Map<TransactionType, Counter> transactionCounters(MeterRegistry meterRegistry, String status) {
+        Map<TransactionType, Counter> counters = new EnumMap<>(TransactionType.class);
+        for (TransactionType type : TransactionType.values()) {
+            counters.put(type, meterRegistry.counter("bank.transactions", "type", type.name(), "status", status));
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bankmanagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Counts statements Hibernate prepares, in total and per request; plain JDBC is not seen
+@Component
+public class HibernateStatementCounter implements StatementInspector {
+    
+    // Count for the request being handled on this thread; null outside a request
+    private static final ThreadLocal<int[]> REQUEST_COUNT = new ThreadLocal<>();
+    
+    private final Counter statementCounter;
+    
+    @Autowired
+    public HibernateStatementCounter(MeterRegistry meterRegistry) {
+        this.statementCounter = Counter.builder("app.db.statements")
+            .description("SQL statements prepared by Hibernate")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        statementCounter.increment();
+        int[] count = REQUEST_COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+    
+    public static void startRequest() {
+        REQUEST_COUNT.set(new int[1]);
+    }
+    
+    // Returns the statements counted since startRequest on this thread and stops counting
+    public static int endRequest() {
+        int[] count = REQUEST_COUNT.get();
+        REQUEST_COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.bankmanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Times every public @Service method and every repository query; histograms are configured under
+// management.metrics.distribution. Runs outside the transaction and cache advice, so service timings
+// include commit time and cache hits.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MethodTimingAspect {
+    
+    public static final String SERVICE_TIMER = "app.service.method";
+    public static final String REPOSITORY_TIMER = "app.repository.query";
+    
+    private static final String NO_EXCEPTION = "none";
+    
+    private final MeterRegistry meterRegistry;
+    
+    // Timers for successful calls, resolved once per method and component rather than on every call
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    // Only @Service beans; the JPA listener components in the same package are not service calls
+    @Around("within(com.bankmanagement.service..*) && @within(org.springframework.stereotype.Service) " +
+            "&& execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, SERVICE_TIMER, "class", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName());
+    }
+    
+    // Spring Data repositories, including inherited methods such as findById, and hand-written JDBC repositories
+    @Around("target(org.springframework.data.repository.Repository) || " +
+            "(within(com.bankmanagement.repository..*) && !within(com.bankmanagement.repository..*Impl))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, REPOSITORY_TIMER, "repository", repositoryName(joinPoint.getThis()));
+    }
+    
+    // Helper methods
+    private Object time(ProceedingJoinPoint joinPoint, String timerName, String componentTag, String component) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timers.computeIfAbsent(new TimerKey(timerName, component, method),
+                    key -> timer(timerName, componentTag, component, method, NO_EXCEPTION))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            // Failures are rare, so their timers are looked up in the registry each time
+            timer(timerName, componentTag, component, method, e.getClass().getSimpleName())
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+    
+    private Timer timer(String timerName, String componentTag, String component, Method method, String exception) {
+        return Timer.builder(timerName)
+            .tag(componentTag, component)
+            .tag("method", method.getName())
+            .tag("exception", exception)
+            .register(meterRegistry);
+    }
+    
+    // The repository interface declared in this application, not the proxy or a Spring Data base type
+    private static String repositoryName(Object proxy) {
+        for (Class<?> type : ClassUtils.getAllInterfaces(proxy)) {
+            if (Repository.class.isAssignableFrom(type) && type.getName().startsWith("com.bankmanagement.")) {
+                return type.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(proxy).getSimpleName();
+    }
+    
+    private static final class TimerKey {
+        
+        private final String timerName;
+        private final String component;
+        private final Method method;
+        
+        private TimerKey(String timerName, String component, Method method) {
+            this.timerName = timerName;
+            this.component = component;
+            this.method = method;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TimerKey other)) {
+                return false;
+            }
+            return timerName.equals(other.timerName) && component.equals(other.component) && method.equals(other.method);
+        }
+        
+        @Override
+        public int hashCode() {
+            return (timerName.hashCode() * 31 + component.hashCode()) * 31 + method.hashCode();
+        }
+    }
+}
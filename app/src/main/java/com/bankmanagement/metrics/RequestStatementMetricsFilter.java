@@ -0,0 +1,60 @@
+package com.bankmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Hibernate statements per request, tagged like http.server.requests; requests above the
+// warning threshold are logged, as they are usually an N+1 query
+@Component
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(RequestStatementMetricsFilter.class);
+    
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    
+    @Autowired
+    public RequestStatementMetricsFilter(MeterRegistry meterRegistry,
+                                         @Value("${app.metrics.statements-per-request-warn:50}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HibernateStatementCounter.startRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Work handed to another thread, such as a streamed export, is not counted against the request
+            int statements = HibernateStatementCounter.endRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+            DistributionSummary.builder("app.http.db.statements")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+            if (statements > warnThreshold) {
+                log.warn("{} {} issued {} SQL statements", request.getMethod(), uri, statements);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,9 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT a FROM Account a WHERE a.balance < a.minimumBalance")
     List<Account> findOverdraftAccounts();
     
+    @Query("SELECT COUNT(a) FROM Account a WHERE a.balance < a.minimumBalance")
+    Long countOverdraftAccounts();
+    
     @Query("SELECT a FROM Account a WHERE a.balance >= :minBalance")
     List<Account> findByMinimumBalance(@Param("minBalance") BigDecimal minBalance);
     
@@ -34,6 +38,9 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT SUM(a.balance) FROM Account a WHERE a.customer.id = :customerId AND a.accountStatus = 'ACTIVE'")
     BigDecimal getTotalBalanceByCustomer(@Param("customerId") Long customerId);
     
+    @Query("SELECT a.customer.id, SUM(a.balance) FROM Account a WHERE a.customer.id IN :customerIds AND a.accountStatus = 'ACTIVE' GROUP BY a.customer.id")
+    List<Object[]> getTotalBalanceByCustomers(@Param("customerIds") Collection<Long> customerIds);
+    
     @Query("SELECT COUNT(a) FROM Account a WHERE a.openingDate >= :startDate")
     Long countAccountsOpenedAfter(@Param("startDate") LocalDateTime startDate);
     
@@ -0,0 +1,68 @@
+package com.bankmanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Bulk "last seen" writes as UPDATE ... FROM (VALUES ...), leaving version and updated_at alone;
+// an older timestamp never overwrites a newer one
+@Repository
+public class ActivityTimestampRepository {
+    
+    // Two bind parameters per row keeps each statement well under the driver's 32767 parameter limit
+    private static final int ROWS_PER_STATEMENT = 1000;
+    
+    private static final String TOUCH_SQL =
+        "UPDATE %1$s t SET %2$s = v.touched_at FROM (VALUES %3$s) AS v(id, touched_at) " +
+        "WHERE t.id = v.id AND (t.%2$s IS NULL OR t.%2$s < v.touched_at)";
+    
+    private static final String VALUES_ROW = "(CAST(? AS BIGINT), CAST(? AS TIMESTAMP))";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    public ActivityTimestampRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Transactional
+    public int touchLastLogin(Map<Long, LocalDateTime> timestamps) {
+        return touch("users", "last_login", timestamps);
+    }
+    
+    @Transactional
+    public int touchAccountActivity(Map<Long, LocalDateTime> timestamps) {
+        return touch("accounts", "last_activity_date", timestamps);
+    }
+    
+    @Transactional
+    public int touchCardUsage(Map<Long, LocalDateTime> timestamps) {
+        return touch("cards", "last_used_date", timestamps);
+    }
+    
+    // Helper methods
+    private int touch(String table, String column, Map<Long, LocalDateTime> timestamps) {
+        int updated = 0;
+        Iterator<Map.Entry<Long, LocalDateTime>> entries = timestamps.entrySet().iterator();
+        while (entries.hasNext()) {
+            List<Object> args = new ArrayList<>();
+            StringBuilder values = new StringBuilder();
+            for (int row = 0; row < ROWS_PER_STATEMENT && entries.hasNext(); row++) {
+                Map.Entry<Long, LocalDateTime> entry = entries.next();
+                values.append(row == 0 ? "" : ", ").append(VALUES_ROW);
+                args.add(entry.getKey());
+                args.add(Timestamp.valueOf(entry.getValue()));
+            }
+            updated += jdbcTemplate.update(String.format(TOUCH_SQL, table, column, values), args.toArray());
+        }
+        return updated;
+    }
+}
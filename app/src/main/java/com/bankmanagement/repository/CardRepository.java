@@ -0,0 +1,18 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.entity.Card;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CardRepository extends JpaRepository<Card, Long> {
+    
+    Optional<Card> findByCardNumber(String cardNumber);
+    
+    List<Card> findByCustomerId(Long customerId);
+    
+    List<Card> findByAccountId(Long accountId);
+}
@@ -0,0 +1,93 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.dto.CustomerVersionDto;
+import com.bankmanagement.entity.Customer;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerRepositoryCustom {
+    
+    Optional<Customer> findByUsername(String username);
+    
+    Optional<Customer> findByEmail(String email);
+    
+    Optional<Customer> findByCustomerId(String customerId);
+    
+    @EntityGraph(Customer.GRAPH_ACCOUNTS)
+    @Query("SELECT c FROM Customer c WHERE c.id = :id")
+    Optional<Customer> findWithAccountsById(@Param("id") Long id);
+    
+    @Query("SELECT new com.bankmanagement.dto.CustomerVersionDto(c.id, c.version, c.updatedAt) FROM Customer c WHERE c.id = :id")
+    Optional<CustomerVersionDto> findVersionById(@Param("id") Long id);
+    
+    List<Customer> findByCustomerType(Customer.CustomerType customerType);
+    
+    List<Customer> findByKycVerified(Boolean kycVerified);
+    
+    @Query("SELECT c FROM Customer c WHERE c.creditScore >= :minCreditScore")
+    List<Customer> findByMinimumCreditScore(@Param("minCreditScore") Integer minCreditScore);
+    
+    @Query("SELECT c FROM Customer c WHERE c.annualIncome >= :minIncome")
+    List<Customer> findByMinimumIncome(@Param("minIncome") BigDecimal minIncome);
+    
+    @Query("SELECT c FROM Customer c WHERE c.status = 'ACTIVE' AND c.kycVerified = true")
+    List<Customer> findActiveVerifiedCustomers();
+    
+    // Streaming variants: must be consumed inside a transaction and closed by the caller
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM Customer c WHERE c.customerType = :customerType")
+    Stream<Customer> streamByCustomerType(@Param("customerType") Customer.CustomerType customerType);
+    
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM Customer c WHERE c.status = 'ACTIVE' AND c.kycVerified = true")
+    Stream<Customer> streamActiveVerifiedCustomers();
+    
+    @Query("SELECT c.id, c.creditScore, c.kycVerified FROM Customer c WHERE c.id IN :ids")
+    List<Object[]> findCreditProfiles(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT COUNT(c) FROM Customer c WHERE c.createdAt >= :startDate")
+    Long countCustomersCreatedAfter(@Param("startDate") LocalDateTime startDate);
+    
+    // Ranked partial match on name, email and phone, served by the trigram indexes from V2 and V9;
+    // phonePattern is null unless the term looks like a phone number
+    @Query(value = "SELECT u.id FROM users u JOIN customers c ON c.id = u.id " +
+                   "WHERE lower(u.last_name) LIKE :prefix OR lower(u.first_name) LIKE :prefix " +
+                   "OR lower(u.email) LIKE :prefix OR u.phone_digits LIKE :phonePattern " +
+                   "OR (lower(u.first_name) || ' ' || lower(u.last_name)) % :term " +
+                   "ORDER BY (lower(u.last_name) = :term OR lower(u.first_name) = :term OR lower(u.email) = :term) DESC, " +
+                   "greatest(similarity(lower(u.last_name), :term), similarity(lower(u.first_name), :term), " +
+                   "similarity(lower(u.first_name) || ' ' || lower(u.last_name), :term), " +
+                   "similarity(lower(u.email), :term)) DESC, u.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Long> searchCustomerIds(@Param("term") String term,
+                                 @Param("prefix") String prefix,
+                                 @Param("phonePattern") String phonePattern,
+                                 @Param("limit") int limit);
+    
+    @Query("SELECT c.username, c.email FROM Customer c WHERE c.username IN :usernames OR c.email IN :emails")
+    List<Object[]> findExistingUsernamesAndEmails(@Param("usernames") Collection<String> usernames,
+                                                  @Param("emails") Collection<String> emails);
+    
+    boolean existsByUsername(String username);
+    
+    boolean existsByEmail(String email);
+    
+    boolean existsByCustomerId(String customerId);
+}
@@ -0,0 +1,65 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.entity.Customer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface CustomerRepositoryCustom {
+    
+    // JDBC batch insert with ids allocated from the users sequence; returned entities are detached
+    List<Customer> batchInsert(List<Customer> customers);
+    
+    // Streams username, email and customer id (null for non-customers) of every user row
+    void forEachIdentityKey(IdentityKeyHandler handler);
+    
+    // Streams the searchable columns of every customer
+    void forEachSearchKey(SearchKeyHandler handler);
+    
+    // Selects only the requested CustomerDto properties (plus id); unrequested properties stay null
+    Optional<CustomerDto> findProjectedById(Long id, Set<String> fields);
+    
+    Page<CustomerDto> findProjected(Pageable pageable, Set<String> fields);
+    
+    // Claims up to limit unverified customers that are unclaimed, claimed by staffId, or whose claim started
+    // before leaseExpiredBefore; rows locked by a concurrent claim are skipped rather than waited on
+    List<Long> claimPendingKyc(Long staffId, int limit, LocalDateTime leaseExpiredBefore);
+    
+    // Verifies the given customers still claimed by staffId in one statement per table; returns id -> username
+    Map<Long, String> approveKyc(Collection<Long> customerIds, Long staffId, LocalDateTime verifiedAt);
+    
+    int releaseKycClaims(Collection<Long> customerIds, Long staffId);
+    
+    // Smallest and largest customer id, or null when there are no customers
+    long[] findCustomerIdRange();
+    
+    // Streams the credit-scoring inputs of every customer with fromId <= id < toId
+    void forEachCreditScoreInput(long fromId, long toId, LocalDateTime activitySince, CreditScoreInputHandler handler);
+    
+    // JDBC batch update of customer id -> score; rows whose score is unchanged are not written
+    int updateCreditScores(Map<Long, Integer> scores);
+    
+    @FunctionalInterface
+    interface IdentityKeyHandler {
+        void accept(String username, String email, String customerId);
+    }
+    
+    @FunctionalInterface
+    interface SearchKeyHandler {
+        void accept(long id, String firstName, String lastName, String email, String phoneNumber);
+    }
+    
+    @FunctionalInterface
+    interface CreditScoreInputHandler {
+        void accept(long id, BigDecimal activeBalance, int completedDebits, int failedDebits,
+                    int onTimePayments, int latePayments, int defaultedLoans);
+    }
+}
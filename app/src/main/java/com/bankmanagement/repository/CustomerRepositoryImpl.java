@@ -0,0 +1,403 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.entity.Address;
+import com.bankmanagement.entity.BaseEntity;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.User;
+import com.bankmanagement.exception.InvalidFieldSelectionException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+public class CustomerRepositoryImpl implements CustomerRepositoryCustom {
+    
+    private static final String ALLOCATE_IDS_SQL =
+        "SELECT nextval('users_id_seq') FROM generate_series(1, ?)";
+    
+    private static final String INSERT_USER_SQL =
+        "INSERT INTO users (id, username, password_hash, first_name, last_name, email, phone_number, " +
+        "date_of_birth, gender, street_address, street_address2, city, state_province, postal_code, country, " +
+        "status, failed_login_attempts, user_type, created_at, updated_at, version, is_active) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'CUSTOMER', ?, ?, ?, ?)";
+    
+    private static final String INSERT_CUSTOMER_SQL =
+        "INSERT INTO customers (id, customer_id, credit_score, customer_type, annual_income, " +
+        "employment_status, employer_name, kyc_verified) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String IDENTITY_KEYS_SQL =
+        "SELECT u.username, u.email, c.customer_id FROM users u LEFT JOIN customers c ON c.id = u.id";
+    
+    private static final String SEARCH_KEYS_SQL =
+        "SELECT u.id, u.first_name, u.last_name, u.email, u.phone_number FROM users u JOIN customers c ON c.id = u.id";
+    
+    private static final String CLAIM_KYC_SQL =
+        "UPDATE customers SET kyc_claimed_by = ?, kyc_claimed_at = ? WHERE id IN (" +
+        "SELECT id FROM customers WHERE kyc_verified = FALSE " +
+        "AND (kyc_claimed_by IS NULL OR kyc_claimed_by = ? OR kyc_claimed_at < ?) " +
+        "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING id";
+    
+    private static final String APPROVE_KYC_SQL =
+        "UPDATE customers SET kyc_verified = TRUE, kyc_verified_at = ?, kyc_verified_by = ?, " +
+        "kyc_claimed_by = NULL, kyc_claimed_at = NULL " +
+        "WHERE id = ANY(?) AND kyc_verified = FALSE AND kyc_claimed_by = ? RETURNING id";
+    
+    private static final String ACTIVATE_USERS_SQL =
+        "UPDATE users SET status = 'ACTIVE', updated_at = ?, version = version + 1 " +
+        "WHERE id = ANY(?) RETURNING id, username";
+    
+    private static final String RELEASE_KYC_SQL =
+        "UPDATE customers SET kyc_claimed_by = NULL, kyc_claimed_at = NULL " +
+        "WHERE id = ANY(?) AND kyc_claimed_by = ?";
+    
+    private static final String CUSTOMER_ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM customers";
+    
+    // Each input is aggregated for the id range on its own, then joined once per customer
+    private static final String CREDIT_SCORE_INPUTS_SQL =
+        "SELECT c.id, COALESCE(a.balance, 0), COALESCE(t.completed, 0), COALESCE(t.failed, 0), " +
+        "COALESCE(p.on_time, 0), COALESCE(p.late, 0), COALESCE(l.defaulted, 0) " +
+        "FROM customers c " +
+        "LEFT JOIN (SELECT customer_id, SUM(balance) AS balance FROM accounts " +
+        "  WHERE account_status = 'ACTIVE' AND customer_id >= ? AND customer_id < ? GROUP BY customer_id) a " +
+        "  ON a.customer_id = c.id " +
+        "LEFT JOIN (SELECT ac.customer_id, " +
+        "  COUNT(*) FILTER (WHERE t.status = 'COMPLETED') AS completed, " +
+        "  COUNT(*) FILTER (WHERE t.status IN ('FAILED', 'REVERSED')) AS failed " +
+        "  FROM transactions t JOIN accounts ac ON ac.id = t.from_account_id " +
+        "  WHERE ac.customer_id >= ? AND ac.customer_id < ? AND t.transaction_date >= ? GROUP BY ac.customer_id) t " +
+        "  ON t.customer_id = c.id " +
+        "LEFT JOIN (SELECT ln.customer_id, " +
+        "  COUNT(*) FILTER (WHERE lp.status = 'COMPLETED' AND lp.payment_type NOT IN ('LATE', 'DEFAULT') " +
+        "    AND COALESCE(lp.late_fee, 0) = 0) AS on_time, " +
+        "  COUNT(*) FILTER (WHERE lp.payment_type IN ('LATE', 'DEFAULT') OR lp.late_fee > 0) AS late " +
+        "  FROM loan_payments lp JOIN loans ln ON ln.id = lp.loan_id " +
+        "  WHERE ln.customer_id >= ? AND ln.customer_id < ? GROUP BY ln.customer_id) p " +
+        "  ON p.customer_id = c.id " +
+        "LEFT JOIN (SELECT customer_id, COUNT(*) FILTER (WHERE status = 'DEFAULTED') AS defaulted FROM loans " +
+        "  WHERE customer_id >= ? AND customer_id < ? GROUP BY customer_id) l " +
+        "  ON l.customer_id = c.id " +
+        "WHERE c.id >= ? AND c.id < ?";
+    
+    // The version bump on users keeps ETags honest for customers whose score changed
+    private static final String UPDATE_CREDIT_SCORE_SQL =
+        "WITH changed AS (UPDATE customers SET credit_score = ? " +
+        "WHERE id = ? AND credit_score IS DISTINCT FROM ? RETURNING id) " +
+        "UPDATE users SET version = version + 1, updated_at = ? WHERE id IN (SELECT id FROM changed)";
+    
+    private static final int STREAM_FETCH_SIZE = 5000;
+    
+    // CustomerDto property -> setter; every key is also the mapped entity attribute name
+    private static final Map<String, BiConsumer<CustomerDto, Object>> PROJECTABLE_FIELDS = new LinkedHashMap<>();
+    
+    static {
+        PROJECTABLE_FIELDS.put("id", (dto, value) -> dto.setId((Long) value));
+        PROJECTABLE_FIELDS.put("customerId", (dto, value) -> dto.setCustomerId((String) value));
+        PROJECTABLE_FIELDS.put("username", (dto, value) -> dto.setUsername((String) value));
+        PROJECTABLE_FIELDS.put("firstName", (dto, value) -> dto.setFirstName((String) value));
+        PROJECTABLE_FIELDS.put("lastName", (dto, value) -> dto.setLastName((String) value));
+        PROJECTABLE_FIELDS.put("email", (dto, value) -> dto.setEmail((String) value));
+        PROJECTABLE_FIELDS.put("phoneNumber", (dto, value) -> dto.setPhoneNumber((String) value));
+        PROJECTABLE_FIELDS.put("dateOfBirth", (dto, value) -> dto.setDateOfBirth((LocalDate) value));
+        PROJECTABLE_FIELDS.put("gender", (dto, value) -> dto.setGender((User.Gender) value));
+        PROJECTABLE_FIELDS.put("address", (dto, value) -> dto.setAddress((Address) value));
+        PROJECTABLE_FIELDS.put("customerType", (dto, value) -> dto.setCustomerType((Customer.CustomerType) value));
+        PROJECTABLE_FIELDS.put("creditScore", (dto, value) -> dto.setCreditScore((Integer) value));
+        PROJECTABLE_FIELDS.put("annualIncome", (dto, value) -> dto.setAnnualIncome((BigDecimal) value));
+        PROJECTABLE_FIELDS.put("employmentStatus", (dto, value) -> dto.setEmploymentStatus((String) value));
+        PROJECTABLE_FIELDS.put("employerName", (dto, value) -> dto.setEmployerName((String) value));
+        PROJECTABLE_FIELDS.put("kycVerified", (dto, value) -> dto.setKycVerified((Boolean) value));
+        PROJECTABLE_FIELDS.put("kycVerifiedAt", (dto, value) -> dto.setKycVerifiedAt((LocalDateTime) value));
+        PROJECTABLE_FIELDS.put("kycVerifiedBy", (dto, value) -> dto.setKycVerifiedBy((Long) value));
+        PROJECTABLE_FIELDS.put("status", (dto, value) -> dto.setStatus((User.UserStatus) value));
+        PROJECTABLE_FIELDS.put("createdAt", (dto, value) -> dto.setCreatedAt((LocalDateTime) value));
+        PROJECTABLE_FIELDS.put("updatedAt", (dto, value) -> dto.setUpdatedAt((LocalDateTime) value));
+        PROJECTABLE_FIELDS.put("version", (dto, value) -> dto.setVersion((Long) value));
+    }
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final EntityManager entityManager;
+    private final int batchSize;
+    
+    @Autowired
+    public CustomerRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                  EntityManager entityManager,
+                                  @Value("${app.customer.bulk.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public List<Customer> batchInsert(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return customers;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        Iterator<Long> ids = allocateIds(customers.size()).iterator();
+        for (Customer customer : customers) {
+            customer.setId(ids.next());
+            if (customer.getCustomerId() == null) {
+                customer.setCustomerId("CUST" + customer.getId());
+            }
+            customer.setCreatedAt(now);
+            customer.setUpdatedAt(now);
+            customer.setVersion(0L);
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, customers, batchSize, this::bindUser);
+        jdbcTemplate.batchUpdate(INSERT_CUSTOMER_SQL, customers, batchSize, this::bindCustomer);
+        
+        return customers;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachIdentityKey(IdentityKeyHandler handler) {
+        // The PostgreSQL driver only honours the fetch size inside a transaction, hence readOnly above
+        streamingJdbcTemplate.query(IDENTITY_KEYS_SQL, rs -> {
+            handler.accept(rs.getString(1), rs.getString(2), rs.getString(3));
+        });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachSearchKey(SearchKeyHandler handler) {
+        streamingJdbcTemplate.query(SEARCH_KEYS_SQL, rs -> {
+            handler.accept(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5));
+        });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerDto> findProjectedById(Long id, Set<String> fields) {
+        List<String> selected = selectedFields(fields);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Customer> root = query.from(Customer.class);
+        query.multiselect(selections(root, selected)).where(cb.equal(root.get("id"), id));
+        
+        return entityManager.createQuery(query).getResultStream()
+            .findFirst()
+            .map(tuple -> toDto(tuple, selected));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CustomerDto> findProjected(Pageable pageable, Set<String> fields) {
+        List<String> selected = selectedFields(fields);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Customer> root = query.from(Customer.class);
+        query.multiselect(selections(root, selected)).orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<CustomerDto> content = typedQuery.getResultStream().map(tuple -> toDto(tuple, selected)).toList();
+        
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+            entityManager.createQuery("SELECT COUNT(c) FROM Customer c", Long.class).getSingleResult());
+    }
+    
+    @Override
+    @Transactional
+    public List<Long> claimPendingKyc(Long staffId, int limit, LocalDateTime leaseExpiredBefore) {
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM_KYC_SQL, Long.class,
+            staffId, Timestamp.valueOf(LocalDateTime.now()), staffId, Timestamp.valueOf(leaseExpiredBefore), limit);
+        // RETURNING order is unspecified
+        ids.sort(null);
+        return ids;
+    }
+    
+    @Override
+    @Transactional
+    public Map<Long, String> approveKyc(Collection<Long> customerIds, Long staffId, LocalDateTime verifiedAt) {
+        Timestamp timestamp = Timestamp.valueOf(verifiedAt);
+        List<Long> approved = jdbcTemplate.query(APPROVE_KYC_SQL, ps -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setLong(2, staffId);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", customerIds.toArray()));
+            ps.setLong(4, staffId);
+        }, (rs, rowNum) -> rs.getLong(1));
+        
+        Map<Long, String> usernames = new LinkedHashMap<>();
+        if (approved.isEmpty()) {
+            return usernames;
+        }
+        jdbcTemplate.query(ACTIVATE_USERS_SQL, ps -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", approved.toArray()));
+        }, rs -> {
+            usernames.put(rs.getLong(1), rs.getString(2));
+        });
+        return usernames;
+    }
+    
+    @Override
+    @Transactional
+    public int releaseKycClaims(Collection<Long> customerIds, Long staffId) {
+        return jdbcTemplate.update(RELEASE_KYC_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", customerIds.toArray()));
+            ps.setLong(2, staffId);
+        });
+    }
+    
+    @Override
+    public long[] findCustomerIdRange() {
+        return jdbcTemplate.queryForObject(CUSTOMER_ID_RANGE_SQL, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[] { min, rs.getLong(2) };
+        });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachCreditScoreInput(long fromId, long toId, LocalDateTime activitySince,
+                                        CreditScoreInputHandler handler) {
+        Timestamp since = Timestamp.valueOf(activitySince);
+        streamingJdbcTemplate.query(CREDIT_SCORE_INPUTS_SQL, rs -> {
+            handler.accept(rs.getLong(1), rs.getBigDecimal(2), rs.getInt(3), rs.getInt(4),
+                rs.getInt(5), rs.getInt(6), rs.getInt(7));
+        }, fromId, toId, fromId, toId, since, fromId, toId, fromId, toId, fromId, toId);
+    }
+    
+    @Override
+    @Transactional
+    public int updateCreditScores(Map<Long, Integer> scores) {
+        if (scores.isEmpty()) {
+            return 0;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_CREDIT_SCORE_SQL, scores.entrySet(), batchSize, (ps, score) -> {
+            ps.setInt(1, score.getValue());
+            ps.setLong(2, score.getKey());
+            ps.setInt(3, score.getValue());
+            ps.setTimestamp(4, now);
+        });
+        
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO counts as written; it only appears if the driver rewrites the batch
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return updated;
+    }
+    
+    // Helper methods
+    private List<Long> allocateIds(int count) {
+        // Each nextval reserves a block of ID_BLOCK_SIZE ids, the same pooled-lo scheme Hibernate uses
+        int blocks = (count + BaseEntity.ID_BLOCK_SIZE - 1) / BaseEntity.ID_BLOCK_SIZE;
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockStart : jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, blocks)) {
+            for (int i = 0; i < BaseEntity.ID_BLOCK_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+    
+    private static List<String> selectedFields(Set<String> fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields) {
+            if (!PROJECTABLE_FIELDS.containsKey(field)) {
+                throw new InvalidFieldSelectionException("Unknown customer field: " + field
+                    + "; selectable fields are " + PROJECTABLE_FIELDS.keySet());
+            }
+            selected.add(field);
+        }
+        return new ArrayList<>(selected);
+    }
+    
+    private static List<Selection<?>> selections(Root<Customer> root, List<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        return selections;
+    }
+    
+    private static CustomerDto toDto(Tuple tuple, List<String> fields) {
+        CustomerDto dto = new CustomerDto();
+        for (String field : fields) {
+            PROJECTABLE_FIELDS.get(field).accept(dto, tuple.get(field));
+        }
+        return dto;
+    }
+    
+    private void bindUser(PreparedStatement ps, Customer customer) throws SQLException {
+        Address address = customer.getAddress() != null ? customer.getAddress() : new Address();
+        ps.setLong(1, customer.getId());
+        ps.setString(2, customer.getUsername());
+        ps.setString(3, customer.getPasswordHash());
+        ps.setString(4, customer.getFirstName());
+        ps.setString(5, customer.getLastName());
+        ps.setString(6, customer.getEmail());
+        ps.setString(7, customer.getPhoneNumber());
+        ps.setObject(8, customer.getDateOfBirth(), Types.DATE);
+        ps.setString(9, customer.getGender() != null ? customer.getGender().name() : null);
+        ps.setString(10, address.getStreetAddress());
+        ps.setString(11, address.getStreetAddress2());
+        ps.setString(12, address.getCity());
+        ps.setString(13, address.getStateProvince());
+        ps.setString(14, address.getPostalCode());
+        ps.setString(15, address.getCountry());
+        ps.setString(16, customer.getStatus().name());
+        ps.setInt(17, customer.getFailedLoginAttempts());
+        ps.setTimestamp(18, Timestamp.valueOf(customer.getCreatedAt()));
+        ps.setTimestamp(19, Timestamp.valueOf(customer.getUpdatedAt()));
+        ps.setLong(20, customer.getVersion());
+        ps.setBoolean(21, customer.getIsActive());
+    }
+    
+    private void bindCustomer(PreparedStatement ps, Customer customer) throws SQLException {
+        ps.setLong(1, customer.getId());
+        ps.setString(2, customer.getCustomerId());
+        ps.setObject(3, customer.getCreditScore(), Types.INTEGER);
+        ps.setString(4, customer.getCustomerType().name());
+        ps.setBigDecimal(5, customer.getAnnualIncome());
+        ps.setString(6, customer.getEmploymentStatus());
+        ps.setString(7, customer.getEmployerName());
+        ps.setBoolean(8, customer.getKycVerified());
+    }
+}
@@ -0,0 +1,24 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.entity.Loan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LoanRepository extends JpaRepository<Loan, Long> {
+    
+    Optional<Loan> findByLoanNumber(String loanNumber);
+    
+    List<Loan> findByCustomerId(Long customerId);
+    
+    List<Loan> findByStatus(Loan.LoanStatus status);
+    
+    @Query("SELECT DISTINCT l.customer.id FROM Loan l WHERE l.customer.id IN :customerIds AND l.status = 'ACTIVE'")
+    List<Long> findCustomerIdsWithActiveLoan(@Param("customerIds") Collection<Long> customerIds);
+}
@@ -0,0 +1,34 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    
+    // Revoking an already revoked token is a no-op rather than a constraint violation; returns 0 in that case
+    @Modifying
+    @Query(value = "INSERT INTO revoked_tokens (token_id, user_id, expires_at, expiry_known, reason, created_at, version, is_active) " +
+                   "VALUES (:tokenId, :userId, :expiresAt, :expiryKnown, :reason, :createdAt, 0, TRUE) " +
+                   "ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId,
+                       @Param("userId") Long userId,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("expiryKnown") boolean expiryKnown,
+                       @Param("reason") String reason,
+                       @Param("createdAt") LocalDateTime createdAt);
+    
+    @Query("SELECT t FROM RevokedToken t WHERE t.createdAt >= :since AND t.expiresAt > :now ORDER BY t.createdAt")
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,33 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.entity.TokenWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenWatermarkRepository extends JpaRepository<TokenWatermark, Long> {
+    
+    // A watermark only ever moves forward, whichever node writes last
+    @Modifying
+    @Query(value = "INSERT INTO token_watermarks (user_id, not_before, created_at, updated_at, version, is_active) " +
+                   "VALUES (:userId, :notBefore, :updatedAt, :updatedAt, 0, TRUE) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET " +
+                   "not_before = GREATEST(token_watermarks.not_before, EXCLUDED.not_before), " +
+                   "updated_at = EXCLUDED.updated_at, version = token_watermarks.version + 1", nativeQuery = true)
+    int raise(@Param("userId") Long userId,
+              @Param("notBefore") LocalDateTime notBefore,
+              @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Query("SELECT w FROM TokenWatermark w WHERE w.updatedAt >= :since ORDER BY w.updatedAt")
+    List<TokenWatermark> findUpdatedSince(@Param("since") LocalDateTime since);
+    
+    @Modifying
+    @Query("DELETE FROM TokenWatermark w WHERE w.notBefore <= :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,6 +1,7 @@
 package com.bankmanagement.repository;
 
 import com.bankmanagement.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,8 +22,6 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     
     List<Transaction> findByToAccountId(Long toAccountId);
     
-    List<Transaction> findByCustomerId(Long customerId);
-    
     List<Transaction> findByTransactionType(Transaction.TransactionType transactionType);
     
     List<Transaction> findByStatus(Transaction.TransactionStatus status);
@@ -31,6 +31,9 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT t FROM Transaction t WHERE t.fromAccount.id = :accountId OR t.toAccount.id = :accountId ORDER BY t.transactionDate DESC")
     List<Transaction> findByAccountIdOrderByDateDesc(@Param("accountId") Long accountId);
     
+    @Query("SELECT t FROM Transaction t WHERE t.fromAccount.id IN :accountIds OR t.toAccount.id IN :accountIds ORDER BY t.transactionDate DESC")
+    List<Transaction> findRecentByAccountIds(@Param("accountIds") Collection<Long> accountIds, Pageable pageable);
+    
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.fromAccount.id = :accountId AND t.transactionDate >= :startDate AND t.status = 'COMPLETED'")
     BigDecimal getTotalWithdrawalsByAccountAndDateRange(@Param("accountId") Long accountId, @Param("startDate") LocalDateTime startDate);
     
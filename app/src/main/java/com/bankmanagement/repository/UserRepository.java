@@ -0,0 +1,13 @@
+package com.bankmanagement.repository;
+
+import com.bankmanagement.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+    
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,36 @@
+package com.bankmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface UserRepositoryCustom {
+    
+    // JDBC batch update of failed-attempt count and lock expiry, one row per state
+    int applyLoginStates(Collection<LoginState> states);
+    
+    final class LoginState {
+        
+        private final long userId;
+        private final int failedAttempts;
+        private final LocalDateTime lockedUntil;
+        
+        public LoginState(long userId, int failedAttempts, LocalDateTime lockedUntil) {
+            this.userId = userId;
+            this.failedAttempts = failedAttempts;
+            this.lockedUntil = lockedUntil;
+        }
+        
+        public long getUserId() { 
+            return userId; 
+        }
+        
+        public int getFailedAttempts() { 
+            return failedAttempts; 
+        }
+        
+        public LocalDateTime getLockedUntil() { 
+            return lockedUntil; 
+        }
+    
+    }
+}
@@ -0,0 +1,55 @@
+package com.bankmanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    
+    // Leaves version and updated_at alone so login failures never invalidate customer ETags; the
+    // columns are not updatable through JPA, so an entity update cannot overwrite the lock either
+    private static final String UPDATE_LOGIN_STATE_SQL =
+        "UPDATE users SET failed_login_attempts = ?, account_locked_until = ? WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    
+    @Autowired
+    public UserRepositoryImpl(JdbcTemplate jdbcTemplate,
+                              @Value("${app.customer.bulk.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    @Transactional
+    public int applyLoginStates(Collection<LoginState> states) {
+        if (states.isEmpty()) {
+            return 0;
+        }
+        
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_LOGIN_STATE_SQL, states, batchSize, (ps, state) -> {
+            ps.setInt(1, state.getFailedAttempts());
+            if (state.getLockedUntil() != null) {
+                ps.setTimestamp(2, Timestamp.valueOf(state.getLockedUntil()));
+            } else {
+                ps.setNull(2, Types.TIMESTAMP);
+            }
+            ps.setLong(3, state.getUserId());
+        });
+        
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return updated;
+    }
+}
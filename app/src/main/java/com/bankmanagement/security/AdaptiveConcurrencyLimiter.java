@@ -0,0 +1,167 @@
+package com.bankmanagement.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Vegas-style concurrency limiter for database-heavy endpoints. Latency above the lowest recent latency
+// estimates how many requests are queued; the limit grows while that queue is short and shrinks once it
+// grows, and drops (5xx, timeouts) cut it multiplicatively. The no-load latency is tracked per route class.
+@Component
+public class AdaptiveConcurrencyLimiter {
+    
+    // The no-load latency is the minimum over the current and previous window of this many samples,
+    // so it can rise again after a change in the backend without one unlucky sample resetting it
+    private static final int BASELINE_WINDOW = 1000;
+    
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double backoffRatio;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    
+    // Guarded by this
+    private double estimatedLimit;
+    private final Map<String, Baseline> baselines = new HashMap<>();
+    
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    
+    @Autowired
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+                                      @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+                                      @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+                                      @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+                                      @Value("${app.concurrency-limit.smoothing:0.2}") double smoothing,
+                                      @Value("${app.concurrency-limit.backoff-ratio:0.9}") double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Concurrency limit backoff ratio must be between 0 and 1");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        
+        this.rejectedCounter = Counter.builder("http.concurrency.limit.rejected")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("http.concurrency.limit.dropped")
+            .register(meterRegistry);
+        Gauge.builder("http.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+            .register(meterRegistry);
+        Gauge.builder("http.concurrency.in.flight", inFlight, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejectedCounter.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    // Releases a permit taken by tryAcquire and feeds the request's latency into the limit
+    public void release(String routeClass, long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        update(routeClass, rttNanos, inFlightAtRelease);
+    }
+    
+    // Releases a permit whose latency says nothing about queueing (a stream, a 304, a 4xx)
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+    
+    // Releases a permit whose request failed on the server or timed out, and backs the limit off
+    public void releaseDropped() {
+        inFlight.decrementAndGet();
+        droppedCounter.increment();
+        backOff();
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    // Helper methods
+    private synchronized void update(String routeClass, long rttNanos, int inFlightAtRelease) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        long noLoadRttNanos = baselines.computeIfAbsent(routeClass, key -> new Baseline()).sample(rttNanos);
+        
+        // Without demand close to the limit, good latency says nothing about a higher limit
+        if (inFlightAtRelease * 2 < estimatedLimit) {
+            return;
+        }
+        
+        double queued = Math.ceil(estimatedLimit * (1 - (double) noLoadRttNanos / rttNanos));
+        double step = Math.max(1, Math.log10(estimatedLimit));
+        double target;
+        if (queued <= step) {
+            target = estimatedLimit + 6 * step;
+        } else if (queued < 3 * step) {
+            target = estimatedLimit + step;
+        } else if (queued > 6 * step) {
+            target = estimatedLimit - step;
+        } else {
+            return;
+        }
+        
+        target = Math.max(minLimit, Math.min(maxLimit, target));
+        estimatedLimit = estimatedLimit * (1 - smoothing) + target * smoothing;
+        limit = (int) estimatedLimit;
+    }
+    
+    private synchronized void backOff() {
+        estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+        limit = (int) estimatedLimit;
+    }
+    
+    // Minimum latency over the current and previous window of one route class's samples
+    private static final class Baseline {
+        
+        private long previousWindowMinRtt = Long.MAX_VALUE;
+        private long currentWindowMinRtt = Long.MAX_VALUE;
+        private int windowSamples;
+        
+        private long sample(long rttNanos) {
+            currentWindowMinRtt = Math.min(currentWindowMinRtt, rttNanos);
+            if (++windowSamples >= BASELINE_WINDOW) {
+                previousWindowMinRtt = currentWindowMinRtt;
+                currentWindowMinRtt = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+            return Math.min(previousWindowMinRtt, currentWindowMinRtt);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.security.PrincipalAuthorities.PrincipalRole;
+import com.bankmanagement.service.AdminIpAllowlistService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Rejects admins whose address is outside their IP whitelist, compiled into a cached CidrTrie
+public class AdminIpAllowlistFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(AdminIpAllowlistFilter.class);
+    
+    private final AdminIpAllowlistService allowlistService;
+    
+    public AdminIpAllowlistFilter(AdminIpAllowlistService allowlistService) {
+        this.allowlistService = allowlistService;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // The remote address is X-Forwarded-For only when a trusted proxy sent it (server.tomcat.remoteip)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalAuthorities principal
+                && principal.hasRole(PrincipalRole.ADMIN)
+                && !allowlistService.isAllowed(principal.getUserId(), request.getRemoteAddr())) {
+            log.warn("Rejected admin {} from address {} outside the IP whitelist",
+                principal.getUsername(), request.getRemoteAddr());
+            FilterResponses.reject(response, HttpStatus.FORBIDDEN, "Address not allowed");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
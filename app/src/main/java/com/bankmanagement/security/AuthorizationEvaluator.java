@@ -0,0 +1,56 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.service.PrincipalAuthoritiesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+// Backs the @authz expressions in @PreAuthorize with bit tests on the cached PrincipalAuthorities
+@Component("authz")
+public class AuthorizationEvaluator {
+    
+    private final PrincipalAuthoritiesService principalAuthoritiesService;
+    
+    @Autowired
+    public AuthorizationEvaluator(PrincipalAuthoritiesService principalAuthoritiesService) {
+        this.principalAuthoritiesService = principalAuthoritiesService;
+    }
+    
+    public boolean hasRole(Authentication authentication, String roleName) {
+        return resolve(authentication).hasRole(roleName);
+    }
+    
+    public boolean hasAnyRole(Authentication authentication, String... roleNames) {
+        PrincipalAuthorities authorities = resolve(authentication);
+        for (String roleName : roleNames) {
+            if (authorities.hasRole(roleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public boolean hasPermission(Authentication authentication, String permissionName) {
+        return resolve(authentication).hasPermission(permissionName);
+    }
+    
+    public boolean isSelf(Authentication authentication, Long userId) {
+        return resolve(authentication).isUser(userId);
+    }
+    
+    // Helper methods
+    private PrincipalAuthorities resolve(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return PrincipalAuthorities.ANONYMOUS;
+        }
+        // JWT requests carry the snapshot in the token, so no lookup is needed. It is at most one access
+        // token lifetime old, and JwtAuthenticationFilter rejects it once the user's grants change.
+        if (authentication.getPrincipal() instanceof PrincipalAuthorities principal) {
+            return principal;
+        }
+        PrincipalAuthorities authorities = principalAuthoritiesService.getAuthorities(authentication.getName());
+        return authorities != null ? authorities : PrincipalAuthorities.ANONYMOUS;
+    }
+}
@@ -0,0 +1,126 @@
+package com.bankmanagement.security;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Admits requests to the configured database-heavy paths only while the limiter has capacity, answering 429
+// otherwise. Each pattern is a route class with its own latency baseline; the first matching pattern wins.
+// 2xx responses feed their latency to the limit, 5xx responses and timeouts count as drops. Streamed
+// responses hold their permit until the async request ends.
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final List<String> pathPatterns;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, List<String> pathPatterns) {
+        this.limiter = limiter;
+        this.pathPatterns = pathPatterns;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiter.isEnabled() || routeClassOf(request) == null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            FilterResponses.reject(response, HttpStatus.TOO_MANY_REQUESTS, "Server is at capacity, please retry");
+            return;
+        }
+        
+        long startedAt = System.nanoTime();
+        boolean releasedOnCompletion = false;
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(response));
+                releasedOnCompletion = true;
+            }
+        } finally {
+            if (!releasedOnCompletion) {
+                // An exception escaping the chain becomes a 500
+                int status = failed ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+                if (status >= 500) {
+                    limiter.releaseDropped();
+                } else if (status >= 200 && status < 300) {
+                    limiter.release(routeClassOf(request), System.nanoTime() - startedAt);
+                } else {
+                    limiter.release();
+                }
+            }
+        }
+    }
+    
+    // Helper methods
+    private String routeClassOf(HttpServletRequest request) {
+        // Patterns are relative to the context path, like the security matchers
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : pathPatterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+    
+    // Completion, timeout and error can each be signalled; the permit is released exactly once
+    private final class PermitReleasingListener implements AsyncListener {
+        
+        private final HttpServletResponse response;
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        private PermitReleasingListener(HttpServletResponse response) {
+            this.response = response;
+        }
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(response.getStatus() >= 500);
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+        
+        private void release(boolean dropped) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (dropped) {
+                limiter.releaseDropped();
+            } else {
+                limiter.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.bankmanagement.security;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Filter rejections are written directly: sendError's ERROR dispatch would rerun the filter chain
+final class FilterResponses {
+    
+    private FilterResponses() {
+    }
+    
+    static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+        response.flushBuffer();
+    }
+}
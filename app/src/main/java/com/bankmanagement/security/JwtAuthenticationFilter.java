@@ -0,0 +1,80 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.exception.InvalidTokenException;
+import com.bankmanagement.security.TokenClaims.TokenType;
+import com.bankmanagement.service.TokenRevocationService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Authenticates bearer access tokens from their claims, with no user lookup on the request path
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+    
+    public JwtAuthenticationFilter(JwtTokenService jwtTokenService, TokenRevocationService tokenRevocationService) {
+        this.jwtTokenService = jwtTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            authenticate(request, header.substring(BEARER_PREFIX.length()).trim());
+        }
+        filterChain.doFilter(request, response);
+    }
+    
+    // Helper methods
+    private void authenticate(HttpServletRequest request, String token) {
+        VerifiedToken verified;
+        try {
+            verified = jwtTokenService.verify(token);
+        } catch (InvalidTokenException e) {
+            // Left unauthenticated; the entry point answers 401 if the endpoint needs a user
+            log.debug("Rejected bearer token: {}", e.getMessage());
+            return;
+        }
+        if (verified.getType() != TokenType.ACCESS) {
+            log.debug("Rejected {} token used as an access token", verified.getType());
+            return;
+        }
+        if (tokenRevocationService.isRevoked(verified)) {
+            log.debug("Rejected revoked token {}", verified.getTokenId());
+            return;
+        }
+        // The user's status or grants changed after this token was issued; the client refreshes to get new ones
+        if (tokenRevocationService.isIssuedBeforeWatermark(verified)) {
+            log.debug("Rejected token {} issued before the user's watermark", verified.getTokenId());
+            return;
+        }
+        
+        PrincipalAuthorities principal = verified.getPrincipal();
+        UsernamePasswordAuthenticationToken authentication =
+            UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.toGrantedAuthorities());
+        authentication.setDetails(detailsSource.buildDetails(request));
+        
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+}
@@ -0,0 +1,135 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.exception.InvalidTokenException;
+import com.bankmanagement.security.TokenClaims.TokenType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class JwtTokenService {
+    
+    private final TokenCodec codec;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+    private final int maxCachedTokens;
+    private final Clock clock;
+    
+    // Verified tokens keyed by a digest of the token, so repeat requests skip signature and JSON work
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    
+    @Autowired
+    public JwtTokenService(MeterRegistry meterRegistry,
+                           @Value("${jwt.secret}") String secret,
+                           @Value("${jwt.expiration:900000}") long expirationMillis,
+                           @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationMillis,
+                           @Value("${jwt.cache.max-size:100000}") int maxCachedTokens) {
+        this.codec = new TokenCodec(secret);
+        this.accessTokenTtl = Duration.ofMillis(expirationMillis);
+        this.refreshTokenTtl = Duration.ofMillis(refreshExpirationMillis);
+        this.maxCachedTokens = maxCachedTokens;
+        this.clock = Clock.systemUTC();
+        
+        this.cacheHits = Counter.builder("jwt.verification.cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.cacheMisses = Counter.builder("jwt.verification.cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("jwt.verification.cache.size", verifiedTokens, Map::size)
+            .register(meterRegistry);
+    }
+    
+    public String issueAccessToken(PrincipalAuthorities principal) {
+        return issue(principal, TokenType.ACCESS, accessTokenTtl);
+    }
+    
+    public String issueRefreshToken(PrincipalAuthorities principal) {
+        return issue(principal, TokenType.REFRESH, refreshTokenTtl);
+    }
+    
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+    
+    // Returns the cached result for a token verified before that has not yet expired
+    public VerifiedToken verify(String token) {
+        Instant now = clock.instant();
+        String key = digest(token);
+        
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                cacheHits.increment();
+                return cached;
+            }
+            verifiedTokens.remove(key, cached);
+        }
+        
+        cacheMisses.increment();
+        VerifiedToken verified = parse(token);
+        if (verified.isExpired(now)) {
+            throw new InvalidTokenException("Token has expired");
+        }
+        if (verifiedTokens.size() >= maxCachedTokens) {
+            evictExpired();
+        }
+        if (verifiedTokens.size() < maxCachedTokens) {
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.cache.sweep-interval:PT1M}")
+    public void evictExpired() {
+        Instant now = clock.instant();
+        verifiedTokens.values().removeIf(token -> token.isExpired(now));
+    }
+    
+    // Helper methods
+    private String issue(PrincipalAuthorities principal, TokenType type, Duration ttl) {
+        Instant now = clock.instant();
+        return codec.encode(new TokenClaims(UUID.randomUUID().toString(), type, principal.getUserId(),
+            principal.getUsername(), principal.getRoleBits(), principal.getPermissions().toLong(), now, now.plus(ttl)));
+    }
+    
+    private VerifiedToken parse(String token) {
+        TokenClaims claims;
+        try {
+            claims = codec.decode(token);
+        } catch (TokenVerificationException e) {
+            throw new InvalidTokenException(e.getMessage(), e);
+        }
+        PrincipalAuthorities principal = PrincipalAuthorities.of(claims.getUserId(), claims.getUsername(),
+            claims.getRoleBits(), claims.getPermissionBits());
+        return new VerifiedToken(claims.getTokenId(), claims.getType(), principal, claims.getIssuedAt(),
+            claims.getExpiresAt());
+    }
+    
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bankmanagement.security;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Sliding-window failure counts per key over LRU-bounded, independently locked shards
+public class LoginAttemptTracker {
+    
+    private final int limit;
+    private final long windowMillis;
+    private final long lockMillis;
+    private final Shard[] shards;
+    private final int shardMask;
+    
+    public LoginAttemptTracker(int limit, Duration window, Duration lockDuration, int shardCount, int maxKeys) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Attempt limit must be at least 1");
+        }
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.lockMillis = lockDuration.toMillis();
+        
+        // Round up to a power of two so a shard is picked with a mask
+        int shardsRounded = shardCount <= 1 ? 1 : Integer.highestOneBit(shardCount - 1) << 1;
+        this.shards = new Shard[shardsRounded];
+        int keysPerShard = Math.max(16, maxKeys / shardsRounded);
+        for (int i = 0; i < shardsRounded; i++) {
+            shards[i] = new Shard(keysPerShard);
+        }
+        this.shardMask = shardsRounded - 1;
+    }
+    
+    // Epoch millis until which the key is locked, or 0 when it is not locked
+    public long lockedUntil(String key, long nowMillis) {
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            Window window = shard.get(key);
+            return window != null && window.lockedUntil > nowMillis ? window.lockedUntil : 0L;
+        }
+    }
+    
+    // Returns the failures inside the window, this one included; reaching the limit locks the key
+    public int recordFailure(String key, long nowMillis) {
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            Window window = shard.computeIfAbsent(key, k -> new Window(limit));
+            window.add(nowMillis);
+            int failures = window.countSince(nowMillis - windowMillis);
+            if (failures >= limit) {
+                window.lockedUntil = nowMillis + lockMillis;
+            }
+            return failures;
+        }
+    }
+    
+    public void reset(String key) {
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            shard.remove(key);
+        }
+    }
+    
+    public int trackedKeys() {
+        int count = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                count += shard.size();
+            }
+        }
+        return count;
+    }
+    
+    int shardCount() {
+        return shards.length;
+    }
+    
+    // Helper methods
+    private Shard shardFor(String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & shardMask];
+    }
+    
+    private static final class Shard extends LinkedHashMap<String, Window> {
+        
+        private final int maxKeys;
+        
+        private Shard(int maxKeys) {
+            super(16, 0.75f, true);
+            this.maxKeys = maxKeys;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+            return size() > maxKeys;
+        }
+    }
+    
+    // Ring of the most recent failure times
+    private static final class Window {
+        
+        private final long[] failures;
+        private int next;
+        private int size;
+        private long lockedUntil;
+        
+        private Window(int capacity) {
+            this.failures = new long[capacity];
+        }
+        
+        private void add(long timestamp) {
+            failures[next] = timestamp;
+            next = (next + 1) % failures.length;
+            size = Math.min(size + 1, failures.length);
+        }
+        
+        private int countSince(long since) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (failures[i] > since) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
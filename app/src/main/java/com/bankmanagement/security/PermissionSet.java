@@ -0,0 +1,122 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.entity.Permission;
+import com.bankmanagement.entity.Permission.PermissionType;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+// Immutable set of permission types packed into a long, one bit per ordinal
+public final class PermissionSet {
+    
+    private static final PermissionType[] TYPES = PermissionType.values();
+    private static final Map<String, PermissionType> TYPES_BY_NAME = new HashMap<>();
+    
+    static {
+        for (PermissionType type : TYPES) {
+            TYPES_BY_NAME.put(type.name(), type);
+        }
+    }
+    
+    public static final PermissionSet NONE = new PermissionSet(0L);
+    public static final PermissionSet ALL = new PermissionSet((1L << TYPES.length) - 1);
+    
+    private final long bits;
+    
+    // Constructors
+    private PermissionSet(long bits) {
+        this.bits = bits;
+    }
+    
+    public static PermissionSet of(PermissionType... types) {
+        long bits = 0L;
+        for (PermissionType type : types) {
+            bits |= bit(type);
+        }
+        return valueOf(bits);
+    }
+    
+    public static PermissionSet fromLong(long bits) {
+        return valueOf(bits & ALL.bits);
+    }
+    
+    // A permission grants its type, and also the type its name refers to when the seed data names it that way
+    public static PermissionSet of(Collection<Permission> permissions) {
+        long bits = 0L;
+        for (Permission permission : permissions) {
+            if (permission.getPermissionType() != null) {
+                bits |= bit(permission.getPermissionType());
+            }
+            PermissionType named = TYPES_BY_NAME.get(permission.getName());
+            if (named != null) {
+                bits |= bit(named);
+            }
+        }
+        return valueOf(bits);
+    }
+    
+    // Business methods
+    public boolean contains(PermissionType type) {
+        return (bits & bit(type)) != 0;
+    }
+    
+    public boolean contains(String permissionName) {
+        PermissionType type = TYPES_BY_NAME.get(permissionName);
+        return type != null && contains(type);
+    }
+    
+    public boolean containsAll(PermissionSet other) {
+        return (bits & other.bits) == other.bits;
+    }
+    
+    public PermissionSet union(PermissionSet other) {
+        return valueOf(bits | other.bits);
+    }
+    
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+    
+    public long toLong() {
+        return bits;
+    }
+    
+    public EnumSet<PermissionType> toEnumSet() {
+        EnumSet<PermissionType> types = EnumSet.noneOf(PermissionType.class);
+        for (PermissionType type : TYPES) {
+            if (contains(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+    
+    // Helper methods
+    private static long bit(PermissionType type) {
+        return 1L << type.ordinal();
+    }
+    
+    private static PermissionSet valueOf(long bits) {
+        if (bits == 0L) {
+            return NONE;
+        }
+        return bits == ALL.bits ? ALL : new PermissionSet(bits);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof PermissionSet other && bits == other.bits);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+    
+    @Override
+    public String toString() {
+        return toEnumSet().toString();
+    }
+}
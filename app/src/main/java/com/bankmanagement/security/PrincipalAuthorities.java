@@ -0,0 +1,142 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.entity.Admin;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Permission.PermissionType;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.entity.Staff;
+import com.bankmanagement.entity.User;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Immutable authorization snapshot of a principal, with roles and permissions as bit masks.
+// Also the authenticated principal for JWT requests, rebuilt from the token claims
+public final class PrincipalAuthorities implements AuthenticatedPrincipal {
+    
+    public static final PrincipalAuthorities ANONYMOUS = new PrincipalAuthorities(null, null, 0, PermissionSet.NONE);
+    
+    public enum PrincipalRole { 
+        ADMIN, STAFF, CUSTOMER 
+    }
+    
+    private final Long userId;
+    private final String username;
+    private final int roleBits;
+    private final PermissionSet permissions;
+    
+    // Constructors
+    private PrincipalAuthorities(Long userId, String username, int roleBits, PermissionSet permissions) {
+        this.userId = userId;
+        this.username = username;
+        this.roleBits = roleBits;
+        this.permissions = permissions;
+    }
+    
+    public static PrincipalAuthorities of(User user) {
+        int roleBits = 0;
+        PermissionSet permissions = PermissionSet.NONE;
+        if (user instanceof Admin admin) {
+            roleBits |= bit(PrincipalRole.ADMIN);
+            permissions = admin.getPermissionSet();
+        } else if (user instanceof Staff staff) {
+            roleBits |= bit(PrincipalRole.STAFF);
+            for (Role role : staff.getRoles()) {
+                PrincipalRole principalRole = resolveRole(role.getName());
+                if (principalRole != null) {
+                    roleBits |= bit(principalRole);
+                }
+            }
+            permissions = staff.getPermissionSet();
+        } else if (user instanceof Customer) {
+            roleBits |= bit(PrincipalRole.CUSTOMER);
+        }
+        return new PrincipalAuthorities(user.getId(), user.getUsername(), roleBits, permissions);
+    }
+    
+    public static PrincipalAuthorities of(Long userId, String username, int roleBits, long permissionBits) {
+        int knownRoles = (1 << PrincipalRole.values().length) - 1;
+        return new PrincipalAuthorities(userId, username, roleBits & knownRoles, PermissionSet.fromLong(permissionBits));
+    }
+    
+    // Business methods
+    public boolean hasRole(PrincipalRole role) {
+        return (roleBits & bit(role)) != 0;
+    }
+    
+    public boolean hasRole(String roleName) {
+        PrincipalRole role = resolveRole(roleName);
+        return role != null && hasRole(role);
+    }
+    
+    public boolean hasPermission(PermissionType permissionType) {
+        return permissions.contains(permissionType);
+    }
+    
+    public boolean hasPermission(String permissionName) {
+        return permissions.contains(permissionName);
+    }
+    
+    public boolean isUser(Long id) {
+        return userId != null && userId.equals(id);
+    }
+    
+    public List<GrantedAuthority> toGrantedAuthorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (PrincipalRole role : PrincipalRole.values()) {
+            if (hasRole(role)) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+            }
+        }
+        return authorities;
+    }
+    
+    // Helper methods
+    private static int bit(PrincipalRole role) {
+        return 1 << role.ordinal();
+    }
+    
+    private static PrincipalRole resolveRole(String roleName) {
+        if (roleName == null) {
+            return null;
+        }
+        String name = roleName.startsWith("ROLE_") ? roleName.substring(5) : roleName;
+        for (PrincipalRole role : PrincipalRole.values()) {
+            if (role.name().equals(name)) {
+                return role;
+            }
+        }
+        return null;
+    }
+    
+    // Getters
+    public Long getUserId() { 
+        return userId; 
+    }
+    
+    public String getUsername() { 
+        return username; 
+    }
+    
+    @Override
+    public String getName() { 
+        return username; 
+    }
+    
+    public int getRoleBits() { 
+        return roleBits; 
+    }
+    
+    public PermissionSet getPermissions() { 
+        return permissions; 
+    }
+    
+    @Override
+    public String toString() {
+        return "PrincipalAuthorities{username=" + username + ", roleBits=" + Integer.toBinaryString(roleBits)
+                + ", permissions=" + permissions + "}";
+    }
+}
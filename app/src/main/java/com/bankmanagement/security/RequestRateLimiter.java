@@ -0,0 +1,98 @@
+package com.bankmanagement.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Token buckets per address for anonymous callers and per principal once authenticated. Past the
+// address cap, new addresses share one overflow bucket; principals always keep their own
+@Component
+public class RequestRateLimiter {
+    
+    public enum ClientType { 
+        ANONYMOUS, AUTHENTICATED 
+    }
+    
+    private final boolean enabled;
+    private final int maxTrackedClients;
+    private final double[] permitsPerSecond = new double[ClientType.values().length];
+    private final int[] burst = new int[ClientType.values().length];
+    
+    private final Map<String, TokenBucket> anonymousBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> authenticatedBuckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflowBucket;
+    
+    private final Counter rejectedCounter;
+    
+    @Autowired
+    public RequestRateLimiter(MeterRegistry meterRegistry,
+                              @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                              @Value("${app.rate-limit.max-tracked-clients:100000}") int maxTrackedClients,
+                              @Value("${app.rate-limit.anonymous.permits-per-second:5}") double anonymousRate,
+                              @Value("${app.rate-limit.anonymous.burst:20}") int anonymousBurst,
+                              @Value("${app.rate-limit.authenticated.permits-per-second:50}") double authenticatedRate,
+                              @Value("${app.rate-limit.authenticated.burst:100}") int authenticatedBurst) {
+        this.enabled = enabled;
+        this.maxTrackedClients = maxTrackedClients;
+        configure(ClientType.ANONYMOUS, anonymousRate, anonymousBurst);
+        configure(ClientType.AUTHENTICATED, authenticatedRate, authenticatedBurst);
+        this.overflowBucket = new TokenBucket(anonymousRate, anonymousBurst, System.nanoTime());
+        
+        this.rejectedCounter = Counter.builder("http.rate.limit.rejected")
+            .register(meterRegistry);
+        Gauge.builder("http.rate.limit.clients", this, RequestRateLimiter::trackedClients)
+            .register(meterRegistry);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    // Returns 0 when a permit is granted, otherwise the nanoseconds to wait before retrying
+    public long tryAcquire(ClientType type, String clientKey) {
+        long now = System.nanoTime();
+        TokenBucket bucket = bucketFor(type, clientKey, now);
+        if (bucket.tryAcquire(now)) {
+            return 0L;
+        }
+        rejectedCounter.increment();
+        return Math.max(1L, bucket.nanosUntilAvailable(now));
+    }
+    
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        anonymousBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        authenticatedBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+    
+    public int trackedClients() {
+        return anonymousBuckets.size() + authenticatedBuckets.size();
+    }
+    
+    // Helper methods
+    private void configure(ClientType type, double rate, int burstSize) {
+        permitsPerSecond[type.ordinal()] = rate;
+        burst[type.ordinal()] = burstSize;
+    }
+    
+    private TokenBucket bucketFor(ClientType type, String clientKey, long now) {
+        Map<String, TokenBucket> buckets = type == ClientType.ANONYMOUS ? anonymousBuckets : authenticatedBuckets;
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (type == ClientType.ANONYMOUS && buckets.size() >= maxTrackedClients) {
+            return overflowBucket;
+        }
+        return buckets.computeIfAbsent(clientKey,
+            k -> new TokenBucket(permitsPerSecond[type.ordinal()], burst[type.ordinal()], now));
+    }
+}
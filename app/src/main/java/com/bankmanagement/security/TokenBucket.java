@@ -0,0 +1,44 @@
+package com.bankmanagement.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free token bucket in GCRA form: the whole state is one theoretical arrival time
+public final class TokenBucket {
+    
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+    
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+    
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = Math.max(current, nowNanos);
+            if (arrival - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+    
+    // Nanoseconds until the next permit becomes available; 0 when one is available now
+    public long nanosUntilAvailable(long nowNanos) {
+        long wait = theoreticalArrival.get() - nowNanos - burstToleranceNanos;
+        return Math.max(0L, wait);
+    }
+    
+    // A bucket that has fully refilled holds no state worth keeping
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,50 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.security.TokenClaims.TokenType;
+
+import java.time.Instant;
+
+// A verified token: the principal rebuilt from its claims plus the metadata for revocation checks
+public final class VerifiedToken {
+    
+    private final String tokenId;
+    private final TokenType type;
+    private final PrincipalAuthorities principal;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    
+    // Constructors
+    public VerifiedToken(String tokenId, TokenType type, PrincipalAuthorities principal, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.type = type;
+        this.principal = principal;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+    
+    // Business methods
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+    
+    // Getters
+    public String getTokenId() { 
+        return tokenId; 
+    }
+    
+    public TokenType getType() { 
+        return type; 
+    }
+    
+    public PrincipalAuthorities getPrincipal() { 
+        return principal; 
+    }
+    
+    public Instant getIssuedAt() { 
+        return issuedAt; 
+    }
+    
+    public Instant getExpiresAt() { 
+        return expiresAt; 
+    }
+}
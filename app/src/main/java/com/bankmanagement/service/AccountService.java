@@ -0,0 +1,55 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Account;
+import com.bankmanagement.exception.AccountNotFoundException;
+import com.bankmanagement.metrics.DomainMetrics;
+import com.bankmanagement.repository.AccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+@Service
+@Transactional
+public class AccountService {
+    
+    private final AccountRepository accountRepository;
+    private final ActivityTouchService activityTouchService;
+    private final DomainMetrics domainMetrics;
+    
+    @Autowired
+    public AccountService(AccountRepository accountRepository, ActivityTouchService activityTouchService,
+                          DomainMetrics domainMetrics) {
+        this.accountRepository = accountRepository;
+        this.activityTouchService = activityTouchService;
+        this.domainMetrics = domainMetrics;
+    }
+    
+    public Account withdraw(Long accountId, BigDecimal amount) {
+        Account account = findAccount(accountId);
+        try {
+            account.withdraw(amount);
+        } catch (IllegalStateException e) {
+            domainMetrics.withdrawalRejected(account.getAccountStatus() != Account.AccountStatus.ACTIVE);
+            throw e;
+        }
+        activityTouchService.touchAccount(account.getId(), account.getLastActivityDate());
+        domainMetrics.withdrawalCompleted();
+        return account;
+    }
+    
+    public Account deposit(Long accountId, BigDecimal amount) {
+        Account account = findAccount(accountId);
+        account.deposit(amount);
+        activityTouchService.touchAccount(account.getId(), account.getLastActivityDate());
+        domainMetrics.depositCompleted();
+        return account;
+    }
+    
+    // Helper methods
+    private Account findAccount(Long accountId) {
+        return accountRepository.findById(accountId)
+            .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + accountId));
+    }
+}
@@ -0,0 +1,117 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.repository.ActivityTimestampRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Write-behind for last-login, last-activity and last-used timestamps. Touches are coalesced in memory,
+// keeping only the newest timestamp per row, and flushed periodically and on shutdown.
+@Service
+public class ActivityTouchService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ActivityTouchService.class);
+    
+    private final ActivityTimestampRepository activityTimestampRepository;
+    
+    private final Map<Long, LocalDateTime> userLogins = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> accountActivity = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> cardUsage = new ConcurrentHashMap<>();
+    
+    private final Counter touchCounter;
+    private final Counter rowsWrittenCounter;
+    
+    @Autowired
+    public ActivityTouchService(ActivityTimestampRepository activityTimestampRepository,
+                                MeterRegistry meterRegistry) {
+        this.activityTimestampRepository = activityTimestampRepository;
+        this.touchCounter = Counter.builder("activity.touch.requests")
+            .register(meterRegistry);
+        this.rowsWrittenCounter = Counter.builder("activity.touch.rows.written")
+            .register(meterRegistry);
+    }
+    
+    public void touchLogin(Long userId) {
+        touch(userLogins, userId, LocalDateTime.now());
+    }
+    
+    // Account and card touches come from inside transactions and count only once those commit
+    public void touchAccount(Long accountId, LocalDateTime at) {
+        afterCommit(() -> touch(accountActivity, accountId, at));
+    }
+    
+    public void touchCard(Long cardId, LocalDateTime at) {
+        afterCommit(() -> touch(cardUsage, cardId, at));
+    }
+    
+    @Scheduled(fixedDelayString = "${app.touch.flush-interval:PT5S}")
+    public void flush() {
+        flush(userLogins, activityTimestampRepository::touchLastLogin, "last login");
+        flush(accountActivity, activityTimestampRepository::touchAccountActivity, "account activity");
+        flush(cardUsage, activityTimestampRepository::touchCardUsage, "card usage");
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    // Helper methods
+    private static void afterCommit(Runnable touch) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    touch.run();
+                }
+            });
+        } else {
+            touch.run();
+        }
+    }
+    
+    private void touch(Map<Long, LocalDateTime> pending, Long id, LocalDateTime at) {
+        if (id == null || at == null) {
+            return;
+        }
+        touchCounter.increment();
+        pending.merge(id, at, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+    
+    private void flush(Map<Long, LocalDateTime> pending, Function<Map<Long, LocalDateTime>, Integer> writer, String kind) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        
+        // Remove each entry as it is taken so a touch recorded meanwhile waits for the next flush
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            LocalDateTime touchedAt = pending.remove(id);
+            if (touchedAt != null) {
+                batch.put(id, touchedAt);
+            }
+        }
+        
+        try {
+            rowsWrittenCounter.increment(writer.apply(batch));
+        } catch (RuntimeException e) {
+            // Merge back; the newest timestamp wins, so nothing recorded meanwhile is lost
+            batch.forEach((id, touchedAt) ->
+                pending.merge(id, touchedAt, (previous, current) -> current.isAfter(previous) ? current : previous));
+            log.warn("Failed to write {} {} timestamps, will retry: {}", batch.size(), kind, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Admin;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// JPA entity listener, instantiated through Hibernate's Spring bean container
+@Component
+public class AdminIpAllowlistCacheListener {
+    
+    private final ObjectProvider<AdminIpAllowlistService> allowlistService;
+    
+    @Autowired
+    public AdminIpAllowlistCacheListener(ObjectProvider<AdminIpAllowlistService> allowlistService) {
+        this.allowlistService = allowlistService;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Admin admin) {
+        allowlistService.getObject().evict(admin.getId());
+    }
+}
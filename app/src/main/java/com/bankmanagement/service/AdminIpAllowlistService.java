@@ -0,0 +1,81 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Admin;
+import com.bankmanagement.repository.UserRepository;
+import com.bankmanagement.security.CidrTrie;
+import com.bankmanagement.security.IpWhitelist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class AdminIpAllowlistService {
+    
+    public static final String CACHE_NAME = "adminIpAllowlists";
+    
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    
+    @Autowired
+    public AdminIpAllowlistService(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+    }
+    
+    // Business methods
+    public boolean isAllowed(Long adminId, String remoteAddress) {
+        return getAllowlist(adminId).contains(remoteAddress);
+    }
+    
+    // Compiled once per admin and cached; read on the primary like the other cached lookups
+    @Transactional
+    public CidrTrie getAllowlist(Long adminId) {
+        Cache cache = cache();
+        CidrTrie allowlist = cache.get(adminId, CidrTrie.class);
+        if (allowlist == null) {
+            allowlist = userRepository.findById(adminId)
+                    .filter(Admin.class::isInstance)
+                    .map(user -> IpWhitelist.compile(((Admin) user).getIpWhitelist()))
+                    // A principal that is no longer an admin gets no admin access from anywhere
+                    .orElse(CidrTrie.EMPTY);
+            cache.put(adminId, allowlist);
+        }
+        return allowlist;
+    }
+    
+    public void evict(Long adminId) {
+        if (adminId == null) {
+            return;
+        }
+        
+        // Evict after commit so a concurrent reader cannot re-cache the pre-commit whitelist. This reaches
+        // the local node only; other nodes pick the change up when their entry expires.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(adminId);
+                }
+            });
+        } else {
+            cache().evict(adminId);
+        }
+    }
+    
+    public void evictAll() {
+        cache().clear();
+    }
+    
+    // Helper methods
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,124 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.LoginRequestDto;
+import com.bankmanagement.dto.TokenResponseDto;
+import com.bankmanagement.entity.User;
+import com.bankmanagement.exception.InvalidCredentialsException;
+import com.bankmanagement.exception.InvalidTokenException;
+import com.bankmanagement.repository.UserRepository;
+import com.bankmanagement.security.JwtTokenService;
+import com.bankmanagement.security.PrincipalAuthorities;
+import com.bankmanagement.security.TokenClaims.TokenType;
+import com.bankmanagement.security.VerifiedToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class AuthService {
+    
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginAttemptService loginAttemptService;
+    private final ActivityTouchService activityTouchService;
+    private final TransactionTemplate userLookup;
+    
+    @Autowired
+    public AuthService(UserRepository userRepository,
+                       PasswordHashingService passwordHashingService,
+                       JwtTokenService jwtTokenService,
+                       TokenRevocationService tokenRevocationService,
+                       LoginAttemptService loginAttemptService,
+                       ActivityTouchService activityTouchService,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtTokenService = jwtTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.loginAttemptService = loginAttemptService;
+        this.activityTouchService = activityTouchService;
+        // Read-write so the lookup runs on the primary, which sees lock state flushed by other nodes
+        this.userLookup = new TransactionTemplate(transactionManager);
+    }
+    
+    // Not transactional: the user is read in a short transaction of its own and the password is checked
+    // after it has ended, so a login waiting for the hashing pool does not hold a pooled connection
+    public TokenResponseDto login(LoginRequestDto loginRequest, String clientAddress) {
+        String username = loginRequest.getUsername();
+        loginAttemptService.checkAllowed(username, clientAddress);
+        
+        // Roles and permissions are fetched eagerly, so the detached user still yields its authorities
+        User user = userLookup.execute(status -> userRepository.findByUsername(username).orElse(null));
+        if (user == null) {
+            loginAttemptService.recordFailure(username, null, clientAddress);
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+        if (user.isAccountLocked()) {
+            throw new InvalidCredentialsException("Account is temporarily locked");
+        }
+        if (!passwordHashingService.matches(loginRequest.getPassword(), user.getPasswordHash())) {
+            loginAttemptService.recordFailure(username, user, clientAddress);
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+        ensureCanSignIn(user);
+        
+        loginAttemptService.recordSuccess(user);
+        activityTouchService.touchLogin(user.getId());
+        return issueTokens(PrincipalAuthorities.of(user));
+    }
+    
+    // Roles and status are re-read so a refresh picks up changes made since the last login
+    @Transactional
+    public TokenResponseDto refresh(String refreshToken) {
+        VerifiedToken verified = jwtTokenService.verify(refreshToken);
+        if (verified.getType() != TokenType.REFRESH) {
+            throw new InvalidTokenException("Not a refresh token");
+        }
+        if (tokenRevocationService.isRevoked(verified)) {
+            throw new InvalidTokenException("Token has been revoked");
+        }
+        
+        User user = userRepository.findById(verified.getPrincipal().getUserId())
+            .orElseThrow(() -> new InvalidTokenException("Token subject no longer exists"));
+        if (user.isAccountLocked()) {
+            throw new InvalidTokenException("Account is temporarily locked");
+        }
+        ensureCanSignIn(user);
+        
+        // Refresh tokens are single use; of two concurrent refreshes only the one whose revocation
+        // inserted the row gets new tokens, the other is rejected like any revoked token
+        if (!tokenRevocationService.revoke(verified, "rotated")) {
+            throw new InvalidTokenException("Token has been revoked");
+        }
+        return issueTokens(PrincipalAuthorities.of(user));
+    }
+    
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        tokenRevocationService.revoke(jwtTokenService.verify(accessToken), "logout");
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            tokenRevocationService.revoke(jwtTokenService.verify(refreshToken), "logout");
+        }
+    }
+    
+    // Helper methods
+    private void ensureCanSignIn(User user) {
+        // Customers awaiting KYC may still sign in to complete verification
+        if (user.getStatus() != User.UserStatus.ACTIVE && user.getStatus() != User.UserStatus.PENDING_VERIFICATION) {
+            throw new InvalidCredentialsException("Account is " + user.getStatus().name().toLowerCase());
+        }
+    }
+    
+    private TokenResponseDto issueTokens(PrincipalAuthorities principal) {
+        TokenResponseDto response = new TokenResponseDto();
+        response.setAccessToken(jwtTokenService.issueAccessToken(principal));
+        response.setRefreshToken(jwtTokenService.issueRefreshToken(principal));
+        response.setExpiresIn(jwtTokenService.getAccessTokenTtl().toSeconds());
+        response.setUserId(principal.getUserId());
+        return response;
+    }
+}
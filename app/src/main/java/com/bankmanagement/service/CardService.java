@@ -0,0 +1,31 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Card;
+import com.bankmanagement.exception.CardNotFoundException;
+import com.bankmanagement.repository.CardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class CardService {
+    
+    private final CardRepository cardRepository;
+    private final ActivityTouchService activityTouchService;
+    
+    @Autowired
+    public CardService(CardRepository cardRepository, ActivityTouchService activityTouchService) {
+        this.cardRepository = cardRepository;
+        this.activityTouchService = activityTouchService;
+    }
+    
+    // last_used_date is not written by the entity, so a swipe alone never bumps the card's version
+    public Card recordUse(Long cardId) {
+        Card card = cardRepository.findById(cardId)
+            .orElseThrow(() -> new CardNotFoundException("Card not found with id: " + cardId));
+        card.updateLastUsed();
+        activityTouchService.touchCard(card.getId(), card.getLastUsedDate());
+        return card;
+    }
+}
@@ -0,0 +1,270 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.CreditScoreRunDto;
+import com.bankmanagement.exception.CreditScoreRunInProgressException;
+import com.bankmanagement.repository.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class CreditScoreEngine {
+    
+    private static final Logger log = LoggerFactory.getLogger(CreditScoreEngine.class);
+    
+    public static final int MIN_SCORE = 300;
+    public static final int MAX_SCORE = 850;
+    private static final int BASE_SCORE = 550;
+    
+    // Advisory lock key shared by every node; only the holder runs a recomputation
+    static final long RUN_LOCK_KEY = 0x6372656469745f31L;
+    
+    private final CustomerRepository customerRepository;
+    private final CustomerFinancialSummaryService financialSummaryService;
+    private final CacheManager cacheManager;
+    private final DataSource dataSource;
+    private final ExecutorService executor;
+    private final ExecutorService coordinator;
+    private final long partitionSize;
+    private final Duration activityWindow;
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    private final Timer runTimer;
+    private final Counter updatedCounter;
+    
+    @Autowired
+    public CreditScoreEngine(CustomerRepository customerRepository,
+                             CustomerFinancialSummaryService financialSummaryService,
+                             CacheManager cacheManager,
+                             DataSource dataSource,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.customer.credit-score.parallelism:4}") int parallelism,
+                             @Value("${app.customer.credit-score.partition-size:10000}") long partitionSize,
+                             @Value("${app.customer.credit-score.activity-window:P365D}") Duration activityWindow) {
+        this.customerRepository = customerRepository;
+        this.financialSummaryService = financialSummaryService;
+        this.cacheManager = cacheManager;
+        this.dataSource = dataSource;
+        this.partitionSize = partitionSize;
+        this.activityWindow = activityWindow;
+        
+        // Each worker holds a connection while it reads or writes a partition and the run lock holds one more,
+        // so keep this below the pool size
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "credit-score-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Runs are coordinated off the caller's thread so neither the scheduler nor a request waits on them
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "credit-score-run");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        this.runTimer = Timer.builder("credit.score.rescore.duration")
+            .description("Wall-clock time of a full credit score recomputation")
+            .register(meterRegistry);
+        this.updatedCounter = Counter.builder("credit.score.rescore.updated")
+            .description("Customers whose credit score changed during recomputation")
+            .register(meterRegistry);
+    }
+    
+    @Scheduled(cron = "${app.customer.credit-score.cron:0 0 2 * * *}")
+    public void scheduledRescore() {
+        try {
+            startRescore();
+        } catch (CreditScoreRunInProgressException e) {
+            log.warn("Skipping scheduled credit score run: {}", e.getMessage());
+        }
+    }
+    
+    // Starts a full recomputation in the background; the future completes with the run's totals
+    public CompletableFuture<CreditScoreRunDto> startRescore() {
+        if (!running.compareAndSet(false, true)) {
+            throw new CreditScoreRunInProgressException("A credit score recomputation is already running");
+        }
+        
+        Connection lockConnection = null;
+        try {
+            lockConnection = acquireRunLock();
+            Connection heldLock = lockConnection;
+            return CompletableFuture.supplyAsync(this::rescoreAll, coordinator)
+                .whenComplete((run, failure) -> {
+                    releaseRunLock(heldLock);
+                    running.set(false);
+                    if (failure != null) {
+                        log.error("Credit score recomputation failed", failure);
+                    }
+                });
+        } catch (RuntimeException e) {
+            releaseRunLock(lockConnection);
+            running.set(false);
+            throw e;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        executor.shutdownNow();
+    }
+    
+    // Helper methods
+    
+    // Session-level advisory lock on a connection of its own, held until the run ends; outside a
+    // transaction the routing data source hands out a primary connection. The lock is released by the
+    // server if this node dies, so a crashed run never blocks the next one.
+    private Connection acquireRunLock() {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, RUN_LOCK_KEY);
+                try (ResultSet result = statement.executeQuery()) {
+                    if (result.next() && result.getBoolean(1)) {
+                        return connection;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new CreditScoreRunInProgressException("Could not take the credit score run lock", e);
+        }
+        closeQuietly(connection);
+        throw new CreditScoreRunInProgressException("A credit score recomputation is already running on another node");
+    }
+    
+    private void releaseRunLock(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, RUN_LOCK_KEY);
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Could not release the credit score run lock; the server drops it when the session ends", e);
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+    
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Could not close the credit score lock connection", e);
+        }
+    }
+    
+    private CreditScoreRunDto rescoreAll() {
+        long startedAt = System.nanoTime();
+        CreditScoreRunDto run = new CreditScoreRunDto();
+        run.setPartitions(0);
+        AtomicLong scored = new AtomicLong();
+        AtomicLong updated = new AtomicLong();
+        boolean completed = false;
+        
+        try {
+            long[] range = customerRepository.findCustomerIdRange();
+            if (range != null) {
+                LocalDateTime activitySince = LocalDateTime.now().minus(activityWindow);
+                List<CompletableFuture<Void>> partitions = new ArrayList<>();
+                for (long fromId = range[0]; fromId <= range[1]; fromId += partitionSize) {
+                    long from = fromId;
+                    long to = fromId + partitionSize;
+                    partitions.add(CompletableFuture.supplyAsync(() -> rescorePartition(from, to, activitySince), executor)
+                        .thenAccept(counts -> {
+                            scored.addAndGet(counts[0]);
+                            updated.addAndGet(counts[1]);
+                        }));
+                }
+                run.setPartitions(partitions.size());
+                
+                // allOf waits for every partition, failed or not, before the caches are cleared below
+                CompletableFuture.allOf(partitions.toArray(new CompletableFuture<?>[0])).join();
+            }
+            completed = true;
+        } finally {
+            // A failed partition may have committed some of its batches, so clear on failure too.
+            // Bulk JDBC writes bypass the entity listener and per-key eviction; one clear per run is cheaper.
+            // The clear is local to this node; other nodes' entries expire on their cache TTLs.
+            if (updated.get() > 0 || !completed) {
+                cacheManager.getCache("customers").clear();
+                cacheManager.getCache("customerVersions").clear();
+                financialSummaryService.evictAll();
+            }
+        }
+        
+        long elapsed = System.nanoTime() - startedAt;
+        run.setScored(scored.get());
+        run.setUpdated(updated.get());
+        runTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        updatedCounter.increment(run.getUpdated());
+        run.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        log.info("Credit scores recomputed: {} partitions, {} scored, {} changed in {} ms",
+            run.getPartitions(), run.getScored(), run.getUpdated(), run.getDurationMillis());
+        return run;
+    }
+    
+    private long[] rescorePartition(long fromId, long toId, LocalDateTime activitySince) {
+        Map<Long, Integer> scores = new HashMap<>();
+        customerRepository.forEachCreditScoreInput(fromId, toId, activitySince,
+            (id, activeBalance, completedDebits, failedDebits, onTimePayments, latePayments, defaultedLoans) ->
+                scores.put(id, score(activeBalance, completedDebits, failedDebits, onTimePayments, latePayments, defaultedLoans)));
+        
+        int updated = customerRepository.updateCreditScores(scores);
+        return new long[] { scores.size(), updated };
+    }
+    
+    static int score(BigDecimal activeBalance, int completedDebits, int failedDebits,
+                     int onTimePayments, int latePayments, int defaultedLoans) {
+        double score = BASE_SCORE;
+        
+        // Balance counts logarithmically: 10k adds about 50 points, 1M about 100
+        double balance = Math.max(0, activeBalance.doubleValue());
+        score += Math.min(150, 25 * Math.log10(1 + balance / 100));
+        
+        score += Math.min(50, completedDebits / 4.0);
+        score -= Math.min(100, failedDebits * 10);
+        
+        score += Math.min(100, onTimePayments * 2);
+        score -= Math.min(150, latePayments * 15);
+        score -= Math.min(300, defaultedLoans * 150);
+        
+        return (int) Math.max(MIN_SCORE, Math.min(MAX_SCORE, Math.round(score)));
+    }
+}
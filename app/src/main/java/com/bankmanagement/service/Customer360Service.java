@@ -0,0 +1,152 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.AccountDto;
+import com.bankmanagement.dto.CardDto;
+import com.bankmanagement.dto.Customer360Dto;
+import com.bankmanagement.dto.LoanDto;
+import com.bankmanagement.dto.TransactionDto;
+import com.bankmanagement.entity.Account;
+import com.bankmanagement.entity.Card;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Loan;
+import com.bankmanagement.entity.Transaction;
+import com.bankmanagement.exception.CustomerNotFoundException;
+import com.bankmanagement.repository.CardRepository;
+import com.bankmanagement.repository.CustomerRepository;
+import com.bankmanagement.repository.LoanRepository;
+import com.bankmanagement.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+public class Customer360Service {
+    
+    public static final int MAX_RECENT_TRANSACTIONS = 100;
+    
+    private final CustomerRepository customerRepository;
+    private final CardRepository cardRepository;
+    private final LoanRepository loanRepository;
+    private final TransactionRepository transactionRepository;
+    
+    @Autowired
+    public Customer360Service(CustomerRepository customerRepository,
+                              CardRepository cardRepository,
+                              LoanRepository loanRepository,
+                              TransactionRepository transactionRepository) {
+        this.customerRepository = customerRepository;
+        this.cardRepository = cardRepository;
+        this.loanRepository = loanRepository;
+        this.transactionRepository = transactionRepository;
+    }
+    
+    // At most four queries: customer with accounts, cards, loans, recent transactions
+    public Customer360Dto getCustomer360(Long id, int recentTransactions) {
+        Customer customer = customerRepository.findWithAccountsById(id)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        
+        Customer360Dto dto = new Customer360Dto();
+        dto.setCustomer(CustomerService.mapToDto(customer));
+        
+        Map<Long, AccountDto> accounts = new LinkedHashMap<>();
+        for (Account account : customer.getAccounts()) {
+            accounts.put(account.getId(), mapAccount(account));
+        }
+        
+        // Cards are fetched per customer and attached by account id, so Account.cards is never walked
+        for (Card card : cardRepository.findByCustomerId(id)) {
+            AccountDto account = accounts.get(card.getAccount().getId());
+            if (account != null) {
+                account.getCards().add(mapCard(card));
+            }
+        }
+        dto.setAccounts(List.copyOf(accounts.values()));
+        
+        dto.setLoans(loanRepository.findByCustomerId(id).stream().map(this::mapLoan).toList());
+        
+        int limit = Math.max(0, Math.min(recentTransactions, MAX_RECENT_TRANSACTIONS));
+        if (!accounts.isEmpty() && limit > 0) {
+            dto.setRecentTransactions(transactionRepository
+                .findRecentByAccountIds(accounts.keySet(), PageRequest.of(0, limit))
+                .stream().map(this::mapTransaction).toList());
+        }
+        
+        return dto;
+    }
+    
+    // Helper methods
+    private AccountDto mapAccount(Account account) {
+        AccountDto dto = new AccountDto();
+        dto.setId(account.getId());
+        dto.setAccountNumber(account.getAccountNumber());
+        dto.setAccountType(account.getAccountType());
+        dto.setAccountStatus(account.getAccountStatus());
+        dto.setBalance(account.getBalance());
+        dto.setCurrency(account.getCurrency());
+        dto.setInterestRate(account.getInterestRate());
+        dto.setMinimumBalance(account.getMinimumBalance());
+        dto.setOpeningDate(account.getOpeningDate());
+        dto.setLastActivityDate(account.getLastActivityDate());
+        return dto;
+    }
+    
+    private CardDto mapCard(Card card) {
+        CardDto dto = new CardDto();
+        dto.setId(card.getId());
+        dto.setAccountId(card.getAccount().getId());
+        dto.setMaskedCardNumber(maskCardNumber(card.getCardNumber()));
+        dto.setCardHolderName(card.getCardHolderName());
+        dto.setCardType(card.getCardType());
+        dto.setCardStatus(card.getCardStatus());
+        dto.setExpiryDate(card.getExpiryDate());
+        dto.setDailyLimit(card.getDailyLimit());
+        dto.setMonthlyLimit(card.getMonthlyLimit());
+        dto.setLastUsedDate(card.getLastUsedDate());
+        return dto;
+    }
+    
+    private LoanDto mapLoan(Loan loan) {
+        LoanDto dto = new LoanDto();
+        dto.setId(loan.getId());
+        dto.setLoanNumber(loan.getLoanNumber());
+        dto.setLoanType(loan.getLoanType());
+        dto.setStatus(loan.getStatus());
+        dto.setPrincipalAmount(loan.getPrincipalAmount());
+        dto.setInterestRate(loan.getInterestRate());
+        dto.setLoanTermMonths(loan.getLoanTermMonths());
+        dto.setMonthlyPayment(loan.getMonthlyPayment());
+        dto.setOutstandingBalance(loan.getOutstandingBalance());
+        dto.setDueDate(loan.getDueDate());
+        return dto;
+    }
+    
+    private TransactionDto mapTransaction(Transaction transaction) {
+        // Reading the id of a lazy association does not initialize it
+        TransactionDto dto = new TransactionDto();
+        dto.setId(transaction.getId());
+        dto.setTransactionId(transaction.getTransactionId());
+        dto.setFromAccountId(transaction.getFromAccount() != null ? transaction.getFromAccount().getId() : null);
+        dto.setToAccountId(transaction.getToAccount() != null ? transaction.getToAccount().getId() : null);
+        dto.setTransactionType(transaction.getTransactionType());
+        dto.setStatus(transaction.getStatus());
+        dto.setAmount(transaction.getAmount());
+        dto.setCurrency(transaction.getCurrency());
+        dto.setFeeAmount(transaction.getFeeAmount());
+        dto.setDescription(transaction.getDescription());
+        dto.setTransactionDate(transaction.getTransactionDate());
+        return dto;
+    }
+    
+    private static String maskCardNumber(String cardNumber) {
+        if (cardNumber == null || cardNumber.length() < 4) {
+            return cardNumber;
+        }
+        return "*".repeat(cardNumber.length() - 4) + cardNumber.substring(cardNumber.length() - 4);
+    }
+}
@@ -0,0 +1,154 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.CustomerFinancialSummaryDto;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.exception.BatchTooLargeException;
+import com.bankmanagement.exception.CustomerNotFoundException;
+import com.bankmanagement.repository.AccountRepository;
+import com.bankmanagement.repository.CustomerRepository;
+import com.bankmanagement.repository.LoanRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class CustomerFinancialSummaryService {
+    
+    public static final String CACHE_NAME = "customerFinancialSummaries";
+    
+    public static final int MAX_BATCH_SIZE = 500;
+    
+    private final CustomerRepository customerRepository;
+    private final AccountRepository accountRepository;
+    private final LoanRepository loanRepository;
+    private final CacheManager cacheManager;
+    
+    @Autowired
+    public CustomerFinancialSummaryService(CustomerRepository customerRepository,
+                                           AccountRepository accountRepository,
+                                           LoanRepository loanRepository,
+                                           CacheManager cacheManager) {
+        this.customerRepository = customerRepository;
+        this.accountRepository = accountRepository;
+        this.loanRepository = loanRepository;
+        this.cacheManager = cacheManager;
+    }
+    
+    // Results are cached, so they are computed on the primary rather than a possibly lagging replica
+    @Transactional
+    public CustomerFinancialSummaryDto getSummary(Long customerId) {
+        CustomerFinancialSummaryDto summary = getSummaries(List.of(customerId)).get(customerId);
+        if (summary == null) {
+            throw new CustomerNotFoundException("Customer not found with id: " + customerId);
+        }
+        return summary;
+    }
+    
+    // Summaries keyed by customer id, in request order; unknown ids are left out
+    @Transactional
+    public Map<Long, CustomerFinancialSummaryDto> getSummaries(Collection<Long> customerIds) {
+        Set<Long> ids = new LinkedHashSet<>(customerIds);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException("At most " + MAX_BATCH_SIZE + " customers per request");
+        }
+        
+        Cache cache = cache();
+        Map<Long, CustomerFinancialSummaryDto> cached = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            CustomerFinancialSummaryDto summary = cache.get(id, CustomerFinancialSummaryDto.class);
+            if (summary != null) {
+                cached.put(id, summary);
+            } else {
+                misses.add(id);
+            }
+        }
+        
+        if (!misses.isEmpty()) {
+            for (CustomerFinancialSummaryDto summary : computeSummaries(misses)) {
+                cache.put(summary.getCustomerId(), summary);
+                cached.put(summary.getCustomerId(), summary);
+            }
+        }
+        
+        Map<Long, CustomerFinancialSummaryDto> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            CustomerFinancialSummaryDto summary = cached.get(id);
+            if (summary != null) {
+                result.put(id, summary);
+            }
+        }
+        return result;
+    }
+    
+    public void evict(Long customerId) {
+        if (customerId == null) {
+            return;
+        }
+        
+        // Evict after commit so a concurrent reader cannot re-cache the pre-commit state
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(customerId);
+                }
+            });
+        } else {
+            cache().evict(customerId);
+        }
+    }
+    
+    public void evictAll() {
+        cache().clear();
+    }
+    
+    // Helper methods
+    private List<CustomerFinancialSummaryDto> computeSummaries(Collection<Long> customerIds) {
+        // Three set-based queries regardless of how many customers are requested
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (Object[] row : accountRepository.getTotalBalanceByCustomers(customerIds)) {
+            balances.put((Long) row[0], (BigDecimal) row[1]);
+        }
+        Set<Long> withActiveLoan = new HashSet<>(loanRepository.findCustomerIdsWithActiveLoan(customerIds));
+        
+        List<CustomerFinancialSummaryDto> summaries = new ArrayList<>(customerIds.size());
+        for (Object[] row : customerRepository.findCreditProfiles(customerIds)) {
+            Long id = (Long) row[0];
+            Integer creditScore = (Integer) row[1];
+            Boolean kycVerified = (Boolean) row[2];
+            boolean hasActiveLoan = withActiveLoan.contains(id);
+            
+            CustomerFinancialSummaryDto summary = new CustomerFinancialSummaryDto();
+            summary.setCustomerId(id);
+            summary.setTotalBalance(balances.getOrDefault(id, BigDecimal.ZERO));
+            summary.setHasActiveLoan(hasActiveLoan);
+            summary.setCreditScore(creditScore);
+            summary.setKycVerified(kycVerified);
+            summary.setEligibleForLoan(creditScore != null && creditScore >= Customer.MIN_LOAN_CREDIT_SCORE
+                && Boolean.TRUE.equals(kycVerified) && !hasActiveLoan);
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+    
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
@@ -0,0 +1,135 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.repository.CustomerRepository;
+import com.bankmanagement.util.RadixTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Optional in-memory prefix index over customer names, emails and phone numbers. Disabled by default; when
+// enabled it is loaded in the background after startup and kept current by CustomerService.
+@Service
+public class CustomerSearchIndex {
+    
+    private static final Logger log = LoggerFactory.getLogger(CustomerSearchIndex.class);
+    
+    private static final Pattern PHONE_TERM = Pattern.compile("\\+?[0-9 ().-]+");
+    private static final int MIN_PHONE_QUERY_DIGITS = 2;
+    
+    private final CustomerRepository customerRepository;
+    private final boolean enabled;
+    private final RadixTree tree = new RadixTree();
+    private volatile boolean ready;
+    
+    @Autowired
+    public CustomerSearchIndex(CustomerRepository customerRepository,
+                               @Value("${app.customer.search.in-memory-index.enabled:false}") boolean enabled) {
+        this.customerRepository = customerRepository;
+        this.enabled = enabled;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public Set<Long> findByPrefix(String term, int limit) {
+        String key = normalize(term);
+        Set<Long> ids = tree.findByPrefix(key, limit);
+        String digits = phoneQuery(term);
+        if (ids.size() < limit && digits != null) {
+            ids.addAll(tree.findByPrefix(digits, limit - ids.size()));
+        }
+        return ids;
+    }
+    
+    public List<String> keysOf(Customer customer) {
+        return keys(customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getPhoneNumber());
+    }
+    
+    public void index(Customer customer) {
+        if (enabled) {
+            keysOf(customer).forEach(key -> tree.put(key, customer.getId()));
+        }
+    }
+    
+    public void reindex(Long id, List<String> previousKeys, Customer customer) {
+        if (!enabled) {
+            return;
+        }
+        
+        List<String> keys = keysOf(customer);
+        previousKeys.stream().filter(key -> !keys.contains(key)).forEach(key -> tree.remove(key, id));
+        keys.forEach(key -> tree.put(key, id));
+    }
+    
+    // Searches use SQL until the load finishes, so startup and readiness do not wait for a full table scan
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        
+        long started = System.currentTimeMillis();
+        try {
+            customerRepository.forEachSearchKey((id, firstName, lastName, email, phoneNumber) ->
+                keys(firstName, lastName, email, phoneNumber).forEach(key -> tree.put(key, id)));
+        } catch (RuntimeException e) {
+            log.error("Failed to load the customer search index; searches keep using SQL", e);
+            return;
+        }
+        ready = true;
+        log.info("Loaded {} customer search keys in {} ms", tree.size(), System.currentTimeMillis() - started);
+    }
+    
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    // Stored phone numbers are keyed by their digits, whatever punctuation they were entered with
+    static String phoneKey(String value) {
+        if (value == null) {
+            return null;
+        }
+        String digits = value.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : digits;
+    }
+    
+    // The digits of a search term made only of phone characters, so "a1" or "smith2" never match phones
+    static String phoneQuery(String term) {
+        if (term == null || !PHONE_TERM.matcher(term.trim()).matches()) {
+            return null;
+        }
+        String digits = phoneKey(term);
+        return digits != null && digits.length() >= MIN_PHONE_QUERY_DIGITS ? digits : null;
+    }
+    
+    // Helper methods
+    private static List<String> keys(String firstName, String lastName, String email, String phoneNumber) {
+        List<String> keys = new ArrayList<>(5);
+        addKey(keys, normalize(firstName));
+        addKey(keys, normalize(lastName));
+        addKey(keys, normalize(firstName) + " " + normalize(lastName));
+        addKey(keys, normalize(email));
+        addKey(keys, phoneKey(phoneNumber));
+        return keys;
+    }
+    
+    private static void addKey(List<String> keys, String key) {
+        if (key != null && !key.isBlank() && !keys.contains(key)) {
+            keys.add(key);
+        }
+    }
+}
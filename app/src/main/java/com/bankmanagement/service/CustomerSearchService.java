@@ -0,0 +1,92 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.repository.CustomerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class CustomerSearchService {
+    
+    private static final int MAX_LIMIT = 100;
+    
+    // The in-memory index over-fetches so ranking has a pool to choose from
+    private static final int INDEX_CANDIDATE_FACTOR = 4;
+    
+    private final CustomerRepository customerRepository;
+    private final CustomerSearchIndex searchIndex;
+    
+    @Autowired
+    public CustomerSearchService(CustomerRepository customerRepository, CustomerSearchIndex searchIndex) {
+        this.customerRepository = customerRepository;
+        this.searchIndex = searchIndex;
+    }
+    
+    public List<CustomerDto> search(String query, int limit) {
+        String term = CustomerSearchIndex.normalize(query);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (term.length() < 2) {
+            return List.of();
+        }
+        
+        // The index matches prefixes only: phone digits must start the number, and there is no trigram
+        // fallback, so misspelt names that SQL would find through similarity are not found here
+        if (searchIndex.isReady()) {
+            List<Long> candidates = List.copyOf(searchIndex.findByPrefix(term, boundedLimit * INDEX_CANDIDATE_FACTOR));
+            return customerRepository.findAllById(candidates).stream()
+                .sorted(Comparator.comparingInt((Customer customer) -> score(customer, term)).reversed()
+                    .thenComparing(Customer::getId))
+                .limit(boundedLimit)
+                .map(CustomerService::mapToDto)
+                .toList();
+        }
+        
+        String phoneDigits = CustomerSearchIndex.phoneQuery(term);
+        List<Long> ids = customerRepository.searchCustomerIds(term, escapeLike(term) + "%",
+            phoneDigits != null ? "%" + phoneDigits + "%" : null, boundedLimit);
+        Map<Long, Customer> customers = customerRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        return ids.stream()
+            .map(customers::get)
+            .filter(customer -> customer != null)
+            .map(CustomerService::mapToDto)
+            .toList();
+    }
+    
+    // Helper methods
+    private static int score(Customer customer, String term) {
+        String firstName = CustomerSearchIndex.normalize(customer.getFirstName());
+        String lastName = CustomerSearchIndex.normalize(customer.getLastName());
+        String email = CustomerSearchIndex.normalize(customer.getEmail());
+        
+        if (term.equals(lastName) || term.equals(firstName) || term.equals(email)) {
+            return 100;
+        }
+        if (lastName.startsWith(term)) {
+            return 80;
+        }
+        if (firstName.startsWith(term)) {
+            return 70;
+        }
+        if ((firstName + " " + lastName).startsWith(term)) {
+            return 65;
+        }
+        if (email.startsWith(term)) {
+            return 60;
+        }
+        return 50;
+    }
+    
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
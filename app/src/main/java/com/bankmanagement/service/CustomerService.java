@@ -0,0 +1,390 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.BulkCustomerRegistrationDto;
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.dto.CustomerRegistrationDto;
+import com.bankmanagement.dto.CustomerVersionDto;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.User;
+import com.bankmanagement.repository.CustomerRepository;
+import com.bankmanagement.exception.CustomerNotFoundException;
+import com.bankmanagement.exception.CustomerVersionMismatchException;
+import com.bankmanagement.exception.DuplicateCustomerException;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@Validated
+@Transactional(readOnly = true)
+public class CustomerService {
+    
+    // SQLSTATE for unique_violation
+    private static final String UNIQUE_VIOLATION = "23505";
+    
+    private final CustomerRepository customerRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final CustomerUniquenessChecker uniquenessChecker;
+    private final CustomerSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    
+    @Autowired
+    public CustomerService(CustomerRepository customerRepository, 
+                         PasswordHashingService passwordHashingService,
+                         CustomerUniquenessChecker uniquenessChecker,
+                         CustomerSearchIndex searchIndex,
+                         EntityManager entityManager) {
+        this.customerRepository = customerRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.uniquenessChecker = uniquenessChecker;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+    }
+    
+    // Cached lookups read from the primary so a lagging replica cannot re-cache a row just evicted
+    @Transactional
+    @Cacheable(value = "customers", key = "#id")
+    public CustomerDto getCustomerById(Long id) {
+        Customer customer = customerRepository.findById(id)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        
+        return mapToDto(customer);
+    }
+    
+    // Version-only lookup for conditional requests; never loads the entity
+    @Transactional
+    @Cacheable(value = "customerVersions", key = "#id")
+    public CustomerVersionDto getCustomerVersion(Long id) {
+        return customerRepository.findVersionById(id)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+    }
+    
+    @Transactional
+    @Cacheable(value = "customers", key = "#username")
+    public CustomerDto getCustomerByUsername(String username) {
+        Customer customer = customerRepository.findByUsername(username)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with username: " + username));
+        
+        return mapToDto(customer);
+    }
+    
+    public CustomerDto getCustomerByCustomerId(String customerId) {
+        Customer customer = customerRepository.findByCustomerId(customerId)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with customer ID: " + customerId));
+        
+        return mapToDto(customer);
+    }
+    
+    public Page<CustomerDto> getAllCustomers(Pageable pageable) {
+        Page<Customer> customers = customerRepository.findAll(pageable);
+        return customers.map(CustomerService::mapToDto);
+    }
+    
+    // Sparse fieldsets are read straight into the DTO and bypass the customer cache
+    public CustomerDto getCustomerById(Long id, Set<String> fields) {
+        return customerRepository.findProjectedById(id, fields)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+    }
+    
+    public Page<CustomerDto> getAllCustomers(Pageable pageable, Set<String> fields) {
+        return customerRepository.findProjected(pageable, fields);
+    }
+    
+    public List<CustomerDto> getCustomersByType(Customer.CustomerType customerType) {
+        List<Customer> customers = customerRepository.findByCustomerType(customerType);
+        return customers.stream().map(CustomerService::mapToDto).toList();
+    }
+    
+    public List<CustomerDto> getActiveVerifiedCustomers() {
+        List<Customer> customers = customerRepository.findActiveVerifiedCustomers();
+        return customers.stream().map(CustomerService::mapToDto).toList();
+    }
+    
+    public void streamCustomersByType(Customer.CustomerType customerType, Consumer<CustomerDto> consumer) {
+        try (Stream<Customer> customers = customerRepository.streamByCustomerType(customerType)) {
+            forEachDetached(customers, consumer);
+        }
+    }
+    
+    public void streamActiveVerifiedCustomers(Consumer<CustomerDto> consumer) {
+        try (Stream<Customer> customers = customerRepository.streamActiveVerifiedCustomers()) {
+            forEachDetached(customers, consumer);
+        }
+    }
+    
+    @Transactional
+    @CacheEvict(value = "customers", allEntries = true)
+    public CustomerDto createCustomer(@Valid CustomerRegistrationDto registrationDto) {
+        // Validate unique constraints
+        if (uniquenessChecker.usernameExists(registrationDto.getUsername())) {
+            throw new DuplicateCustomerException("Username already exists: " + registrationDto.getUsername());
+        }
+        
+        if (uniquenessChecker.emailExists(registrationDto.getEmail())) {
+            throw new DuplicateCustomerException("Email already exists: " + registrationDto.getEmail());
+        }
+        
+        // Create new customer
+        Customer customer = newCustomer(registrationDto, passwordHashingService.encode(registrationDto.getPassword()));
+        
+        // Flushed here so a row another node inserted since the filters were built surfaces as a 409
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOr(e, "Username or email already exists: " + registrationDto.getUsername());
+        }
+        uniquenessChecker.register(savedCustomer);
+        searchIndex.index(savedCustomer);
+        
+        return mapToDto(savedCustomer);
+    }
+    
+    @Transactional
+    @CacheEvict(value = "customers", allEntries = true)
+    public List<CustomerDto> createCustomers(@Valid BulkCustomerRegistrationDto bulkRegistrationDto) {
+        List<CustomerRegistrationDto> registrations = bulkRegistrationDto.getCustomers();
+        
+        // Validate unique constraints within the batch, then against the database in a single query
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> duplicates = new TreeSet<>();
+        for (CustomerRegistrationDto registration : registrations) {
+            if (!usernames.add(registration.getUsername())) {
+                duplicates.add(registration.getUsername());
+            }
+            if (!emails.add(registration.getEmail())) {
+                duplicates.add(registration.getEmail());
+            }
+        }
+        
+        // Only values the Bloom filters cannot rule out need to go to the database
+        List<String> candidateUsernames = usernames.stream().filter(uniquenessChecker::mightContainUsername).toList();
+        List<String> candidateEmails = emails.stream().filter(uniquenessChecker::mightContainEmail).toList();
+        if (!candidateUsernames.isEmpty() || !candidateEmails.isEmpty()) {
+            for (Object[] existing : customerRepository.findExistingUsernamesAndEmails(
+                    nonEmpty(candidateUsernames), nonEmpty(candidateEmails))) {
+                if (usernames.contains((String) existing[0])) {
+                    duplicates.add((String) existing[0]);
+                }
+                if (emails.contains((String) existing[1])) {
+                    duplicates.add((String) existing[1]);
+                }
+            }
+        }
+        
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateCustomerException("Username or email already exists: " + String.join(", ", duplicates));
+        }
+        
+        // Hash passwords on the bounded hashing pool instead of serially on the request thread
+        List<String> passwordHashes = passwordHashingService.encodeAll(registrations.stream()
+            .map(CustomerRegistrationDto::getPassword)
+            .toList());
+        
+        List<Customer> customers = new ArrayList<>(registrations.size());
+        for (int i = 0; i < registrations.size(); i++) {
+            customers.add(newCustomer(registrations.get(i), passwordHashes.get(i)));
+        }
+        
+        List<Customer> inserted;
+        try {
+            inserted = customerRepository.batchInsert(customers);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOr(e, "Username or email already exists in this batch");
+        }
+        
+        for (Customer customer : inserted) {
+            uniquenessChecker.register(customer);
+            searchIndex.index(customer);
+        }
+        
+        return customers.stream().map(CustomerService::mapToDto).toList();
+    }
+    
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "customers", key = "#id"),
+        @CacheEvict(value = "customerVersions", key = "#id")
+    })
+    public CustomerDto updateCustomer(Long id, CustomerDto customerDto, Long expectedVersion) {
+        Customer customer = customerRepository.findById(id)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        
+        if (expectedVersion != null && !expectedVersion.equals(customer.getVersion())) {
+            throw new CustomerVersionMismatchException("Customer " + id + " is at version " + customer.getVersion()
+                + ", expected " + expectedVersion);
+        }
+        
+        if (customerDto.getEmail() != null && !customerDto.getEmail().equals(customer.getEmail())
+                && uniquenessChecker.emailExists(customerDto.getEmail())) {
+            throw new DuplicateCustomerException("Email already exists: " + customerDto.getEmail());
+        }
+        
+        List<String> previousSearchKeys = searchIndex.keysOf(customer);
+        
+        // Update fields
+        customer.setFirstName(customerDto.getFirstName());
+        customer.setLastName(customerDto.getLastName());
+        customer.setEmail(customerDto.getEmail());
+        customer.setPhoneNumber(customerDto.getPhoneNumber());
+        customer.setDateOfBirth(customerDto.getDateOfBirth());
+        customer.setGender(customerDto.getGender());
+        customer.setAddress(customerDto.getAddress());
+        customer.setAnnualIncome(customerDto.getAnnualIncome());
+        customer.setEmploymentStatus(customerDto.getEmploymentStatus());
+        customer.setEmployerName(customerDto.getEmployerName());
+        
+        Customer updatedCustomer;
+        try {
+            // Flush here so the version check runs now and the response carries the new version
+            updatedCustomer = customerRepository.saveAndFlush(customer);
+        } catch (OptimisticLockingFailureException e) {
+            throw new CustomerVersionMismatchException("Customer " + id + " was modified concurrently", e);
+        } catch (DataIntegrityViolationException e) {
+            // Another node may have taken the email since the filters were built
+            throw duplicateOr(e, "Email already exists: " + customerDto.getEmail());
+        }
+        uniquenessChecker.registerEmail(updatedCustomer.getEmail());
+        searchIndex.reindex(id, previousSearchKeys, updatedCustomer);
+        
+        return mapToDto(updatedCustomer);
+    }
+    
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "customers", key = "#id"),
+        @CacheEvict(value = "customerVersions", key = "#id")
+    })
+    public void deleteCustomer(Long id) {
+        Customer customer = customerRepository.findById(id)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        
+        customer.setStatus(User.UserStatus.INACTIVE);
+        customerRepository.save(customer);
+    }
+    
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "customers", key = "#id"),
+        @CacheEvict(value = "customerVersions", key = "#id")
+    })
+    public CustomerDto verifyKyc(Long id, Long verifiedBy) {
+        Customer customer = customerRepository.findById(id)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        
+        customer.setKycVerified(true);
+        customer.setKycVerifiedAt(LocalDateTime.now());
+        customer.setKycVerifiedBy(verifiedBy);
+        customer.setStatus(User.UserStatus.ACTIVE);
+        
+        Customer updatedCustomer = customerRepository.saveAndFlush(customer);
+        
+        return mapToDto(updatedCustomer);
+    }
+    
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "customers", key = "#id"),
+        @CacheEvict(value = "customerVersions", key = "#id")
+    })
+    public CustomerDto updateCreditScore(Long id, Integer creditScore) {
+        Customer customer = customerRepository.findById(id)
+            .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        
+        customer.setCreditScore(creditScore);
+        Customer updatedCustomer = customerRepository.saveAndFlush(customer);
+        
+        return mapToDto(updatedCustomer);
+    }
+    
+    // Helper methods
+    // Unique violations become a 409; other integrity violations are left as they are
+    private static RuntimeException duplicateOr(DataIntegrityViolationException e, String message) {
+        if (e instanceof DuplicateKeyException) {
+            return new DuplicateCustomerException(message, e);
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException && UNIQUE_VIOLATION.equals(((SQLException) cause).getSQLState())) {
+                return new DuplicateCustomerException(message, e);
+            }
+        }
+        return e;
+    }
+    
+    private static List<String> nonEmpty(List<String> values) {
+        // An empty IN list is invalid SQL on some databases; NULL never matches
+        return values.isEmpty() ? Collections.singletonList(null) : values;
+    }
+    
+    private Customer newCustomer(CustomerRegistrationDto registrationDto, String passwordHash) {
+        Customer customer = new Customer();
+        customer.setUsername(registrationDto.getUsername());
+        customer.setPasswordHash(passwordHash);
+        customer.setFirstName(registrationDto.getFirstName());
+        customer.setLastName(registrationDto.getLastName());
+        customer.setEmail(registrationDto.getEmail());
+        customer.setPhoneNumber(registrationDto.getPhoneNumber());
+        customer.setDateOfBirth(registrationDto.getDateOfBirth());
+        customer.setGender(registrationDto.getGender());
+        customer.setAddress(registrationDto.getAddress());
+        customer.setStatus(User.UserStatus.PENDING_VERIFICATION);
+        return customer;
+    }
+    
+    private void forEachDetached(Stream<Customer> customers, Consumer<CustomerDto> consumer) {
+        // Detach each row once mapped so the persistence context stays empty however many rows are read
+        customers.forEach(customer -> {
+            consumer.accept(mapToDto(customer));
+            entityManager.detach(customer);
+        });
+    }
+    
+    static CustomerDto mapToDto(Customer customer) {
+        CustomerDto dto = new CustomerDto();
+        dto.setId(customer.getId());
+        dto.setCustomerId(customer.getCustomerId());
+        dto.setUsername(customer.getUsername());
+        dto.setFirstName(customer.getFirstName());
+        dto.setLastName(customer.getLastName());
+        dto.setEmail(customer.getEmail());
+        dto.setPhoneNumber(customer.getPhoneNumber());
+        dto.setDateOfBirth(customer.getDateOfBirth());
+        dto.setGender(customer.getGender());
+        dto.setAddress(customer.getAddress());
+        dto.setCustomerType(customer.getCustomerType());
+        dto.setCreditScore(customer.getCreditScore());
+        dto.setAnnualIncome(customer.getAnnualIncome());
+        dto.setEmploymentStatus(customer.getEmploymentStatus());
+        dto.setEmployerName(customer.getEmployerName());
+        dto.setKycVerified(customer.getKycVerified());
+        dto.setStatus(customer.getStatus());
+        dto.setCreatedAt(customer.getCreatedAt());
+        dto.setUpdatedAt(customer.getUpdatedAt());
+        dto.setVersion(customer.getVersion());
+        
+        return dto;
+    }
+}
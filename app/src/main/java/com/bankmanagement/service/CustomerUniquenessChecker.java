@@ -0,0 +1,228 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.repository.CustomerRepository;
+import com.bankmanagement.util.ScalableBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// Bloom-filter front for the username, email and customer ID checks. A negative answer skips the
+// database; a positive one is confirmed with a query, and the unique constraints stay authoritative
+@Service
+public class CustomerUniquenessChecker {
+    
+    private static final Logger log = LoggerFactory.getLogger(CustomerUniquenessChecker.class);
+    
+    private final CustomerRepository customerRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    
+    private volatile Filters current;
+    private volatile Filters rebuilding;
+    
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "uniqueness-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+    
+    private final KeyMetrics usernameMetrics;
+    private final KeyMetrics emailMetrics;
+    private final KeyMetrics customerIdMetrics;
+    
+    @Autowired
+    public CustomerUniquenessChecker(CustomerRepository customerRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.customer.uniqueness-filter.enabled:true}") boolean enabled,
+                                     @Value("${app.customer.uniqueness-filter.expected-insertions:1000000}") long expectedInsertions,
+                                     @Value("${app.customer.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.customerRepository = customerRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.usernameMetrics = new KeyMetrics(meterRegistry, "username");
+        this.emailMetrics = new KeyMetrics(meterRegistry, "email");
+        this.customerIdMetrics = new KeyMetrics(meterRegistry, "customer_id");
+    }
+    
+    public boolean usernameExists(String username) {
+        Filters filters = current;
+        return exists(filters != null ? filters.usernames : null, username, usernameMetrics, customerRepository::existsByUsername);
+    }
+    
+    public boolean emailExists(String email) {
+        Filters filters = current;
+        return exists(filters != null ? filters.emails : null, email, emailMetrics, customerRepository::existsByEmail);
+    }
+    
+    public boolean customerIdExists(String customerId) {
+        Filters filters = current;
+        return exists(filters != null ? filters.customerIds : null, customerId, customerIdMetrics, customerRepository::existsByCustomerId);
+    }
+    
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        return filters == null || filters.usernames.mightContain(username);
+    }
+    
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails.mightContain(email);
+    }
+    
+    public void register(Customer customer) {
+        record(filters -> {
+            filters.usernames.put(customer.getUsername());
+            filters.emails.put(customer.getEmail());
+            filters.customerIds.put(customer.getCustomerId());
+        });
+    }
+    
+    public void registerEmail(String email) {
+        record(filters -> filters.emails.put(email));
+    }
+    
+    // The full-table read runs on its own thread so it never holds up the shared scheduler
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.customer.uniqueness-filter.rebuild-interval:PT6H}",
+               fixedDelayString = "${app.customer.uniqueness-filter.rebuild-interval:PT6H}")
+    public void scheduleRebuild() {
+        if (!enabled || !rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuildRunning.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuildRunning.set(false);
+            throw e;
+        }
+    }
+    
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        
+        // Inserts that land while the table is being read go into both the live and the new filters
+        long started = System.currentTimeMillis();
+        Filters next = new Filters(Math.max(expectedInsertions, 1), falsePositiveRate);
+        rebuilding = next;
+        try {
+            customerRepository.forEachIdentityKey((username, email, customerId) -> {
+                next.usernames.put(username);
+                next.emails.put(email);
+                next.customerIds.put(customerId);
+            });
+            current = next;
+            log.info("Rebuilt customer uniqueness filters with {} users in {} ms",
+                next.usernames.approximateCount(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild customer uniqueness filters, keeping the previous ones", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+    
+    // Helper methods
+    private boolean exists(ScalableBloomFilter filter, String value, KeyMetrics metrics, Predicate<String> query) {
+        if (value == null) {
+            return false;
+        }
+        
+        if (filter != null && !filter.mightContain(value)) {
+            metrics.negatives.increment();
+            return false;
+        }
+        
+        boolean exists = query.test(value);
+        if (filter != null) {
+            (exists ? metrics.confirmed : metrics.falsePositives).increment();
+        }
+        return exists;
+    }
+    
+    private void record(Consumer<Filters> update) {
+        Filters live = current;
+        if (live != null) {
+            update.accept(live);
+        }
+        Filters next = rebuilding;
+        if (next != null && next != live) {
+            update.accept(next);
+        }
+    }
+    
+    private static final class Filters {
+        
+        private final ScalableBloomFilter usernames;
+        private final ScalableBloomFilter emails;
+        private final ScalableBloomFilter customerIds;
+        
+        private Filters(long expectedInsertions, double falsePositiveRate) {
+            this.usernames = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+            this.emails = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+            this.customerIds = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+        }
+    }
+    
+    private static final class KeyMetrics {
+        
+        private final Counter negatives;
+        private final Counter confirmed;
+        private final Counter falsePositives;
+        
+        private KeyMetrics(MeterRegistry meterRegistry, String key) {
+            this.negatives = Counter.builder("customer.uniqueness.checks")
+                .tag("key", key).tag("outcome", "filtered")
+                .description("Existence checks answered by the Bloom filter without a query")
+                .register(meterRegistry);
+            this.confirmed = Counter.builder("customer.uniqueness.checks")
+                .tag("key", key).tag("outcome", "confirmed")
+                .description("Filter positives confirmed by the database")
+                .register(meterRegistry);
+            this.falsePositives = Counter.builder("customer.uniqueness.checks")
+                .tag("key", key).tag("outcome", "false_positive")
+                .description("Filter positives the database did not confirm")
+                .register(meterRegistry);
+            Gauge.builder("customer.uniqueness.false.positive.rate", this, KeyMetrics::falsePositiveRate)
+                .tag("key", key)
+                .description("Observed false positives over all values that did not exist")
+                .register(meterRegistry);
+        }
+        
+        private double falsePositiveRate() {
+            double fp = falsePositives.count();
+            double negatives = fp + this.negatives.count();
+            return negatives == 0 ? 0 : fp / negatives;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Account;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Loan;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// JPA entity listener, instantiated through Hibernate's Spring bean container
+@Component
+public class FinancialSummaryCacheListener {
+    
+    private final ObjectProvider<CustomerFinancialSummaryService> summaryService;
+    
+    @Autowired
+    public FinancialSummaryCacheListener(ObjectProvider<CustomerFinancialSummaryService> summaryService) {
+        this.summaryService = summaryService;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long customerId = null;
+        if (entity instanceof Account account && account.getCustomer() != null) {
+            customerId = account.getCustomer().getId();
+        } else if (entity instanceof Loan loan && loan.getCustomer() != null) {
+            customerId = loan.getCustomer().getId();
+        } else if (entity instanceof Customer customer) {
+            customerId = customer.getId();
+        }
+        
+        if (customerId != null) {
+            summaryService.getObject().evict(customerId);
+        }
+    }
+}
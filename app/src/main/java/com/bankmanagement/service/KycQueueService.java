@@ -0,0 +1,110 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.dto.KycBatchDto;
+import com.bankmanagement.dto.KycBatchResultDto;
+import com.bankmanagement.repository.CustomerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Validated
+@Transactional
+public class KycQueueService {
+    
+    private final CustomerRepository customerRepository;
+    private final CustomerFinancialSummaryService financialSummaryService;
+    private final CacheManager cacheManager;
+    private final Duration claimLease;
+    private final int maxClaimSize;
+    
+    @Autowired
+    public KycQueueService(CustomerRepository customerRepository,
+                           CustomerFinancialSummaryService financialSummaryService,
+                           CacheManager cacheManager,
+                           @Value("${app.customer.kyc.claim-lease:PT15M}") Duration claimLease,
+                           @Value("${app.customer.kyc.max-claim-size:200}") int maxClaimSize) {
+        this.customerRepository = customerRepository;
+        this.financialSummaryService = financialSummaryService;
+        this.cacheManager = cacheManager;
+        this.claimLease = claimLease;
+        this.maxClaimSize = maxClaimSize;
+    }
+    
+    // Claims the next page of pending customers for one staff member; concurrent claimers get disjoint pages
+    public List<CustomerDto> claim(Long staffId, int size) {
+        int limit = Math.max(1, Math.min(size, maxClaimSize));
+        List<Long> ids = customerRepository.claimPendingKyc(staffId, limit, LocalDateTime.now().minus(claimLease));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        return customerRepository.findAllById(ids).stream()
+            .map(CustomerService::mapToDto)
+            .sorted(Comparator.comparing(CustomerDto::getId))
+            .toList();
+    }
+    
+    // Applies a batch of approvals as one UPDATE per table; customers not claimed by this staff member are skipped
+    public KycBatchResultDto approve(Long staffId, @Valid KycBatchDto batch) {
+        Set<Long> requested = new LinkedHashSet<>(batch.getCustomerIds());
+        Map<Long, String> approved = customerRepository.approveKyc(requested, staffId, LocalDateTime.now());
+        
+        evictAfterCommit(approved);
+        
+        KycBatchResultDto result = new KycBatchResultDto();
+        for (Long id : requested) {
+            if (approved.containsKey(id)) {
+                result.getApproved().add(id);
+            } else {
+                result.getSkipped().add(id);
+            }
+        }
+        return result;
+    }
+    
+    public int release(Long staffId, @Valid KycBatchDto batch) {
+        return customerRepository.releaseKycClaims(new LinkedHashSet<>(batch.getCustomerIds()), staffId);
+    }
+    
+    // Helper methods
+    private void evictAfterCommit(Map<Long, String> approved) {
+        if (approved.isEmpty()) {
+            return;
+        }
+        
+        // The bulk UPDATE bypasses the entity listener, so summaries are evicted here (each after commit)
+        approved.keySet().forEach(financialSummaryService::evict);
+        
+        Map<Long, String> evicted = Map.copyOf(approved);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Customer DTOs are cached under both id and username
+                Cache customers = cacheManager.getCache("customers");
+                Cache versions = cacheManager.getCache("customerVersions");
+                evicted.forEach((id, username) -> {
+                    customers.evict(id);
+                    customers.evict(username);
+                    versions.evict(id);
+                });
+            }
+        });
+    }
+}
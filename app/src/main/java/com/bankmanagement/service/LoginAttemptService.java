@@ -0,0 +1,142 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.User;
+import com.bankmanagement.exception.InvalidCredentialsException;
+import com.bankmanagement.exception.LoginThrottledException;
+import com.bankmanagement.repository.UserRepository;
+import com.bankmanagement.repository.UserRepositoryCustom.LoginState;
+import com.bankmanagement.security.LoginAttemptTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Login throttling per username and client address. Counters are in memory and per node; lock state
+// is written to users in periodic batches, at most one row update per user per flush
+@Service
+public class LoginAttemptService {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoginAttemptService.class);
+    
+    private final UserRepository userRepository;
+    private final LoginAttemptTracker userAttempts;
+    private final LoginAttemptTracker addressAttempts;
+    
+    // Latest login state per user id, waiting for the next flush
+    private final Map<Long, LoginState> pendingStates = new ConcurrentHashMap<>();
+    
+    private final Counter failureCounter;
+    private final Counter throttledCounter;
+    
+    @Autowired
+    public LoginAttemptService(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.security.account.max-login-attempts:5}") int maxLoginAttempts,
+                               @Value("${app.security.account.lock-duration-minutes:30}") long lockDurationMinutes,
+                               @Value("${app.security.account.attempt-window:PT15M}") Duration attemptWindow,
+                               @Value("${app.security.account.address-max-login-attempts:50}") int addressMaxLoginAttempts,
+                               @Value("${app.security.account.address-lock-duration:PT15M}") Duration addressLockDuration,
+                               @Value("${app.security.account.tracker-shards:64}") int trackerShards,
+                               @Value("${app.security.account.max-tracked-keys:200000}") int maxTrackedKeys) {
+        this.userRepository = userRepository;
+        this.userAttempts = new LoginAttemptTracker(maxLoginAttempts, attemptWindow,
+            Duration.ofMinutes(lockDurationMinutes), trackerShards, maxTrackedKeys);
+        this.addressAttempts = new LoginAttemptTracker(addressMaxLoginAttempts, attemptWindow,
+            addressLockDuration, trackerShards, maxTrackedKeys);
+        
+        this.failureCounter = Counter.builder("auth.login.failures")
+            .register(meterRegistry);
+        this.throttledCounter = Counter.builder("auth.login.throttled")
+            .register(meterRegistry);
+        Gauge.builder("auth.login.pending.writes", pendingStates, Map::size)
+            .register(meterRegistry);
+    }
+    
+    // Rejects before the password is checked, so throttled attempts cost no BCrypt work
+    public void checkAllowed(String username, String clientAddress) {
+        long now = System.currentTimeMillis();
+        if (clientAddress != null && addressAttempts.lockedUntil(clientAddress, now) > 0) {
+            throttledCounter.increment();
+            throw new LoginThrottledException("Too many failed logins from this address, please retry later");
+        }
+        if (userAttempts.lockedUntil(username, now) > 0) {
+            throttledCounter.increment();
+            throw new InvalidCredentialsException("Account is temporarily locked");
+        }
+    }
+    
+    // user is null when the username does not exist; the attempt still counts against both keys
+    public void recordFailure(String username, User user, String clientAddress) {
+        long now = System.currentTimeMillis();
+        failureCounter.increment();
+        if (clientAddress != null) {
+            addressAttempts.recordFailure(clientAddress, now);
+        }
+        int failures = userAttempts.recordFailure(username, now);
+        if (user == null) {
+            return;
+        }
+        
+        long lockedUntil = userAttempts.lockedUntil(username, now);
+        LocalDateTime lockedUntilTime = lockedUntil > 0
+            ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lockedUntil), ZoneId.systemDefault())
+            : null;
+        pendingStates.put(user.getId(), new LoginState(user.getId(), failures, lockedUntilTime));
+    }
+    
+    public void recordSuccess(User user) {
+        userAttempts.reset(user.getUsername());
+        // Only a user with failures on record or still waiting to be flushed needs a row update
+        boolean failuresOnRecord = user.getFailedLoginAttempts() != null && user.getFailedLoginAttempts() > 0
+            || user.getAccountLockedUntil() != null;
+        if (failuresOnRecord || pendingStates.containsKey(user.getId())) {
+            pendingStates.put(user.getId(), new LoginState(user.getId(), 0, null));
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.security.account.write-behind-interval:PT2S}")
+    public void flush() {
+        if (pendingStates.isEmpty()) {
+            return;
+        }
+        
+        // Remove each entry as it is taken so a state recorded meanwhile waits for the next flush
+        List<LoginState> batch = new ArrayList<>(pendingStates.size());
+        for (Long userId : pendingStates.keySet()) {
+            LoginState state = pendingStates.remove(userId);
+            if (state != null) {
+                batch.add(state);
+            }
+        }
+        
+        try {
+            userRepository.applyLoginStates(batch);
+        } catch (RuntimeException e) {
+            // Put the states back unless newer ones have been recorded since
+            for (LoginState state : batch) {
+                pendingStates.putIfAbsent(state.getUserId(), state);
+            }
+            log.warn("Failed to write {} login states, will retry: {}", batch.size(), e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
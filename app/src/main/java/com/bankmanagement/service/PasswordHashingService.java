@@ -0,0 +1,232 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class PasswordHashingService {
+    
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+    
+    private static final int ADJUST_EVERY_SAMPLES = 50;
+    private static final double EWMA_WEIGHT = 0.1;
+    
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder[] encoders;
+    private final int minStrength;
+    private final int maxStrength;
+    private final long latencyBudgetNanos;
+    private final Duration maxWait;
+    
+    private final AtomicInteger strength;
+    private final AtomicLong samples = new AtomicLong();
+    private volatile double ewmaNanos;
+    
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter abandonedQueued;
+    private final Counter abandonedRunning;
+    
+    @Autowired
+    public PasswordHashingService(MeterRegistry meterRegistry,
+                                  @Value("${app.security.password.hashing.threads:0}") int threads,
+                                  @Value("${app.security.password.hashing.queue-capacity:2000}") int queueCapacity,
+                                  @Value("${app.security.password.hashing.strength:10}") int strength,
+                                  @Value("${app.security.password.hashing.min-strength:10}") int minStrength,
+                                  @Value("${app.security.password.hashing.max-strength:12}") int maxStrength,
+                                  @Value("${app.security.password.hashing.latency-budget:250ms}") Duration latencyBudget,
+                                  @Value("${app.security.password.hashing.max-wait:5s}") Duration maxWait) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strength bounds must satisfy 4 <= min <= max <= 31");
+        }
+        
+        // BCrypt is pure CPU work, so more threads than cores only adds contention
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        
+        this.encoders = new BCryptPasswordEncoder[maxStrength + 1];
+        for (int i = minStrength; i <= maxStrength; i++) {
+            encoders[i] = new BCryptPasswordEncoder(i);
+        }
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+        this.strength = new AtomicInteger(Math.max(minStrength, Math.min(maxStrength, strength)));
+        this.latencyBudgetNanos = latencyBudget.toNanos();
+        this.maxWait = maxWait;
+        
+        this.hashTimer = Timer.builder("password.hashing.duration")
+            .description("Time spent computing a single BCrypt hash")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+            .description("Time a hashing request waited for a free hashing thread")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+            .description("Hashing requests rejected because the queue was full")
+            .register(meterRegistry);
+        this.abandonedQueued = Counter.builder("password.hashing.abandoned")
+            .description("Hashing requests whose caller gave up, by whether the work still ran")
+            .tag("stage", "queued")
+            .register(meterRegistry);
+        this.abandonedRunning = Counter.builder("password.hashing.abandoned")
+            .description("Hashing requests whose caller gave up, by whether the work still ran")
+            .tag("stage", "running")
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.strength", this.strength, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+    
+    public String encode(String rawPassword) {
+        return encodeAll(List.of(rawPassword)).get(0);
+    }
+    
+    // Hashes the passwords in parallel on the pool; the whole batch gets the same bounded wait as a single hash
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> tasks = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                long submittedAt = System.nanoTime();
+                tasks.add(submit(() -> {
+                    long startedAt = System.nanoTime();
+                    queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                    String hash = encoders[strength.get()].encode(rawPassword);
+                    recordLatency(System.nanoTime() - startedAt);
+                    return hash;
+                }, "Too many concurrent registrations, please retry"));
+            }
+        } catch (PasswordHashingUnavailableException e) {
+            abandon(tasks);
+            throw e;
+        }
+        return await(tasks);
+    }
+    
+    // Login checks share the hashing pool, so bursts of logins and registrations are bounded together
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> task = submit(() -> {
+            queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            // The cost factor is read from the stored hash, so any encoder verifies it
+            return encoders[minStrength].matches(rawPassword, encodedPassword);
+        }, "Too many concurrent logins, please retry");
+        return await(List.of(task)).get(0);
+    }
+    
+    public int getCurrentStrength() {
+        return strength.get();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    // Helper methods
+    private <T> Future<T> submit(Callable<T> work, String rejectionMessage) {
+        try {
+            return executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingUnavailableException(rejectionMessage, e);
+        }
+    }
+    
+    private <T> List<T> await(List<Future<T>> tasks) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> task : tasks) {
+                results.add(task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (TimeoutException e) {
+            abandon(tasks);
+            throw new PasswordHashingUnavailableException("Password hashing timed out, please retry", e);
+        } catch (InterruptedException e) {
+            abandon(tasks);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            abandon(tasks);
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+    
+    // Queued work nobody waits for any more is dropped from the queue; BCrypt cannot be interrupted,
+    // so work already running finishes on its thread and is only counted
+    private void abandon(List<? extends Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            if (task.isDone()) {
+                continue;
+            }
+            if (executor.remove((Runnable) task)) {
+                abandonedQueued.increment();
+            } else {
+                abandonedRunning.increment();
+            }
+            task.cancel(false);
+        }
+    }
+    
+    private void recordLatency(long nanos) {
+        hashTimer.record(nanos, TimeUnit.NANOSECONDS);
+        
+        // Racy EWMA is fine here: it only steers the cost factor, never correctness
+        double ewma = ewmaNanos == 0 ? nanos : ewmaNanos + EWMA_WEIGHT * (nanos - ewmaNanos);
+        ewmaNanos = ewma;
+        
+        if (samples.incrementAndGet() % ADJUST_EVERY_SAMPLES != 0) {
+            return;
+        }
+        
+        // Each BCrypt strength step doubles the work, so only step up with comfortable headroom
+        int current = strength.get();
+        if (ewma > latencyBudgetNanos && current > minStrength) {
+            if (strength.compareAndSet(current, current - 1)) {
+                ewmaNanos = ewma / 2;
+                log.warn("BCrypt latency {} ms over budget, lowering strength to {}", (long) ewma / 1_000_000, current - 1);
+            }
+        } else if (ewma * 2 < latencyBudgetNanos * 0.8 && current < maxStrength) {
+            if (strength.compareAndSet(current, current + 1)) {
+                ewmaNanos = ewma * 2;
+                log.info("BCrypt latency {} ms well under budget, raising strength to {}", (long) ewma / 1_000_000, current + 1);
+            }
+        }
+    }
+}
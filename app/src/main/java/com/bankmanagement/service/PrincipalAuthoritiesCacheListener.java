@@ -0,0 +1,35 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Permission;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// JPA entity listener, instantiated through Hibernate's Spring bean container
+@Component
+public class PrincipalAuthoritiesCacheListener {
+    
+    private final ObjectProvider<PrincipalAuthoritiesService> authoritiesService;
+    
+    @Autowired
+    public PrincipalAuthoritiesCacheListener(ObjectProvider<PrincipalAuthoritiesService> authoritiesService) {
+        this.authoritiesService = authoritiesService;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof User user) {
+            authoritiesService.getObject().evict(user.getUsername());
+        } else if (entity instanceof Role || entity instanceof Permission) {
+            // Any number of principals may hold the role or permission
+            authoritiesService.getObject().evictAll();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.repository.UserRepository;
+import com.bankmanagement.security.PrincipalAuthorities;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+@Service
+public class PrincipalAuthoritiesService {
+    
+    public static final String CACHE_NAME = "principalAuthorities";
+    
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    
+    @Autowired
+    public PrincipalAuthoritiesService(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+    }
+    
+    // Compiled once per principal and cached; read on the primary like the other cached lookups
+    @Transactional
+    @Cacheable(value = CACHE_NAME, key = "#username", unless = "#result == null")
+    public PrincipalAuthorities getAuthorities(String username) {
+        return userRepository.findByUsername(username)
+                .map(PrincipalAuthorities::of)
+                .orElse(null);
+    }
+    
+    public void evict(String username) {
+        if (username != null) {
+            afterCommit(cache -> cache.evict(username));
+        }
+    }
+    
+    public void evictAll() {
+        afterCommit(Cache::clear);
+    }
+    
+    // Helper methods
+    private void afterCommit(Consumer<Cache> eviction) {
+        // Evict after commit so a concurrent reader cannot re-cache the pre-commit authorities
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.accept(cache());
+                }
+            });
+        } else {
+            eviction.accept(cache());
+        }
+    }
+    
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
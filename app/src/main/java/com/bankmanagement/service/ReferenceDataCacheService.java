@@ -0,0 +1,43 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Admin;
+import com.bankmanagement.entity.Permission;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.entity.Staff;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReferenceDataCacheService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataCacheService.class);
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final PrincipalAuthoritiesService principalAuthoritiesService;
+    
+    @Autowired
+    public ReferenceDataCacheService(EntityManagerFactory entityManagerFactory,
+                                     PrincipalAuthoritiesService principalAuthoritiesService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.principalAuthoritiesService = principalAuthoritiesService;
+    }
+    
+    // Hibernate updates these regions for changes made through JPA on this node only; this is for edits made
+    // directly in the database or on another node
+    public void evictAll() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Role.class);
+        cache.evictEntityData(Permission.class);
+        cache.evictCollectionData(Role.class.getName() + ".permissions");
+        cache.evictCollectionData(Staff.class.getName() + ".roles");
+        cache.evictCollectionData(Admin.class.getName() + ".permissions");
+        // Compiled principal snapshots were built from the evicted data
+        principalAuthoritiesService.evictAll();
+        log.info("Evicted role and permission data from the second-level cache");
+    }
+}
@@ -0,0 +1,170 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.RevokedToken;
+import com.bankmanagement.entity.TokenWatermark;
+import com.bankmanagement.repository.RevokedTokenRepository;
+import com.bankmanagement.repository.TokenWatermarkRepository;
+import com.bankmanagement.security.PollCursor;
+import com.bankmanagement.security.TokenRevocationList;
+import com.bankmanagement.security.VerifiedToken;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// Token denylist written to revoked_tokens and mirrored in memory, so requests never query it.
+// Other nodes poll for rows created since their last poll
+@Service
+public class TokenRevocationService {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+    
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenWatermarkRepository tokenWatermarkRepository;
+    private final TokenRevocationList revocationList;
+    private final Duration accessTokenTtl;
+    private final Duration maxTokenLifetime;
+    
+    // Revocations are polled by creation time, watermarks by update time
+    private final PollCursor revocationCursor;
+    private final PollCursor watermarkCursor;
+    
+    @Autowired
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  TokenWatermarkRepository tokenWatermarkRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.expiration:900000}") long expirationMillis,
+                                  @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationMillis,
+                                  @Value("${jwt.revocation.buckets-per-lifetime:168}") int bucketsPerLifetime,
+                                  @Value("${jwt.revocation.bucket-capacity:1024}") long bucketCapacity,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${jwt.revocation.poll-overlap:PT30S}") Duration pollOverlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenWatermarkRepository = tokenWatermarkRepository;
+        this.accessTokenTtl = Duration.ofMillis(expirationMillis);
+        this.maxTokenLifetime = Duration.ofMillis(Math.max(expirationMillis, refreshExpirationMillis));
+        this.revocationList = TokenRevocationList.forTokenLifetime(maxTokenLifetime, bucketsPerLifetime,
+            bucketCapacity, falsePositiveRate);
+        this.revocationCursor = new PollCursor(pollOverlap);
+        this.watermarkCursor = new PollCursor(pollOverlap);
+        
+        Gauge.builder("jwt.revocation.size", revocationList, TokenRevocationList::size)
+            .register(meterRegistry);
+        Gauge.builder("jwt.revocation.buckets", revocationList, TokenRevocationList::bucketCount)
+            .register(meterRegistry);
+    }
+    
+    public boolean isRevoked(VerifiedToken token) {
+        return revocationList.isRevoked(token.getTokenId(), token.getExpiresAt());
+    }
+    
+    // Access tokens only: a refresh re-reads the user, so refresh tokens stay usable after a watermark
+    public boolean isIssuedBeforeWatermark(VerifiedToken token) {
+        return revocationList.isIssuedBeforeWatermark(token.getPrincipal().getUserId(), token.getIssuedAt());
+    }
+    
+    // Returns false when the token was already revoked, here or on another node
+    @Transactional
+    public boolean revoke(VerifiedToken token, String reason) {
+        revocationList.add(token.getTokenId(), token.getExpiresAt());
+        return insert(token.getTokenId(), token.getPrincipal().getUserId(), token.getExpiresAt(), true, reason);
+    }
+    
+    // Without the token itself its expiry is unknown, so the id is checked against every token
+    // and kept for the longest lifetime a token can have
+    @Transactional
+    public boolean revoke(String tokenId, String reason) {
+        Instant keepUntil = Instant.now().plus(maxTokenLifetime);
+        revocationList.addWithoutExpiry(tokenId, keepUntil);
+        return insert(tokenId, null, keepUntil, false, reason);
+    }
+    
+    // Rejects the user's access tokens issued before now. Called after the change has committed, so a
+    // token issued from here on reflects it; runs in its own transaction for that reason.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void raiseWatermark(Long userId) {
+        Instant now = Instant.now();
+        revocationList.raiseWatermark(userId, now);
+        tokenWatermarkRepository.raise(userId, toLocalDateTime(now), LocalDateTime.now());
+    }
+    
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void raiseWatermarkForAll() {
+        Instant now = Instant.now();
+        revocationList.raiseWatermarkForAll(now);
+        tokenWatermarkRepository.raise(TokenWatermark.ALL_USERS, toLocalDateTime(now), LocalDateTime.now());
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval:PT5S}")
+    public void pollRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<RevokedToken> revoked = revokedTokenRepository.findRevokedSince(revocationCursor.since(), now);
+        for (RevokedToken token : revoked) {
+            if (Boolean.FALSE.equals(token.getExpiryKnown())) {
+                revocationList.addWithoutExpiry(token.getTokenId(), toInstant(token.getExpiresAt()));
+            } else {
+                revocationList.add(token.getTokenId(), toInstant(token.getExpiresAt()));
+            }
+        }
+        revocationCursor.advance(revoked.isEmpty() ? null : revoked.get(revoked.size() - 1).getCreatedAt(), now);
+        
+        pollWatermarks(now);
+        revocationList.evictExpired(Instant.now(), accessTokenTtl);
+    }
+    
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int purged = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired token revocations", purged);
+        }
+        // Once every access token issued before a watermark has expired, the watermark rejects nothing
+        int purgedWatermarks = tokenWatermarkRepository.deleteExpired(LocalDateTime.now().minus(accessTokenTtl));
+        if (purgedWatermarks > 0) {
+            log.info("Purged {} expired token watermarks", purgedWatermarks);
+        }
+    }
+    
+    // Helper methods
+    private void pollWatermarks(LocalDateTime now) {
+        List<TokenWatermark> watermarks = tokenWatermarkRepository.findUpdatedSince(watermarkCursor.since());
+        for (TokenWatermark watermark : watermarks) {
+            if (watermark.getUserId() == TokenWatermark.ALL_USERS) {
+                revocationList.raiseWatermarkForAll(toInstant(watermark.getNotBefore()));
+            } else {
+                revocationList.raiseWatermark(watermark.getUserId(), toInstant(watermark.getNotBefore()));
+            }
+        }
+        // An upsert can commit with an update time older than rows already seen, as with revocations
+        watermarkCursor.advance(watermarks.isEmpty() ? null : watermarks.get(watermarks.size() - 1).getUpdatedAt(), now);
+    }
+    
+    // Callers add to the list first so the revocation is effective on this node at once; other nodes
+    // see it on their next poll. The unique token id makes the insert the cluster-wide decision.
+    private boolean insert(String tokenId, Long userId, Instant expiresAt, boolean expiryKnown, String reason) {
+        return revokedTokenRepository.insertIfAbsent(tokenId, userId,
+            LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()), expiryKnown, reason, LocalDateTime.now()) > 0;
+    }
+    
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+    
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,63 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Permission;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// JPA entity listener, instantiated through Hibernate's Spring bean container
+@Component
+public class TokenWatermarkListener {
+    
+    private final ObjectProvider<TokenRevocationService> revocationService;
+    
+    @Autowired
+    public TokenWatermarkListener(ObjectProvider<TokenRevocationService> revocationService) {
+        this.revocationService = revocationService;
+    }
+    
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof User user) {
+            if (user.isGrantsChanged()) {
+                user.clearGrantsChanged();
+                Long userId = user.getId();
+                afterCommit(() -> revocationService.getObject().raiseWatermark(userId));
+            }
+        } else if (entity instanceof Role || entity instanceof Permission) {
+            // Any number of users may hold the role or permission
+            afterCommit(() -> revocationService.getObject().raiseWatermarkForAll());
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof User user) {
+            Long userId = user.getId();
+            afterCommit(() -> revocationService.getObject().raiseWatermark(userId));
+        } else if (entity instanceof Role || entity instanceof Permission) {
+            afterCommit(() -> revocationService.getObject().raiseWatermarkForAll());
+        }
+    }
+    
+    // Helper methods
+    private static void afterCommit(Runnable raise) {
+        // Raised after commit so a token issued from the pre-commit state is still before the watermark
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    raise.run();
+                }
+            });
+        } else {
+            raise.run();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Transaction;
+import com.bankmanagement.exception.TransactionNotFoundException;
+import com.bankmanagement.metrics.DomainMetrics;
+import com.bankmanagement.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class TransactionService {
+    
+    private final TransactionRepository transactionRepository;
+    private final DomainMetrics domainMetrics;
+    
+    @Autowired
+    public TransactionService(TransactionRepository transactionRepository, DomainMetrics domainMetrics) {
+        this.transactionRepository = transactionRepository;
+        this.domainMetrics = domainMetrics;
+    }
+    
+    public Transaction complete(Long transactionId) {
+        Transaction transaction = findTransaction(transactionId);
+        transaction.complete();
+        domainMetrics.transactionCompleted(transaction.getTransactionType());
+        return transaction;
+    }
+    
+    public Transaction fail(Long transactionId, String reason) {
+        Transaction transaction = findTransaction(transactionId);
+        transaction.fail(reason);
+        domainMetrics.transactionFailed(transaction.getTransactionType());
+        return transaction;
+    }
+    
+    // Helper methods
+    private Transaction findTransaction(Long transactionId) {
+        return transactionRepository.findById(transactionId)
+            .orElseThrow(() -> new TransactionNotFoundException("Transaction not found with id: " + transactionId));
+    }
+}
@@ -0,0 +1,184 @@
+package com.bankmanagement.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Compressed prefix tree mapping string keys to sets of ids; reads share a lock, writes are exclusive
+public class RadixTree {
+    
+    private static final long[] NO_IDS = new long[0];
+    
+    private final Node root = new Node("");
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long size;
+    
+    public void put(String key, long id) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            String remaining = key;
+            while (true) {
+                if (remaining.isEmpty()) {
+                    if (node.addId(id)) {
+                        size++;
+                    }
+                    return;
+                }
+                
+                Node child = node.children.get(remaining.charAt(0));
+                if (child == null) {
+                    Node leaf = new Node(remaining);
+                    leaf.addId(id);
+                    node.children.put(remaining.charAt(0), leaf);
+                    size++;
+                    return;
+                }
+                
+                int common = commonPrefixLength(child.label, remaining);
+                if (common < child.label.length()) {
+                    // Split the edge so the shared part becomes its own node
+                    Node split = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(split.label.charAt(0), split);
+                    child = split;
+                }
+                node = child;
+                remaining = remaining.substring(common);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(String key, long id) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            Node node = find(key, true);
+            if (node != null && node.removeId(id)) {
+                size--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Ids of all keys starting with the prefix, shortest keys first, up to the limit
+    public Set<Long> findByPrefix(String prefix, int limit) {
+        Set<Long> result = new LinkedHashSet<>();
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return result;
+        }
+        
+        lock.readLock().lock();
+        try {
+            Node start = find(prefix, false);
+            if (start == null) {
+                return result;
+            }
+            
+            Deque<Node> queue = new ArrayDeque<>();
+            queue.add(start);
+            while (!queue.isEmpty() && result.size() < limit) {
+                Node node = queue.poll();
+                for (int i = 0; i < node.idCount && result.size() < limit; i++) {
+                    result.add(node.ids[i]);
+                }
+                queue.addAll(node.children.values());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Helper methods
+    private Node find(String key, boolean exact) {
+        Node node = root;
+        String remaining = key;
+        while (!remaining.isEmpty()) {
+            Node child = node.children.get(remaining.charAt(0));
+            if (child == null) {
+                return null;
+            }
+            
+            int common = commonPrefixLength(child.label, remaining);
+            if (common == remaining.length()) {
+                // The key ends inside (or exactly at the end of) this edge
+                return !exact || common == child.label.length() ? child : null;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            remaining = remaining.substring(common);
+        }
+        return node;
+    }
+    
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+    
+    private static final class Node {
+        
+        private String label;
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private long[] ids = NO_IDS;
+        private int idCount;
+        
+        private Node(String label) {
+            this.label = label;
+        }
+        
+        private boolean addId(long id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    return false;
+                }
+            }
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(2, idCount * 2));
+            }
+            ids[idCount++] = id;
+            return true;
+        }
+        
+        private boolean removeId(long id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--idCount];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- Per-user "not before" times: access tokens issued before a user's status, roles or permissions changed
+-- are rejected. user_id 0 holds the watermark for every user (a role or permission definition changed).
+CREATE TABLE token_watermarks (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT UNIQUE NOT NULL,
+    not_before TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+ALTER SEQUENCE token_watermarks_id_seq INCREMENT BY 50;
+
+-- Nodes poll by update time, like revoked_tokens by creation time
+CREATE INDEX idx_token_watermarks_updated_at ON token_watermarks (updated_at);
@@ -0,0 +1,12 @@
+-- Trigram indexes backing partial-match customer search (name, email, phone)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_users_first_name_trgm ON users USING GIN (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_users_last_name_trgm ON users USING GIN (lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_users_full_name_trgm ON users USING GIN ((lower(first_name) || ' ' || lower(last_name)) gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops);
+CREATE INDEX idx_users_phone_number_trgm ON users USING GIN (phone_number gin_trgm_ops);
+
+-- B-tree prefix indexes for the common typeahead case (LIKE 'abc%')
+CREATE INDEX idx_users_last_name_prefix ON users (lower(last_name) text_pattern_ops);
+CREATE INDEX idx_users_email_prefix ON users (lower(email) text_pattern_ops);
@@ -0,0 +1,83 @@
+-- Tables for the Card, Loan and LoanPayment entities, which were mapped but never created
+
+-- Create cards table
+CREATE TABLE cards (
+    id BIGSERIAL PRIMARY KEY,
+    card_number VARCHAR(19) UNIQUE NOT NULL,
+    card_holder_name VARCHAR(255) NOT NULL,
+    account_id BIGINT NOT NULL REFERENCES accounts(id),
+    customer_id BIGINT NOT NULL REFERENCES customers(id),
+    card_type VARCHAR(30) NOT NULL,
+    card_status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    expiry_date DATE NOT NULL,
+    cvv_hash VARCHAR(255) NOT NULL,
+    pin_hash VARCHAR(255),
+    daily_limit DECIMAL(19,2),
+    monthly_limit DECIMAL(19,2),
+    issued_date TIMESTAMP NOT NULL,
+    activation_date TIMESTAMP,
+    last_used_date TIMESTAMP,
+    is_contactless BOOLEAN DEFAULT FALSE,
+    is_international BOOLEAN DEFAULT FALSE,
+    replacement_reason VARCHAR(255),
+    previous_card_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+-- Create loans table
+CREATE TABLE loans (
+    id BIGSERIAL PRIMARY KEY,
+    loan_number VARCHAR(50) UNIQUE NOT NULL,
+    customer_id BIGINT NOT NULL REFERENCES customers(id),
+    loan_type VARCHAR(30) NOT NULL,
+    principal_amount DECIMAL(19,2) NOT NULL,
+    interest_rate DECIMAL(5,4) NOT NULL,
+    loan_term_months INTEGER NOT NULL,
+    monthly_payment DECIMAL(19,2),
+    total_amount DECIMAL(19,2),
+    outstanding_balance DECIMAL(19,2),
+    status VARCHAR(30) NOT NULL DEFAULT 'PENDING_APPROVAL',
+    application_date TIMESTAMP NOT NULL,
+    approval_date TIMESTAMP,
+    disbursement_date TIMESTAMP,
+    due_date TIMESTAMP,
+    approved_by BIGINT REFERENCES staff(id),
+    collateral_value DECIMAL(19,2),
+    collateral_description VARCHAR(255),
+    purpose VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+-- Create loan_payments table
+CREATE TABLE loan_payments (
+    id BIGSERIAL PRIMARY KEY,
+    payment_number VARCHAR(50) UNIQUE NOT NULL,
+    loan_id BIGINT NOT NULL REFERENCES loans(id),
+    payment_amount DECIMAL(19,2) NOT NULL,
+    payment_date TIMESTAMP NOT NULL,
+    payment_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    processed_date TIMESTAMP,
+    reference_number VARCHAR(100),
+    late_fee DECIMAL(19,2) DEFAULT 0.00,
+    principal_portion DECIMAL(19,2),
+    interest_portion DECIMAL(19,2),
+    remaining_balance DECIMAL(19,2),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+-- Create indexes for better performance
+CREATE INDEX idx_cards_account_id ON cards(account_id);
+CREATE INDEX idx_cards_customer_id ON cards(customer_id);
+CREATE INDEX idx_loans_customer_status ON loans(customer_id, status);
+CREATE INDEX idx_loan_payments_loan_id ON loan_payments(loan_id);
+CREATE INDEX idx_accounts_customer_status ON accounts(customer_id, account_status) INCLUDE (balance);
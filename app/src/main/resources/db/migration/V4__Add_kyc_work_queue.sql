@@ -0,0 +1,6 @@
+-- Claim columns for the KYC work queue; a claim older than the configured lease may be taken over
+ALTER TABLE customers ADD COLUMN kyc_claimed_by BIGINT;
+ALTER TABLE customers ADD COLUMN kyc_claimed_at TIMESTAMP;
+
+-- Only unverified customers are ever scanned by the queue
+CREATE INDEX idx_customers_kyc_pending ON customers (id) WHERE kyc_verified = FALSE;
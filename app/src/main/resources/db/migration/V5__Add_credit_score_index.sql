@@ -0,0 +1,5 @@
+-- Supports findByMinimumCreditScore and other score-range queries
+CREATE INDEX idx_customers_credit_score ON customers (credit_score);
+
+-- Recent-activity aggregation by account for the nightly rescoring job
+CREATE INDEX idx_transactions_from_account_date ON transactions (from_account_id, transaction_date) INCLUDE (status);
@@ -0,0 +1,11 @@
+-- Hibernate now allocates ids in blocks of 50 from each table's sequence (pooled-lo), which allows
+-- JDBC insert batching. Column defaults stay in place for plain SQL inserts; every nextval reserves
+-- a whole block, so the two never hand out the same id.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE permissions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE accounts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE transactions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE cards_id_seq INCREMENT BY 50;
+ALTER SEQUENCE loans_id_seq INCREMENT BY 50;
+ALTER SEQUENCE loan_payments_id_seq INCREMENT BY 50;
@@ -0,0 +1,18 @@
+-- Revoked JWT ids; nodes mirror this table in memory and poll it for rows added since their last poll
+CREATE TABLE revoked_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_id VARCHAR(64) UNIQUE NOT NULL,
+    user_id BIGINT,
+    expires_at TIMESTAMP NOT NULL,
+    reason VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+ALTER SEQUENCE revoked_tokens_id_seq INCREMENT BY 50;
+
+-- Delta polling scans by creation time; the purge job deletes by expiry
+CREATE INDEX idx_revoked_tokens_created_at ON revoked_tokens (created_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
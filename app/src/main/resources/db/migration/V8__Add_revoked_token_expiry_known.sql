@@ -0,0 +1,2 @@
+-- Revocations by token id alone carry no real expiry and are matched against every token
+ALTER TABLE revoked_tokens ADD COLUMN expiry_known BOOLEAN NOT NULL DEFAULT TRUE;
@@ -0,0 +1,6 @@
+-- Phone search matches on digits only, so "+1 (555) 123" finds a number stored as "555-123-4567"
+ALTER TABLE users ADD COLUMN phone_digits VARCHAR(20)
+    GENERATED ALWAYS AS (regexp_replace(phone_number, '[^0-9]', '', 'g')) STORED;
+
+DROP INDEX idx_users_phone_number_trgm;
+CREATE INDEX idx_users_phone_digits_trgm ON users USING GIN (phone_digits gin_trgm_ops);
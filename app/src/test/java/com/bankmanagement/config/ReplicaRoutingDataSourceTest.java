@@ -0,0 +1,133 @@
+package com.bankmanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+    
+    private Connection primaryConnection;
+    private Map<String, Connection> replicaConnections;
+    private Map<String, Double> replicaLags;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReplicationLagMonitor lagMonitor;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        primaryConnection = mock(Connection.class);
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        
+        replicaConnections = new LinkedHashMap<>();
+        replicaLags = new LinkedHashMap<>();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : new String[] {"replica-1", "replica-2"}) {
+            replicaLags.put(name, 0.0);
+            Connection connection = replicaConnection(name);
+            replicaConnections.put(name, connection);
+            DataSource replica = mock(DataSource.class);
+            when(replica.getConnection()).thenReturn(connection);
+            replicas.put(name, replica);
+        }
+        
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+        routingDataSource.afterPropertiesSet();
+        lagMonitor = new ReplicationLagMonitor(routingDataSource, Duration.ofSeconds(2), new SimpleMeterRegistry());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+    
+    @Test
+    void readWriteWorkGoesToThePrimary() throws SQLException {
+        lagMonitor.checkLag();
+        
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+    
+    @Test
+    void readOnlyWorkRotatesOverCaughtUpReplicas() throws SQLException {
+        lagMonitor.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+        
+        assertThat(replicaConnections.values()).contains(first, second);
+        assertThat(first).isNotSameAs(second);
+    }
+    
+    @Test
+    void laggingReplicaIsSkipped() throws SQLException {
+        replicaLags.put("replica-1", 5.0);
+        lagMonitor.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnections.get("replica-2"));
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnections.get("replica-2"));
+    }
+    
+    @Test
+    void readsFallBackToThePrimaryWhenNoReplicaIsUsable() throws SQLException {
+        replicaLags.put("replica-1", 5.0);
+        replicaLags.put("replica-2", null);
+        lagMonitor.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+    
+    @Test
+    void replicaReturnsOnceItCatchesUp() throws SQLException {
+        replicaLags.put("replica-1", 5.0);
+        replicaLags.put("replica-2", 5.0);
+        lagMonitor.checkLag();
+        replicaLags.put("replica-2", 0.5);
+        lagMonitor.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnections.get("replica-2"));
+    }
+    
+    // Helper methods
+    
+    // Answers the lag query with the replica's current entry in replicaLags; null means unreachable
+    private Connection replicaConnection(String name) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenAnswer(invocation -> {
+            Double lag = replicaLags.get(name);
+            if (lag == null) {
+                throw new SQLException("Connection refused", "08001");
+            }
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+            when(statement.executeQuery(anyString())).thenReturn(resultSet);
+            when(resultSet.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnCount()).thenReturn(1);
+            when(resultSet.next()).thenReturn(true, false);
+            when(resultSet.getDouble(1)).thenReturn(lag);
+            return statement;
+        });
+        return connection;
+    }
+}
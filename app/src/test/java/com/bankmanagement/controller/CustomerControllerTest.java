@@ -0,0 +1,81 @@
+package com.bankmanagement.controller;
+
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.dto.CustomerVersionDto;
+import com.bankmanagement.service.CreditScoreEngine;
+import com.bankmanagement.service.Customer360Service;
+import com.bankmanagement.service.CustomerFinancialSummaryService;
+import com.bankmanagement.service.CustomerSearchService;
+import com.bankmanagement.service.CustomerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CustomerControllerTest {
+    
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+    
+    private CustomerService customerService;
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        customerService = mock(CustomerService.class);
+        CustomerController controller = new CustomerController(customerService, mock(CustomerSearchService.class),
+            mock(CustomerFinancialSummaryService.class), mock(Customer360Service.class), mock(CreditScoreEngine.class),
+            new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        
+        when(customerService.getCustomerVersion(1L)).thenReturn(new CustomerVersionDto(1L, 3L, UPDATED_AT));
+        when(customerService.getCustomerById(1L)).thenReturn(customer());
+        when(customerService.getCustomerById(1L, Set.of("email"))).thenReturn(customer());
+    }
+    
+    @Test
+    void fullBodyCarriesWeakETagAndVaryAccept() throws Exception {
+        mockMvc.perform(get("/customers/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+            .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+    
+    @Test
+    void fieldSelectionCarriesTheSameValidators() throws Exception {
+        mockMvc.perform(get("/customers/1").param("fields", "email"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+            .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+    
+    @Test
+    void matchingIfNoneMatchAnswersNotModifiedWithVary() throws Exception {
+        mockMvc.perform(get("/customers/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        
+        // Weak comparison also accepts the strong form a client may have stored earlier
+        mockMvc.perform(get("/customers/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+            .andExpect(status().isNotModified());
+    }
+    
+    // Helper methods
+    private static CustomerDto customer() {
+        CustomerDto customer = new CustomerDto();
+        customer.setId(1L);
+        customer.setVersion(3L);
+        customer.setUpdatedAt(UPDATED_AT);
+        return customer;
+    }
+}
@@ -0,0 +1,87 @@
+package com.bankmanagement.controller;
+
+import com.bankmanagement.dto.KycBatchDto;
+import com.bankmanagement.dto.KycBatchResultDto;
+import com.bankmanagement.security.PrincipalAuthorities;
+import com.bankmanagement.service.KycQueueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class KycQueueControllerTest {
+    
+    private static final long CALLER_ID = 42L;
+    
+    private KycQueueService kycQueueService;
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        kycQueueService = mock(KycQueueService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new KycQueueController(kycQueueService))
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .build();
+        
+        PrincipalAuthorities principal = PrincipalAuthorities.of(CALLER_ID, "staff", 0, 0L);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void claimIgnoresAStaffIdParameter() throws Exception {
+        when(kycQueueService.claim(any(), anyInt())).thenReturn(List.of());
+        
+        mockMvc.perform(post("/kyc-queue/claim").param("staffId", "7").param("size", "10"))
+            .andExpect(status().isOk());
+        
+        verify(kycQueueService).claim(CALLER_ID, 10);
+    }
+    
+    @Test
+    void approveActsAsTheCallerWhateverTheBodySays() throws Exception {
+        when(kycQueueService.approve(any(), any())).thenReturn(new KycBatchResultDto());
+        
+        mockMvc.perform(post("/kyc-queue/approve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"staffId\": 7, \"customerIds\": [1, 2]}"))
+            .andExpect(status().isOk());
+        
+        ArgumentCaptor<KycBatchDto> batch = ArgumentCaptor.forClass(KycBatchDto.class);
+        verify(kycQueueService).approve(eq(CALLER_ID), batch.capture());
+        assertThat(batch.getValue().getCustomerIds()).containsExactly(1L, 2L);
+    }
+    
+    @Test
+    void releaseActsAsTheCaller() throws Exception {
+        mockMvc.perform(post("/kyc-queue/release")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"customerIds\": [3]}"))
+            .andExpect(status().isNoContent());
+        
+        verify(kycQueueService).release(eq(CALLER_ID), any());
+    }
+}
@@ -0,0 +1,133 @@
+package com.bankmanagement.entity;
+
+import com.bankmanagement.service.CustomerFinancialSummaryService;
+import com.bankmanagement.service.PrincipalAuthoritiesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway's migrations are PostgreSQL-specific, so the H2 schema is generated from the mappings
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(EntityIdGenerationTest.RecordingDataSourceConfig.class)
+class EntityIdGenerationTest {
+    
+    private static final int CUSTOMERS = 100;
+    
+    private static final List<String> EXECUTIONS = new CopyOnWriteArrayList<>();
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    // Targets of the entity listeners' cache evictions
+    @MockBean
+    private PrincipalAuthoritiesService principalAuthoritiesService;
+    
+    @MockBean
+    private CustomerFinancialSummaryService financialSummaryService;
+    
+    @BeforeEach
+    void setUp() {
+        EXECUTIONS.clear();
+    }
+    
+    @Test
+    void insertsAreBatchedWithIdsAllocatedInBlocks() {
+        for (int i = 0; i < CUSTOMERS; i++) {
+            entityManager.persist(customer(i));
+        }
+        entityManager.flush();
+        
+        // Pooled-lo: one sequence call per 50 ids from the hierarchy's root sequence
+        assertThat(count("executeQuery", "users_id_seq")).isEqualTo(CUSTOMERS / BaseEntity.ID_BLOCK_SIZE);
+        // JOINED: each entity writes a users row and a customers row, in batches of jdbc.batch_size (20)
+        assertThat(count("executeBatch", "insert into users")).isEqualTo(CUSTOMERS / 20);
+        assertThat(count("executeBatch", "insert into customers")).isEqualTo(CUSTOMERS / 20);
+        assertThat(count("executeUpdate", "insert into")).isZero();
+    }
+    
+    @Test
+    void userLoadedByIdIsTheCustomerSubclass() {
+        Customer customer = customer(0);
+        entityManager.persist(customer);
+        entityManager.flush();
+        entityManager.clear();
+        
+        User user = entityManager.find(User.class, customer.getId());
+        
+        assertThat(user).isInstanceOf(Customer.class);
+        assertThat(((Customer) user).getCustomerId()).isEqualTo("CUST-0");
+    }
+    
+    // Helper methods
+    private static long count(String method, String sqlFragment) {
+        return EXECUTIONS.stream()
+            .filter(execution -> execution.startsWith(method + ":"))
+            .filter(execution -> execution.toLowerCase(Locale.ROOT).contains(sqlFragment))
+            .count();
+    }
+    
+    private static Customer customer(int i) {
+        Customer customer = new Customer("user" + i, "$2a$10$hashhashhash", "First", "Last", "user" + i + "@example.com");
+        customer.setCustomerId("CUST-" + i);
+        return customer;
+    }
+    
+    // Records each JDBC execution as "<method>:<sql>", so a batch shows up once however many rows it holds
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+        
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource, null) : bean;
+                }
+            };
+        }
+        
+        private static <T> T proxy(Class<T> type, T target, String sql) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+                String name = method.getName();
+                if (sql != null && name.startsWith("execute")) {
+                    EXECUTIONS.add(name + ":" + sql);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Connection connection) {
+                    return proxy(Connection.class, connection, null);
+                }
+                if (result instanceof PreparedStatement statement && name.startsWith("prepare")) {
+                    return proxy(PreparedStatement.class, statement, (String) args[0]);
+                }
+                return result;
+            }));
+        }
+    }
+}
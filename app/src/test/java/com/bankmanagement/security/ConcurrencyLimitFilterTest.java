@@ -0,0 +1,124 @@
+package com.bankmanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitFilterTest {
+    
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), true, 1, 1, 10, 0.2, 0.9);
+        filter = new ConcurrencyLimitFilter(limiter, List.of("/customers/**"));
+    }
+    
+    @Test
+    void streamedResponseHoldsItsPermitUntilTheAsyncRequestCompletes() throws Exception {
+        MockHttpServletRequest request = request();
+        request.setAsyncSupported(true);
+        FilterChain startsStream = (req, res) -> req.startAsync();
+        
+        filter.doFilter(request, new MockHttpServletResponse(), startsStream);
+        
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request(), rejected, (req, res) -> { });
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        // Written directly: sendError would go through an ERROR dispatch
+        assertThat(rejected.getErrorMessage()).isNull();
+        assertThat(rejected.getContentAsString()).isEqualTo("Server is at capacity, please retry");
+        
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+    
+    @Test
+    void notModifiedResponseReleasesItsPermit() throws Exception {
+        FilterChain notModified = (req, res) -> ((MockHttpServletResponse) res).setStatus(304);
+        
+        filter.doFilter(request(), new MockHttpServletResponse(), notModified);
+        
+        assertThat(limiter.getInFlight()).isZero();
+    }
+    
+    @Test
+    void serverErrorsBackTheLimitOff() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), true, 20, 1, 50, 0.2, 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, List.of("/customers/**"));
+        FilterChain serverError = (req, res) -> ((MockHttpServletResponse) res).setStatus(503);
+        
+        filter.doFilter(request(), new MockHttpServletResponse(), serverError);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+        
+        FilterChain throwing = (req, res) -> { throw new IOException("connection reset by database"); };
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), throwing))
+            .isInstanceOf(IOException.class);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+    
+    @Test
+    void timedOutStreamBacksTheLimitOff() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), true, 20, 1, 50, 0.2, 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, List.of("/customers/**"));
+        MockHttpServletRequest request = request();
+        request.setAsyncSupported(true);
+        
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        asyncContext.complete();
+        
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+    
+    @Test
+    void clientErrorsLeaveTheLimitAlone() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), true, 20, 1, 50, 0.2, 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, List.of("/customers/**"));
+        FilterChain notFound = (req, res) -> ((MockHttpServletResponse) res).setStatus(404);
+        
+        filter.doFilter(request(), new MockHttpServletResponse(), notFound);
+        
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+    
+    @Test
+    void unmatchedPathsAreNotLimited() throws Exception {
+        assertThat(limiter.tryAcquire()).isTrue();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/login");
+        request.setContextPath("/api/v1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        filter.doFilter(request, response, (req, res) -> { });
+        
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+    
+    // Helper methods
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers/export");
+        request.setContextPath("/api/v1");
+        return request;
+    }
+}
@@ -0,0 +1,79 @@
+package com.bankmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginAttemptTrackerTest {
+    
+    private static final long MINUTE = 60_000L;
+    
+    @Test
+    void reachingTheLimitInsideTheWindowLocksTheKey() {
+        LoginAttemptTracker tracker = tracker(3);
+        
+        assertThat(tracker.recordFailure("jdoe", 0)).isEqualTo(1);
+        assertThat(tracker.recordFailure("jdoe", MINUTE)).isEqualTo(2);
+        assertThat(tracker.lockedUntil("jdoe", MINUTE)).isZero();
+        
+        assertThat(tracker.recordFailure("jdoe", 2 * MINUTE)).isEqualTo(3);
+        assertThat(tracker.lockedUntil("jdoe", 2 * MINUTE)).isEqualTo(32 * MINUTE);
+        assertThat(tracker.lockedUntil("jdoe", 32 * MINUTE)).isZero();
+    }
+    
+    @Test
+    void failuresOutsideTheWindowExpire() {
+        LoginAttemptTracker tracker = tracker(3);
+        tracker.recordFailure("jdoe", 0);
+        tracker.recordFailure("jdoe", 10 * MINUTE);
+        
+        // The first failure is more than 15 minutes old by now
+        assertThat(tracker.recordFailure("jdoe", 16 * MINUTE)).isEqualTo(2);
+        assertThat(tracker.lockedUntil("jdoe", 16 * MINUTE)).isZero();
+        assertThat(tracker.recordFailure("jdoe", 17 * MINUTE)).isEqualTo(3);
+        assertThat(tracker.lockedUntil("jdoe", 17 * MINUTE)).isPositive();
+    }
+    
+    @Test
+    void resetForgetsFailuresAndLock() {
+        LoginAttemptTracker tracker = tracker(1);
+        tracker.recordFailure("jdoe", 0);
+        assertThat(tracker.lockedUntil("jdoe", 0)).isPositive();
+        
+        tracker.reset("jdoe");
+        
+        assertThat(tracker.lockedUntil("jdoe", 0)).isZero();
+        assertThat(tracker.recordFailure("jdoe", 0)).isEqualTo(1);
+    }
+    
+    @Test
+    void shardCountIsRoundedUpToAPowerOfTwo() {
+        assertThat(new LoginAttemptTracker(5, Duration.ofMinutes(15), Duration.ofMinutes(30), 1, 1000).shardCount()).isEqualTo(1);
+        assertThat(new LoginAttemptTracker(5, Duration.ofMinutes(15), Duration.ofMinutes(30), 3, 1000).shardCount()).isEqualTo(4);
+        assertThat(new LoginAttemptTracker(5, Duration.ofMinutes(15), Duration.ofMinutes(30), 64, 1000).shardCount()).isEqualTo(64);
+        assertThat(new LoginAttemptTracker(5, Duration.ofMinutes(15), Duration.ofMinutes(30), 65, 1000).shardCount()).isEqualTo(128);
+    }
+    
+    @Test
+    void leastRecentlyUsedKeysAreEvictedOnceAShardIsFull() {
+        // One shard holding the minimum of 16 keys
+        LoginAttemptTracker tracker = new LoginAttemptTracker(5, Duration.ofMinutes(15), Duration.ofMinutes(30), 1, 16);
+        for (int i = 0; i < 16; i++) {
+            tracker.recordFailure("user" + i, 0);
+        }
+        tracker.lockedUntil("user0", 0);
+        
+        tracker.recordFailure("user16", 0);
+        
+        assertThat(tracker.trackedKeys()).isEqualTo(16);
+        assertThat(tracker.recordFailure("user0", 0)).isEqualTo(2);
+        assertThat(tracker.recordFailure("user1", 0)).isEqualTo(1);
+    }
+    
+    // Helper methods
+    private static LoginAttemptTracker tracker(int limit) {
+        return new LoginAttemptTracker(limit, Duration.ofMinutes(15), Duration.ofMinutes(30), 4, 1000);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.entity.Permission;
+import com.bankmanagement.entity.Permission.PermissionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionSetTest {
+    
+    @Test
+    void containsExactlyTheGivenTypes() {
+        PermissionSet set = PermissionSet.of(PermissionType.AUDIT_VIEW, PermissionType.KYC_MANAGEMENT);
+        
+        assertThat(set.contains(PermissionType.AUDIT_VIEW)).isTrue();
+        assertThat(set.contains("KYC_MANAGEMENT")).isTrue();
+        assertThat(set.contains(PermissionType.SYSTEM)).isFalse();
+        assertThat(set.contains("NOT_A_PERMISSION")).isFalse();
+        assertThat(set.toEnumSet()).isEqualTo(EnumSet.of(PermissionType.AUDIT_VIEW, PermissionType.KYC_MANAGEMENT));
+    }
+    
+    @Test
+    void permissionGrantsItsTypeAndTheTypeItIsNamedAfter() {
+        Permission named = new Permission("AUDIT_VIEW", "View audit logs", PermissionType.REPORT_VIEW, "audit", "read");
+        Permission plain = new Permission("accounts:write", "Edit accounts", PermissionType.ACCOUNT_MANAGEMENT,
+            "accounts", "write");
+        
+        PermissionSet set = PermissionSet.of(List.of(named, plain));
+        
+        assertThat(set.toEnumSet()).containsExactlyInAnyOrder(PermissionType.REPORT_VIEW, PermissionType.AUDIT_VIEW,
+            PermissionType.ACCOUNT_MANAGEMENT);
+    }
+    
+    @Test
+    void unionAndContainsAll() {
+        PermissionSet audit = PermissionSet.of(PermissionType.AUDIT_VIEW);
+        PermissionSet kyc = PermissionSet.of(PermissionType.KYC_MANAGEMENT);
+        PermissionSet both = audit.union(kyc);
+        
+        assertThat(both.containsAll(audit)).isTrue();
+        assertThat(both.containsAll(kyc)).isTrue();
+        assertThat(audit.containsAll(both)).isFalse();
+        assertThat(PermissionSet.ALL.containsAll(both)).isTrue();
+        assertThat(PermissionSet.NONE.isEmpty()).isTrue();
+    }
+    
+    @Test
+    void roundTripsThroughLongAndIgnoresUnknownBits() {
+        PermissionSet set = PermissionSet.of(PermissionType.SYSTEM, PermissionType.SYSTEM_MANAGEMENT);
+        
+        assertThat(PermissionSet.fromLong(set.toLong())).isEqualTo(set);
+        assertThat(PermissionSet.fromLong(-1L)).isEqualTo(PermissionSet.ALL);
+        assertThat(PermissionSet.fromLong(0L)).isSameAs(PermissionSet.NONE);
+    }
+}
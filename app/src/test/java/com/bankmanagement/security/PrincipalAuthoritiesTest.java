@@ -0,0 +1,114 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.entity.Admin;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Permission;
+import com.bankmanagement.entity.Permission.PermissionType;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.entity.Staff;
+import com.bankmanagement.security.PrincipalAuthorities.PrincipalRole;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrincipalAuthoritiesTest {
+    
+    @Test
+    void staffGetsRolesAndTheUnionOfTheirPermissions() {
+        Role teller = new Role("ROLE_TELLER", "Teller");
+        teller.addPermission(permission(PermissionType.TRANSACTION_MANAGEMENT));
+        Role admin = new Role("ROLE_ADMIN", "Administrator");
+        admin.addPermission(permission(PermissionType.AUDIT_VIEW));
+        Staff staff = staff();
+        staff.addRole(teller);
+        staff.addRole(admin);
+        
+        PrincipalAuthorities authorities = PrincipalAuthorities.of(staff);
+        
+        assertThat(authorities.hasRole(PrincipalRole.STAFF)).isTrue();
+        assertThat(authorities.hasRole("ROLE_ADMIN")).isTrue();
+        assertThat(authorities.hasRole(PrincipalRole.CUSTOMER)).isFalse();
+        assertThat(authorities.hasPermission(PermissionType.TRANSACTION_MANAGEMENT)).isTrue();
+        assertThat(authorities.hasPermission("AUDIT_VIEW")).isTrue();
+        assertThat(authorities.hasPermission(PermissionType.SYSTEM)).isFalse();
+    }
+    
+    @Test
+    void staffPermissionsFollowChangesToTheirRoles() {
+        Role teller = new Role("ROLE_TELLER", "Teller");
+        Staff staff = staff();
+        staff.addRole(teller);
+        assertThat(staff.getPermissionSet().isEmpty()).isTrue();
+        
+        Permission kyc = permission(PermissionType.KYC_MANAGEMENT);
+        teller.addPermission(kyc);
+        assertThat(staff.getPermissionSet().contains(PermissionType.KYC_MANAGEMENT)).isTrue();
+        
+        teller.removePermission(kyc);
+        assertThat(staff.getPermissionSet().contains(PermissionType.KYC_MANAGEMENT)).isFalse();
+        
+        Role auditor = new Role("ROLE_AUDITOR", "Auditor");
+        auditor.addPermission(permission(PermissionType.AUDIT_VIEW));
+        staff.addRole(auditor);
+        assertThat(staff.getPermissionSet().contains(PermissionType.AUDIT_VIEW)).isTrue();
+        assertThat(staff.hasRole("ROLE_AUDITOR")).isTrue();
+        
+        staff.removeRole(auditor);
+        assertThat(staff.getPermissionSet().contains(PermissionType.AUDIT_VIEW)).isFalse();
+        assertThat(staff.hasRole("ROLE_AUDITOR")).isFalse();
+    }
+    
+    @Test
+    void collectionsCannotBeChangedBehindTheCompiledSets() {
+        Staff staff = staff();
+        Role teller = new Role("ROLE_TELLER", "Teller");
+        
+        assertThatThrownBy(() -> staff.getRoles().add(teller)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> teller.getPermissions().add(permission(PermissionType.SYSTEM)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+    
+    @Test
+    void superAdminHoldsEveryPermission() {
+        Admin admin = new Admin("root", "hash", "Root", "Admin", "root@example.com");
+        admin.addPermission(permission(PermissionType.AUDIT_VIEW));
+        assertThat(PrincipalAuthorities.of(admin).getPermissions()).isEqualTo(PermissionSet.of(PermissionType.AUDIT_VIEW));
+        
+        admin.setSuperAdmin(true);
+        PrincipalAuthorities authorities = PrincipalAuthorities.of(admin);
+        
+        assertThat(authorities.hasRole(PrincipalRole.ADMIN)).isTrue();
+        assertThat(authorities.getPermissions()).isEqualTo(PermissionSet.ALL);
+    }
+    
+    @Test
+    void customerHasNoPermissions() {
+        Customer customer = new Customer("jdoe", "hash", "John", "Doe", "john.doe@example.com");
+        customer.setId(1L);
+        
+        PrincipalAuthorities authorities = PrincipalAuthorities.of(customer);
+        
+        assertThat(authorities.hasRole(PrincipalRole.CUSTOMER)).isTrue();
+        assertThat(authorities.getPermissions().isEmpty()).isTrue();
+        assertThat(authorities.isUser(1L)).isTrue();
+        assertThat(authorities.toGrantedAuthorities()).extracting(Object::toString).containsExactly("ROLE_CUSTOMER");
+    }
+    
+    @Test
+    void tokenClaimsDropUnknownRoleBits() {
+        PrincipalAuthorities authorities = PrincipalAuthorities.of(1L, "jdoe", -1, PermissionSet.ALL.toLong());
+        
+        assertThat(authorities.getRoleBits()).isEqualTo((1 << PrincipalRole.values().length) - 1);
+        assertThat(authorities.getPermissions()).isEqualTo(PermissionSet.ALL);
+    }
+    
+    // Helper methods
+    private static Staff staff() {
+        return new Staff("teller1", "hash", "Terry", "Teller", "teller1@example.com");
+    }
+    
+    private static Permission permission(PermissionType type) {
+        return new Permission(type.name().toLowerCase(), type.name(), type, "resource", "action");
+    }
+}
@@ -0,0 +1,25 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.security.RequestRateLimiter.ClientType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestRateLimiterTest {
+    
+    @Test
+    void authenticatedPrincipalsKeepTheirOwnBucketOnceAddressesAreCapped() {
+        RequestRateLimiter limiter = new RequestRateLimiter(new SimpleMeterRegistry(), true, 2, 1, 1, 1, 1);
+        assertThat(limiter.tryAcquire(ClientType.ANONYMOUS, "10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire(ClientType.ANONYMOUS, "10.0.0.2")).isZero();
+        
+        // New addresses now share the overflow bucket
+        assertThat(limiter.tryAcquire(ClientType.ANONYMOUS, "10.0.0.3")).isZero();
+        assertThat(limiter.tryAcquire(ClientType.ANONYMOUS, "10.0.0.4")).isPositive();
+        
+        assertThat(limiter.tryAcquire(ClientType.AUTHENTICATED, "jdoe")).isZero();
+        assertThat(limiter.tryAcquire(ClientType.AUTHENTICATED, "asmith")).isZero();
+        assertThat(limiter.trackedClients()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,50 @@
+package com.bankmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+    
+    private static final long SECOND = 1_000_000_000L;
+    
+    @Test
+    void allowsTheBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0L);
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0L)).isTrue();
+        }
+        
+        assertThat(bucket.tryAcquire(0L)).isFalse();
+        assertThat(bucket.nanosUntilAvailable(0L)).isEqualTo(SECOND / 10);
+    }
+    
+    @Test
+    void refillsAtTheConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0L);
+        assertThat(bucket.tryAcquire(0L)).isTrue();
+        assertThat(bucket.tryAcquire(SECOND / 20)).isFalse();
+        
+        assertThat(bucket.tryAcquire(SECOND / 10)).isTrue();
+        assertThat(bucket.nanosUntilAvailable(SECOND / 10)).isEqualTo(SECOND / 10);
+    }
+    
+    @Test
+    void idleTimeDoesNotAccumulateBeyondTheBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0L);
+        long later = 60 * SECOND;
+        assertThat(bucket.isIdle(later)).isTrue();
+        
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isFalse();
+        assertThat(bucket.isIdle(later)).isFalse();
+    }
+    
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Account;
+import com.bankmanagement.metrics.DomainMetrics;
+import com.bankmanagement.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountServiceTest {
+    
+    private MeterRegistry meterRegistry;
+    private Account account;
+    private AccountService accountService;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        account = new Account();
+        account.setId(7L);
+        account.setAccountStatus(Account.AccountStatus.ACTIVE);
+        account.setBalance(new BigDecimal("100.00"));
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findById(7L)).thenReturn(Optional.of(account));
+        accountService = new AccountService(accountRepository, mock(ActivityTouchService.class),
+            new DomainMetrics(meterRegistry));
+    }
+    
+    @Test
+    void completedWithdrawalIsCounted() {
+        accountService.withdraw(7L, new BigDecimal("40.00"));
+        
+        assertThat(account.getBalance()).isEqualByComparingTo("60.00");
+        assertThat(withdrawals("outcome", "completed")).isEqualTo(1.0);
+    }
+    
+    @Test
+    void rejectedWithdrawalIsCountedWithItsReason() {
+        account.setMinimumBalance(new BigDecimal("50.00"));
+        
+        assertThatThrownBy(() -> accountService.withdraw(7L, new BigDecimal("60.00")))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(withdrawals("reason", "insufficient_funds")).isEqualTo(1.0);
+        assertThat(withdrawals("outcome", "completed")).isZero();
+    }
+    
+    // Helper methods
+    private double withdrawals(String tag, String value) {
+        return meterRegistry.get("bank.withdrawals").tag(tag, value).counter().count();
+    }
+}
@@ -0,0 +1,90 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Account;
+import com.bankmanagement.entity.Card;
+import com.bankmanagement.metrics.DomainMetrics;
+import com.bankmanagement.repository.AccountRepository;
+import com.bankmanagement.repository.ActivityTimestampRepository;
+import com.bankmanagement.repository.CardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActivityTouchServiceTest {
+    
+    private ActivityTimestampRepository repository;
+    private ActivityTouchService service;
+    
+    @BeforeEach
+    void setUp() {
+        repository = mock(ActivityTimestampRepository.class);
+        when(repository.touchAccountActivity(anyMap())).thenReturn(1);
+        when(repository.touchCardUsage(anyMap())).thenReturn(1);
+        service = new ActivityTouchService(repository, new SimpleMeterRegistry());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        service.shutdown();
+    }
+    
+    @Test
+    void depositsTouchAccountActivity() {
+        Account account = new Account();
+        account.setId(7L);
+        account.setAccountStatus(Account.AccountStatus.ACTIVE);
+        account.setBalance(new BigDecimal("100.00"));
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findById(7L)).thenReturn(Optional.of(account));
+        
+        new AccountService(accountRepository, service, new DomainMetrics(new SimpleMeterRegistry())).deposit(7L, new BigDecimal("25.00"));
+        service.flush();
+        
+        verify(repository).touchAccountActivity(Map.of(7L, account.getLastActivityDate()));
+    }
+    
+    @Test
+    void cardSwipesTouchCardUsage() {
+        Card card = new Card();
+        card.setId(9L);
+        CardRepository cardRepository = mock(CardRepository.class);
+        when(cardRepository.findById(9L)).thenReturn(Optional.of(card));
+        
+        new CardService(cardRepository, service).recordUse(9L);
+        service.flush();
+        
+        verify(repository).touchCardUsage(Map.of(9L, card.getLastUsedDate()));
+    }
+    
+    @Test
+    void touchesWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        LocalDateTime at = LocalDateTime.now();
+        service.touchAccount(7L, at);
+        
+        service.flush();
+        verify(repository, never()).touchAccountActivity(anyMap());
+        
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        service.flush();
+        verify(repository).touchAccountActivity(Map.of(7L, at));
+    }
+}
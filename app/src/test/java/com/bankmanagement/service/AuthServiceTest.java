@@ -0,0 +1,111 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.LoginRequestDto;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.User;
+import com.bankmanagement.exception.InvalidTokenException;
+import com.bankmanagement.repository.UserRepository;
+import com.bankmanagement.security.JwtTokenService;
+import com.bankmanagement.security.PrincipalAuthorities;
+import com.bankmanagement.security.TokenClaims.TokenType;
+import com.bankmanagement.security.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+    
+    @Test
+    void refreshIsRejectedWhenAnotherRefreshAlreadyRotatedTheToken() {
+        UserRepository userRepository = mock(UserRepository.class);
+        JwtTokenService jwtTokenService = mock(JwtTokenService.class);
+        TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+        AuthService authService = new AuthService(userRepository, mock(PasswordHashingService.class), jwtTokenService,
+            tokenRevocationService, mock(LoginAttemptService.class), mock(ActivityTouchService.class),
+            new NoOpTransactionManager());
+        
+        Customer user = new Customer("jdoe", "hash", "John", "Doe", "john.doe@example.com");
+        user.setId(1L);
+        user.setStatus(User.UserStatus.ACTIVE);
+        VerifiedToken refreshToken = new VerifiedToken("jti-1", TokenType.REFRESH,
+            PrincipalAuthorities.of(1L, "jdoe", 0, 0L), Instant.now(), Instant.now().plus(Duration.ofDays(7)));
+        when(jwtTokenService.verify("refresh-token")).thenReturn(refreshToken);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        // The concurrent refresh inserted the revocation row first
+        when(tokenRevocationService.revoke(refreshToken, "rotated")).thenReturn(false);
+        
+        assertThatThrownBy(() -> authService.refresh("refresh-token")).isInstanceOf(InvalidTokenException.class);
+        verify(jwtTokenService, never()).issueAccessToken(any());
+        verify(jwtTokenService, never()).issueRefreshToken(any());
+    }
+    
+    @Test
+    void loginChecksThePasswordOutsideAnyTransaction() {
+        UserRepository userRepository = mock(UserRepository.class);
+        PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+        JwtTokenService jwtTokenService = mock(JwtTokenService.class);
+        AuthService authService = new AuthService(userRepository, passwordHashingService, jwtTokenService,
+            mock(TokenRevocationService.class), mock(LoginAttemptService.class), mock(ActivityTouchService.class),
+            new NoOpTransactionManager());
+        
+        Customer user = new Customer("jdoe", "hash", "John", "Doe", "john.doe@example.com");
+        user.setId(1L);
+        user.setStatus(User.UserStatus.ACTIVE);
+        List<Boolean> transactionActive = new ArrayList<>();
+        when(userRepository.findByUsername("jdoe")).thenAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return Optional.of(user);
+        });
+        when(passwordHashingService.matches("secret", "hash")).thenAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return true;
+        });
+        when(jwtTokenService.getAccessTokenTtl()).thenReturn(Duration.ofMinutes(15));
+        
+        LoginRequestDto request = new LoginRequestDto();
+        request.setUsername("jdoe");
+        request.setPassword("secret");
+        authService.login(request, "203.0.113.7");
+        
+        // The lookup ran in a transaction that had ended by the time BCrypt ran
+        assertThat(transactionActive).containsExactly(true, false);
+    }
+    
+    // Helper methods
+    // Real transaction bookkeeping without a resource behind it
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+        
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+        
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+        
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
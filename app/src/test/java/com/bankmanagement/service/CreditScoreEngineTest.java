@@ -0,0 +1,89 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.CreditScoreRunDto;
+import com.bankmanagement.exception.CreditScoreRunInProgressException;
+import com.bankmanagement.repository.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CreditScoreEngineTest {
+    
+    private CustomerRepository customerRepository;
+    private Connection connection;
+    private PreparedStatement lock;
+    private PreparedStatement unlock;
+    private ResultSet lockResult;
+    private CreditScoreEngine engine;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        customerRepository = mock(CustomerRepository.class);
+        connection = mock(Connection.class);
+        lock = mock(PreparedStatement.class);
+        unlock = mock(PreparedStatement.class);
+        lockResult = mock(ResultSet.class);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT pg_try_advisory_lock(?)")).thenReturn(lock);
+        when(connection.prepareStatement("SELECT pg_advisory_unlock(?)")).thenReturn(unlock);
+        when(lock.executeQuery()).thenReturn(lockResult);
+        
+        engine = new CreditScoreEngine(customerRepository, mock(CustomerFinancialSummaryService.class),
+            mock(CacheManager.class), dataSource, new SimpleMeterRegistry(), 1, 10, Duration.ofDays(365));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+    
+    @Test
+    void runHoldsTheClusterLockUntilItFinishes() throws Exception {
+        lockGranted(true);
+        
+        CreditScoreRunDto run = engine.startRescore().get(5, TimeUnit.SECONDS);
+        
+        assertThat(run.getPartitions()).isZero();
+        verify(lock).setLong(1, CreditScoreEngine.RUN_LOCK_KEY);
+        verify(unlock).setLong(1, CreditScoreEngine.RUN_LOCK_KEY);
+        verify(unlock).execute();
+        verify(connection).close();
+    }
+    
+    @Test
+    void runIsRefusedWhileAnotherNodeHoldsTheLock() throws Exception {
+        lockGranted(false);
+        
+        assertThatThrownBy(() -> engine.startRescore())
+            .isInstanceOf(CreditScoreRunInProgressException.class);
+        verify(customerRepository, never()).findCustomerIdRange();
+        verify(connection).close();
+        
+        // The refusal must not leave the node-local guard set
+        lockGranted(true);
+        assertThat(engine.startRescore().get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+    
+    // Helper methods
+    private void lockGranted(boolean granted) throws Exception {
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getBoolean(1)).thenReturn(granted);
+    }
+}
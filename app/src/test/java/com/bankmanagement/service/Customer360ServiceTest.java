@@ -0,0 +1,97 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.Customer360Dto;
+import com.bankmanagement.entity.Account;
+import com.bankmanagement.entity.Card;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Loan;
+import com.bankmanagement.entity.Transaction;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway's migrations are PostgreSQL-specific, so the H2 schema is generated from the mappings
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(Customer360Service.class)
+class Customer360ServiceTest {
+    
+    @Autowired
+    private Customer360Service customer360Service;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    // Targets of the entity listeners' cache evictions
+    @MockBean
+    private PrincipalAuthoritiesService principalAuthoritiesService;
+    
+    @MockBean
+    private CustomerFinancialSummaryService financialSummaryService;
+    
+    private Long customerId;
+    
+    @BeforeEach
+    void setUp() {
+        Customer customer = new Customer("jdoe", "$2a$10$hashhashhash", "John", "Doe", "john.doe@example.com");
+        entityManager.persist(customer);
+        for (int a = 0; a < 3; a++) {
+            Account account = new Account(customer, Account.AccountType.SAVINGS, "ACC-" + a);
+            account.setAccountStatus(Account.AccountStatus.ACTIVE);
+            account.setBalance(new BigDecimal("100.00"));
+            entityManager.persist(account);
+            for (int c = 0; c < 2; c++) {
+                Card card = new Card(account, customer, Card.CardType.DEBIT, "JOHN DOE");
+                card.setCardNumber("4000" + a + c);
+                card.setCvvHash("hash");
+                entityManager.persist(card);
+            }
+            for (int t = 0; t < 5; t++) {
+                Transaction transaction = new Transaction(null, account, Transaction.TransactionType.DEPOSIT,
+                    new BigDecimal("10.00"), "Deposit");
+                transaction.setTransactionId("TXN-" + a + "-" + t);
+                entityManager.persist(transaction);
+            }
+        }
+        for (int l = 0; l < 2; l++) {
+            Loan loan = new Loan(customer, Loan.LoanType.PERSONAL, new BigDecimal("1000.00"), new BigDecimal("0.0500"), 12);
+            loan.setLoanNumber("LOAN-" + l);
+            entityManager.persist(loan);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        customerId = customer.getId();
+    }
+    
+    @Test
+    void loadsTheWholeViewInAtMostFourStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        Customer360Dto view = customer360Service.getCustomer360(customerId, 10);
+        
+        assertThat(view.getAccounts()).hasSize(3);
+        assertThat(view.getAccounts()).allSatisfy(account -> assertThat(account.getCards()).hasSize(2));
+        assertThat(view.getLoans()).hasSize(2);
+        assertThat(view.getRecentTransactions()).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+}
@@ -0,0 +1,46 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.exception.BatchTooLargeException;
+import com.bankmanagement.repository.AccountRepository;
+import com.bankmanagement.repository.CustomerRepository;
+import com.bankmanagement.repository.LoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CustomerFinancialSummaryServiceTest {
+    
+    private CustomerRepository customerRepository;
+    private CacheManager cacheManager;
+    private CustomerFinancialSummaryService service;
+    
+    @BeforeEach
+    void setUp() {
+        customerRepository = mock(CustomerRepository.class);
+        cacheManager = mock(CacheManager.class);
+        service = new CustomerFinancialSummaryService(customerRepository, mock(AccountRepository.class),
+            mock(LoanRepository.class), cacheManager);
+    }
+    
+    @Test
+    void oversizedBatchIsRejectedAsBadRequest() {
+        List<Long> ids = LongStream.rangeClosed(1, CustomerFinancialSummaryService.MAX_BATCH_SIZE + 1).boxed().toList();
+        
+        assertThatThrownBy(() -> service.getSummaries(ids))
+            .isInstanceOf(BatchTooLargeException.class);
+        assertThat(AnnotatedElementUtils.findMergedAnnotation(BatchTooLargeException.class, ResponseStatus.class).code())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(customerRepository, cacheManager);
+    }
+}
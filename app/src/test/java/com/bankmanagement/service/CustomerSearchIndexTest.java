@@ -0,0 +1,63 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class CustomerSearchIndexTest {
+    
+    private CustomerSearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new CustomerSearchIndex(mock(CustomerRepository.class), true);
+        index.index(customer(1L, "Ada", "Lovelace", "ada@example.com", "+1 (555) 123-4567"));
+    }
+    
+    @Test
+    void onlyPhoneLikeTermsBecomePhoneQueries() {
+        assertThat(CustomerSearchIndex.phoneQuery("+1 (555) 123")).isEqualTo("1555123");
+        assertThat(CustomerSearchIndex.phoneQuery("555.123.4567")).isEqualTo("5551234567");
+        assertThat(CustomerSearchIndex.phoneQuery("a1")).isNull();
+        assertThat(CustomerSearchIndex.phoneQuery("smith2")).isNull();
+        assertThat(CustomerSearchIndex.phoneQuery("1")).isNull();
+        assertThat(CustomerSearchIndex.phoneQuery("--")).isNull();
+    }
+    
+    @Test
+    void phoneNumbersMatchWhateverPunctuationEitherSideUses() {
+        assertThat(index.findByPrefix("1-555-12", 10)).containsExactly(1L);
+        assertThat(index.findByPrefix("(155) 5", 10)).containsExactly(1L);
+    }
+    
+    @Test
+    void mixedTermsDoNotMatchOnTheirDigits() {
+        assertThat(index.findByPrefix("a1", 10)).isEmpty();
+        assertThat(index.findByPrefix("ada", 10)).containsExactly(1L);
+    }
+    
+    @Test
+    void failedLoadLeavesSearchesOnSql() {
+        CustomerRepository repository = mock(CustomerRepository.class);
+        doThrow(new IllegalStateException("connection refused")).when(repository).forEachSearchKey(any());
+        CustomerSearchIndex failing = new CustomerSearchIndex(repository, true);
+        
+        failing.load();
+        
+        assertThat(failing.isReady()).isFalse();
+    }
+    
+    // Helper methods
+    private static Customer customer(Long id, String firstName, String lastName, String email, String phoneNumber) {
+        Customer customer = new Customer("user" + id, "password-hash", firstName, lastName, email);
+        customer.setId(id);
+        customer.setPhoneNumber(phoneNumber);
+        return customer;
+    }
+}
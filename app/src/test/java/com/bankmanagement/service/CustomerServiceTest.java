@@ -0,0 +1,83 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.dto.CustomerRegistrationDto;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.exception.DuplicateCustomerException;
+import com.bankmanagement.repository.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomerServiceTest {
+    
+    private CustomerRepository customerRepository;
+    private CustomerService customerService;
+    
+    @BeforeEach
+    void setUp() {
+        customerRepository = mock(CustomerRepository.class);
+        PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+        when(passwordHashingService.encode(anyString())).thenReturn("hash");
+        // The filters have not seen the row another node just inserted
+        CustomerUniquenessChecker uniquenessChecker = mock(CustomerUniquenessChecker.class);
+        customerService = new CustomerService(customerRepository, passwordHashingService, uniquenessChecker,
+            mock(CustomerSearchIndex.class), mock(EntityManager.class));
+    }
+    
+    @Test
+    void uniqueViolationOnInsertIsReportedAsDuplicate() {
+        when(customerRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("insert failed",
+            new SQLException("duplicate key value violates unique constraint \"users_username_key\"", "23505")));
+        
+        assertThatThrownBy(() -> customerService.createCustomer(registration()))
+            .isInstanceOf(DuplicateCustomerException.class);
+    }
+    
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsDuplicate() {
+        when(customerRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("insert failed",
+            new SQLException("null value in column \"email\"", "23502")));
+        
+        assertThatThrownBy(() -> customerService.createCustomer(registration()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+    
+    @Test
+    void uniqueViolationOnUpdateIsReportedAsDuplicate() {
+        Customer customer = new Customer();
+        customer.setEmail("john.doe@example.com");
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("update failed",
+            new SQLException("duplicate key value violates unique constraint \"users_email_key\"", "23505")));
+        
+        CustomerDto update = new CustomerDto();
+        update.setFirstName("John");
+        update.setLastName("Doe");
+        update.setEmail("taken@example.com");
+        
+        assertThatThrownBy(() -> customerService.updateCustomer(1L, update, null))
+            .isInstanceOf(DuplicateCustomerException.class);
+    }
+    
+    // Helper methods
+    private static CustomerRegistrationDto registration() {
+        CustomerRegistrationDto registration = new CustomerRegistrationDto();
+        registration.setUsername("jdoe");
+        registration.setPassword("Secret#123");
+        registration.setFirstName("John");
+        registration.setLastName("Doe");
+        registration.setEmail("john.doe@example.com");
+        return registration;
+    }
+}
@@ -0,0 +1,133 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.User;
+import com.bankmanagement.exception.InvalidCredentialsException;
+import com.bankmanagement.exception.LoginThrottledException;
+import com.bankmanagement.repository.UserRepository;
+import com.bankmanagement.repository.UserRepositoryCustom.LoginState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginAttemptServiceTest {
+    
+    private UserRepository userRepository;
+    private LoginAttemptService service;
+    
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        service = new LoginAttemptService(userRepository, new SimpleMeterRegistry(), 3, 30, Duration.ofMinutes(15),
+            5, Duration.ofMinutes(15), 4, 1000);
+    }
+    
+    @Test
+    void userIsLockedOnceTheLimitIsReached() {
+        User user = user(1L, "jdoe");
+        service.recordFailure("jdoe", user, "10.0.0.1");
+        service.recordFailure("jdoe", user, "10.0.0.2");
+        assertThatCode(() -> service.checkAllowed("jdoe", "10.0.0.3")).doesNotThrowAnyException();
+        
+        service.recordFailure("jdoe", user, "10.0.0.3");
+        
+        assertThatThrownBy(() -> service.checkAllowed("jdoe", "10.0.0.4"))
+            .isInstanceOf(InvalidCredentialsException.class);
+        LoginState state = flushedStates().get(0);
+        assertThat(state.getFailedAttempts()).isEqualTo(3);
+        assertThat(state.getLockedUntil()).isNotNull();
+    }
+    
+    @Test
+    void addressIsThrottledAcrossUsernames() {
+        for (int i = 0; i < 5; i++) {
+            service.recordFailure("user" + i, null, "10.0.0.1");
+        }
+        
+        assertThatThrownBy(() -> service.checkAllowed("someone-else", "10.0.0.1"))
+            .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> service.checkAllowed("someone-else", "10.0.0.2")).doesNotThrowAnyException();
+        // Unknown usernames have no row to write
+        service.flush();
+        verify(userRepository, never()).applyLoginStates(any());
+    }
+    
+    @Test
+    void successResetsFailures() {
+        User user = user(1L, "jdoe");
+        service.recordFailure("jdoe", user, "10.0.0.1");
+        service.recordFailure("jdoe", user, "10.0.0.1");
+        
+        service.recordSuccess(user);
+        service.recordFailure("jdoe", user, "10.0.0.1");
+        service.recordFailure("jdoe", user, "10.0.0.1");
+        
+        assertThatCode(() -> service.checkAllowed("jdoe", "10.0.0.1")).doesNotThrowAnyException();
+    }
+    
+    @Test
+    void successWithNothingOnRecordWritesNothing() {
+        service.recordSuccess(user(1L, "jdoe"));
+        
+        service.flush();
+        
+        verify(userRepository, never()).applyLoginStates(any());
+    }
+    
+    @Test
+    void failedFlushIsRetriedWithoutOverwritingNewerStates() {
+        User first = user(1L, "jdoe");
+        User second = user(2L, "asmith");
+        service.recordFailure("jdoe", first, "10.0.0.1");
+        service.recordFailure("asmith", second, "10.0.0.1");
+        List<List<LoginState>> attempts = new ArrayList<>();
+        when(userRepository.applyLoginStates(any())).thenAnswer(invocation -> {
+            attempts.add(new ArrayList<>(invocation.<Collection<LoginState>>getArgument(0)));
+            if (attempts.size() == 1) {
+                // A newer state arrives while the failing write is in flight
+                service.recordFailure("asmith", second, "10.0.0.1");
+                throw new IllegalStateException("database unavailable");
+            }
+            return attempts.get(attempts.size() - 1).size();
+        });
+        
+        service.flush();
+        service.flush();
+        
+        assertThat(attempts).hasSize(2);
+        assertThat(attempts.get(1)).extracting(LoginState::getUserId, LoginState::getFailedAttempts)
+            .containsExactlyInAnyOrder(tuple(1L, 1), tuple(2L, 2));
+    }
+    
+    // Helper methods
+    private List<LoginState> flushedStates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<LoginState>> states = ArgumentCaptor.forClass(Collection.class);
+        service.flush();
+        verify(userRepository).applyLoginStates(states.capture());
+        return new ArrayList<>(states.getValue());
+    }
+    
+    private static User user(Long id, String username) {
+        User user = new Customer();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
@@ -0,0 +1,71 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+    
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+    
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+    
+    @Test
+    void encodeAllHashesEveryPassword() {
+        service = service(2, 10, 4, Duration.ofSeconds(5));
+        
+        List<String> hashes = service.encodeAll(List.of("first-password", "second-password"));
+        
+        assertThat(hashes).hasSize(2);
+        assertThat(service.matches("first-password", hashes.get(0))).isTrue();
+        assertThat(service.matches("second-password", hashes.get(1))).isTrue();
+    }
+    
+    @Test
+    void timedOutBatchDropsQueuedWorkAndCountsRunningWork() {
+        // One thread at a high cost factor: the first hash is running, the rest are still queued
+        service = service(1, 10, 14, Duration.ofMillis(1));
+        
+        assertThatThrownBy(() -> service.encodeAll(List.of("password-1", "password-2", "password-3")))
+            .isInstanceOf(PasswordHashingUnavailableException.class);
+        
+        assertThat(abandoned("queued")).isEqualTo(2);
+        assertThat(abandoned("running")).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value()).isZero();
+    }
+    
+    @Test
+    void rejectedBatchDropsWhatWasAlreadyQueued() {
+        service = service(1, 1, 14, Duration.ofSeconds(5));
+        
+        assertThatThrownBy(() -> service.encodeAll(List.of("password-1", "password-2", "password-3")))
+            .isInstanceOf(PasswordHashingUnavailableException.class);
+        
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+        assertThat(abandoned("queued")).isEqualTo(1);
+        assertThat(abandoned("running")).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value()).isZero();
+    }
+    
+    // Helper methods
+    private PasswordHashingService service(int threads, int queueCapacity, int strength, Duration maxWait) {
+        return new PasswordHashingService(meterRegistry, threads, queueCapacity, strength, strength, strength,
+            Duration.ofSeconds(10), maxWait);
+    }
+    
+    private double abandoned(String stage) {
+        return meterRegistry.get("password.hashing.abandoned").tag("stage", stage).counter().count();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.repository.UserRepository;
+import com.bankmanagement.security.PrincipalAuthorities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PrincipalAuthoritiesCacheListenerTest {
+    
+    private Cache cache;
+    private PrincipalAuthoritiesCacheListener listener;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PrincipalAuthoritiesService.CACHE_NAME);
+        cache = cacheManager.getCache(PrincipalAuthoritiesService.CACHE_NAME);
+        PrincipalAuthoritiesService service = new PrincipalAuthoritiesService(mock(UserRepository.class), cacheManager);
+        ObjectProvider<PrincipalAuthoritiesService> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(service);
+        listener = new PrincipalAuthoritiesCacheListener(provider);
+        
+        cache.put("jdoe", PrincipalAuthorities.of(1L, "jdoe", 0, 0L));
+        cache.put("asmith", PrincipalAuthorities.of(2L, "asmith", 0, 0L));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    void userChangeEvictsOnlyThatPrincipal() {
+        listener.onChange(new Customer("jdoe", "hash", "John", "Doe", "john.doe@example.com"));
+        
+        assertThat(cache.get("jdoe")).isNull();
+        assertThat(cache.get("asmith")).isNotNull();
+    }
+    
+    @Test
+    void roleChangeEvictsEveryPrincipalAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        
+        listener.onChange(new Role("ROLE_TELLER", "Teller"));
+        assertThat(cache.get("jdoe")).isNotNull();
+        
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get("jdoe")).isNull();
+        assertThat(cache.get("asmith")).isNull();
+    }
+}
@@ -0,0 +1,128 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Permission;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.entity.Staff;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each step commits, since the second-level cache is only populated once a transaction completes
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(ReferenceDataCacheService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceDataCacheServiceTest {
+    
+    @Autowired
+    private ReferenceDataCacheService referenceDataCacheService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // Targets of the entity listeners' cache evictions
+    @MockBean
+    private PrincipalAuthoritiesService principalAuthoritiesService;
+    
+    @MockBean
+    private CustomerFinancialSummaryService financialSummaryService;
+    
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    
+    private Long staffId;
+    
+    @BeforeEach
+    void setUp() {
+        staffId = new TransactionTemplate(transactionManager).execute(status -> {
+            Permission permission = new Permission("ACCOUNT_READ_" + System.nanoTime(), "Read accounts",
+                Permission.PermissionType.ACCOUNT_MANAGEMENT, "ACCOUNT", "READ");
+            entityManager.persist(permission);
+            Role role = new Role("ROLE_TELLER_" + System.nanoTime(), "Teller");
+            role.addPermission(permission);
+            entityManager.persist(role);
+            Staff staff = staff();
+            staff.addRole(role);
+            entityManager.persist(staff);
+            return staff.getId();
+        });
+    }
+    
+    @Test
+    void loadingStaffIssuesNoReferenceDataQueries() {
+        loadStaff();
+        Statistics statistics = statistics();
+        statistics.clear();
+        
+        Set<String> permissions = loadStaff();
+        
+        assertThat(permissions).hasSize(1);
+        // The staff row itself; roles, permissions and both collections come from the cache
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(4);
+    }
+    
+    @Test
+    void evictionSendsTheNextLoadToTheDatabase() {
+        loadStaff();
+        referenceDataCacheService.evictAll();
+        Statistics statistics = statistics();
+        statistics.clear();
+        
+        loadStaff();
+        
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(1);
+    }
+    
+    // Helper methods
+    private Set<String> loadStaff() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            entityManager.clear();
+            Staff staff = entityManager.find(Staff.class, staffId);
+            return staff.getRoles().iterator().next().getPermissions().stream()
+                .map(Permission::getName)
+                .collect(Collectors.toSet());
+        });
+    }
+    
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    private static Staff staff() {
+        Staff staff = new Staff("teller" + System.nanoTime(), "$2a$10$hashhashhash", "Ann", "Smith",
+            "ann.smith" + System.nanoTime() + "@example.com");
+        staff.setDepartment("Retail");
+        staff.setDesignation("Teller");
+        staff.setStaffLevel(Staff.StaffLevel.JUNIOR);
+        staff.setSalary(new BigDecimal("1000.00"));
+        return staff;
+    }
+}
@@ -0,0 +1,121 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.RevokedToken;
+import com.bankmanagement.entity.TokenWatermark;
+import com.bankmanagement.repository.RevokedTokenRepository;
+import com.bankmanagement.repository.TokenWatermarkRepository;
+import com.bankmanagement.security.PrincipalAuthorities;
+import com.bankmanagement.security.TokenClaims.TokenType;
+import com.bankmanagement.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+    
+    private RevokedTokenRepository repository;
+    private TokenWatermarkRepository watermarkRepository;
+    private TokenRevocationService service;
+    
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        watermarkRepository = mock(TokenWatermarkRepository.class);
+        when(repository.insertIfAbsent(anyString(), any(), any(), anyBoolean(), anyString(), any())).thenReturn(1);
+        service = newService();
+    }
+    
+    @Test
+    void revocationByIdAppliesWhateverTheTokenExpiry() {
+        service.revoke("jti-1", "revoked by administrator");
+        
+        assertThat(service.isRevoked(token("jti-1", Instant.now().plus(Duration.ofMinutes(3))))).isTrue();
+        assertThat(service.isRevoked(token("jti-1", Instant.now().plus(Duration.ofDays(6))))).isTrue();
+        assertThat(service.isRevoked(token("jti-2", Instant.now().plus(Duration.ofMinutes(3))))).isFalse();
+    }
+    
+    @Test
+    void revocationByIdPolledFromAnotherNodeAppliesWhateverTheTokenExpiry() {
+        RevokedToken row = new RevokedToken("jti-1", null, LocalDateTime.now().plusDays(7), "revoked by administrator");
+        row.setExpiryKnown(false);
+        row.setCreatedAt(LocalDateTime.now());
+        when(repository.findRevokedSince(any(), any())).thenReturn(List.of(row));
+        
+        TokenRevocationService otherNode = newService();
+        otherNode.pollRevocations();
+        
+        assertThat(otherNode.isRevoked(token("jti-1", Instant.now().plus(Duration.ofMinutes(3))))).isTrue();
+    }
+    
+    @Test
+    void revokeReportsWhetherThisCallInsertedTheRow() {
+        VerifiedToken token = token("jti-1", Instant.now().plus(Duration.ofDays(1)));
+        assertThat(service.revoke(token, "rotated")).isTrue();
+        
+        when(repository.insertIfAbsent(eq("jti-1"), any(), any(), anyBoolean(), anyString(), any())).thenReturn(0);
+        assertThat(service.revoke(token, "rotated")).isFalse();
+        assertThat(service.isRevoked(token)).isTrue();
+    }
+    
+    @Test
+    void watermarkRejectsOnlyThatUsersEarlierAccessTokens() throws InterruptedException {
+        VerifiedToken before = token("jti-1", 1L, Instant.now().minusMillis(5));
+        VerifiedToken otherUser = token("jti-2", 2L, Instant.now().minusMillis(5));
+        
+        service.raiseWatermark(1L);
+        Thread.sleep(2);
+        VerifiedToken after = token("jti-3", 1L, Instant.now());
+        
+        assertThat(service.isIssuedBeforeWatermark(before)).isTrue();
+        assertThat(service.isIssuedBeforeWatermark(otherUser)).isFalse();
+        assertThat(service.isIssuedBeforeWatermark(after)).isFalse();
+        verify(watermarkRepository).raise(eq(1L), any(), any());
+    }
+    
+    @Test
+    void watermarkPolledFromAnotherNodeApplies() {
+        TokenWatermark userWatermark = new TokenWatermark(1L, LocalDateTime.now());
+        userWatermark.setUpdatedAt(LocalDateTime.now());
+        TokenWatermark allUsers = new TokenWatermark(TokenWatermark.ALL_USERS, LocalDateTime.now().minusMinutes(1));
+        allUsers.setUpdatedAt(LocalDateTime.now());
+        when(watermarkRepository.findUpdatedSince(any())).thenReturn(List.of(allUsers, userWatermark));
+        
+        TokenRevocationService otherNode = newService();
+        otherNode.pollRevocations();
+        
+        assertThat(otherNode.isIssuedBeforeWatermark(token("jti-1", 1L, Instant.now().minusSeconds(10)))).isTrue();
+        assertThat(otherNode.isIssuedBeforeWatermark(token("jti-2", 2L, Instant.now().minusSeconds(10)))).isFalse();
+        assertThat(otherNode.isIssuedBeforeWatermark(token("jti-3", 2L, Instant.now().minusSeconds(120)))).isTrue();
+    }
+    
+    // Helper methods
+    private TokenRevocationService newService() {
+        return new TokenRevocationService(repository, watermarkRepository, new SimpleMeterRegistry(),
+            Duration.ofMinutes(15).toMillis(), Duration.ofDays(7).toMillis(), 168, 1024, 0.01, Duration.ofSeconds(30));
+    }
+    
+    private static VerifiedToken token(String tokenId, Instant expiresAt) {
+        PrincipalAuthorities principal = PrincipalAuthorities.of(1L, "jdoe", 0, 0L);
+        return new VerifiedToken(tokenId, TokenType.ACCESS, principal, Instant.now(), expiresAt);
+    }
+    
+    private static VerifiedToken token(String tokenId, Long userId, Instant issuedAt) {
+        PrincipalAuthorities principal = PrincipalAuthorities.of(userId, "user" + userId, 0, 0L);
+        return new VerifiedToken(tokenId, TokenType.ACCESS, principal, issuedAt,
+            issuedAt.plus(Duration.ofMinutes(15)));
+    }
+}
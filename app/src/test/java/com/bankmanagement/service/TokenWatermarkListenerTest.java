@@ -0,0 +1,111 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Role;
+import com.bankmanagement.entity.Staff;
+import com.bankmanagement.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// Each step commits, since watermarks are only raised once a change has committed
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenWatermarkListenerTest {
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    
+    // Targets of the other entity listeners' cache evictions
+    @MockBean
+    private PrincipalAuthoritiesService principalAuthoritiesService;
+    
+    @MockBean
+    private CustomerFinancialSummaryService financialSummaryService;
+    
+    @Test
+    void statusChangeRaisesThatUsersWatermark() {
+        Long id = persist(new Customer("status-user", "$2a$10$hashhashhash", "John", "Doe", "status@example.com"));
+        
+        update(Customer.class, id, customer -> customer.setStatus(User.UserStatus.SUSPENDED));
+        
+        verify(tokenRevocationService).raiseWatermark(id);
+    }
+    
+    @Test
+    void profileChangeLeavesTokensAlone() {
+        Long id = persist(new Customer("profile-user", "$2a$10$hashhashhash", "John", "Doe", "profile@example.com"));
+        
+        update(Customer.class, id, customer -> customer.setFirstName("Johnny"));
+        
+        verify(tokenRevocationService, never()).raiseWatermark(anyLong());
+    }
+    
+    @Test
+    void roleGrantRaisesThatStaffMembersWatermark() {
+        Long roleId = persist(new Role("ROLE_TELLER", "Teller"));
+        Long staffId = persist(staff());
+        clearInvocations(tokenRevocationService);
+        
+        // Only the join table changes; the version bump on the owner still fires the listener
+        update(Staff.class, staffId, staff -> staff.addRole(entityManager.find(Role.class, roleId)));
+        
+        verify(tokenRevocationService).raiseWatermark(staffId);
+    }
+    
+    @Test
+    void roleDefinitionChangeRaisesTheWatermarkForEveryone() {
+        Long roleId = persist(new Role("ROLE_AUDITOR", "Auditor"));
+        
+        update(Role.class, roleId, role -> role.setDescription("Read-only auditor"));
+        
+        verify(tokenRevocationService).raiseWatermarkForAll();
+    }
+    
+    // Helper methods
+    private Long persist(Object entity) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            entityManager.persist(entity);
+            entityManager.flush();
+            return (Long) entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+        });
+    }
+    
+    private <T> void update(Class<T> type, Long id, Consumer<T> change) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            change.accept(entityManager.find(type, id)));
+    }
+    
+    private static Staff staff() {
+        Staff staff = new Staff("teller", "$2a$10$hashhashhash", "Ann", "Smith", "ann.smith@example.com");
+        staff.setDepartment("Retail");
+        staff.setDesignation("Teller");
+        staff.setStaffLevel(Staff.StaffLevel.JUNIOR);
+        staff.setSalary(new BigDecimal("1000.00"));
+        return staff;
+    }
+}
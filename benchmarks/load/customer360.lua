@@ -0,0 +1,24 @@
+-- wrk script: GET /customers/{id}/360 for ids spread over ID_MIN..ID_MAX, so each request
+-- loads a different customer's accounts, cards, loans and transactions from the database
+local token = os.getenv("TOKEN")
+local idMin = tonumber(os.getenv("ID_MIN") or "1")
+local idMax = tonumber(os.getenv("ID_MAX") or "1000")
+local path = os.getenv("CONTEXT_PATH") or "/api/v1"
+
+local threads = 0
+
+function setup(thread)
+  thread:set("seed", threads)
+  threads = threads + 1
+end
+
+function init(args)
+  -- Each thread walks its own id sequence
+  math.randomseed(os.time() + seed * 7919)
+  wrk.headers["Authorization"] = "Bearer " .. token
+  wrk.headers["Accept"] = "application/json"
+end
+
+function request()
+  return wrk.format("GET", path .. "/customers/" .. math.random(idMin, idMax) .. "/360?transactions=20")
+end
@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Drives GET /customers/{id}/360 with wrk. The endpoint is not cached and runs four queries per call,
+# so throughput is bound by the database and the JDBC pool rather than by the result cache.
+#
+# Start the application with the per-principal rate limit off, or one token is throttled to 50/s:
+#   java -jar app/target/bank-management-system-1.0.0.jar --app.rate-limit.enabled=false
+#   java -jar app/target/bank-management-system-1.0.0.jar --app.rate-limit.enabled=false --spring.profiles.active=virtual-threads
+#
+# Usage: USERNAME=admin PASSWORD=... ID_MIN=1 ID_MAX=50000 benchmarks/load/run-load.sh
+# Run the same settings against both builds, with the same pool size and database, and compare
+# requests per second, the latency percentiles, the non-2xx count (429s are shed load) and
+# hikaricp.connections.pending.
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+CONTEXT_PATH="${CONTEXT_PATH:-/api/v1}"
+USERNAME="${USERNAME:?set USERNAME to a staff or admin login}"
+PASSWORD="${PASSWORD:?set PASSWORD}"
+THREADS="${THREADS:-8}"
+CONNECTIONS="${CONNECTIONS:-400}"
+DURATION="${DURATION:-120s}"
+export ID_MIN="${ID_MIN:-1}"
+export ID_MAX="${ID_MAX:-1000}"
+export CONTEXT_PATH
+
+command -v wrk >/dev/null || { echo "wrk is required (https://github.com/wg/wrk)" >&2; exit 1; }
+
+login_body=$(printf '{"username":"%s","password":"%s"}' "$USERNAME" "$PASSWORD")
+TOKEN=$(curl -sf -H 'Content-Type: application/json' -d "$login_body" "$BASE_URL$CONTEXT_PATH/auth/login" \
+  | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+[ -n "$TOKEN" ] || { echo "Login failed for $USERNAME" >&2; exit 1; }
+export TOKEN
+
+pending() {
+  curl -sf "$BASE_URL$CONTEXT_PATH/actuator/metrics/hikaricp.connections.pending" \
+    | sed -n 's/.*"statistic":"VALUE","value":\([0-9.]*\).*/\1/p'
+}
+
+# Access tokens live 15 minutes, so keep DURATION below that
+echo "GET $CONTEXT_PATH/customers/{$ID_MIN..$ID_MAX}/360: $THREADS threads, $CONNECTIONS connections, $DURATION"
+wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -s "$(dirname "$0")/customer360.lua" "$BASE_URL" &
+wrk_pid=$!
+sleep 10
+echo "hikaricp.connections.pending under load: $(pending)"
+wait "$wrk_pid"
@@ -0,0 +1,68 @@
+package com.bankmanagement.benchmark;
+
+import com.bankmanagement.entity.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balance arithmetic on {@link Account}. Withdrawals and deposits run outside a transaction,
+ * so the domain counters they touch are incremented immediately rather than after commit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountBenchmark {
+    
+    // Large enough that an iteration of withdrawals never reaches the minimum balance
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000000000000.00");
+    private static final BigDecimal MINIMUM_BALANCE = new BigDecimal("100.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("25.00");
+    private static final BigDecimal INTEREST_RATE = new BigDecimal("2.5000");
+    private static final BigDecimal INTEREST_BALANCE = new BigDecimal("15230.75");
+    
+    private Account account;
+    
+    @Setup(Level.Iteration)
+    public void openAccount() {
+        account = new Account(BenchmarkFixtures.customer(), Account.AccountType.SAVINGS, "ACC1000000001");
+        account.setAccountStatus(Account.AccountStatus.ACTIVE);
+        account.setBalance(OPENING_BALANCE);
+        account.setMinimumBalance(MINIMUM_BALANCE);
+        account.setInterestRate(INTEREST_RATE);
+    }
+    
+    @Benchmark
+    public BigDecimal withdraw() {
+        account.withdraw(AMOUNT);
+        return account.getBalance();
+    }
+    
+    @Benchmark
+    public BigDecimal deposit() {
+        account.deposit(AMOUNT);
+        return account.getBalance();
+    }
+    
+    // addInterest divides without a scale, so the balance is reset each call to keep the scale constant
+    @Benchmark
+    public BigDecimal addInterest() {
+        account.setBalance(INTEREST_BALANCE);
+        account.addInterest();
+        return account.getBalance();
+    }
+}
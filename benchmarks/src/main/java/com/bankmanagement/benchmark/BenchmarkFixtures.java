@@ -0,0 +1,54 @@
+package com.bankmanagement.benchmark;
+
+import com.bankmanagement.entity.Address;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.User;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Shared fixtures for the benchmarks: a fully populated customer, and access to the private
+ * domain methods that are only reachable through entity constructors.
+ */
+public final class BenchmarkFixtures {
+    
+    private BenchmarkFixtures() {}
+    
+    public static Customer customer() {
+        Customer customer = new Customer("jdoe", "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3uCaWn3yHc5kBMG7tKLGZ1e",
+            "John", "Doe", "john.doe@example.com");
+        customer.setId(42L);
+        customer.setVersion(3L);
+        customer.setCreatedAt(LocalDateTime.of(2023, 1, 15, 9, 30));
+        customer.setUpdatedAt(LocalDateTime.of(2024, 6, 2, 14, 5, 11));
+        customer.setPhoneNumber("+1-555-0100");
+        customer.setDateOfBirth(LocalDate.of(1985, 4, 12));
+        customer.setGender(User.Gender.MALE);
+        customer.setAddress(new Address("221B Baker Street", "London", "Greater London", "NW1 6XE", "United Kingdom"));
+        customer.setStatus(User.UserStatus.ACTIVE);
+        customer.setCustomerType(Customer.CustomerType.PREMIUM);
+        customer.setCreditScore(742);
+        customer.setAnnualIncome(new BigDecimal("85000.00"));
+        customer.setEmploymentStatus("EMPLOYED");
+        customer.setEmployerName("Acme Corporation");
+        customer.setKycVerified(true);
+        customer.setKycVerifiedAt(LocalDateTime.of(2023, 1, 16, 11, 0));
+        customer.setKycVerifiedBy(7L);
+        return customer;
+    }
+    
+    // Handle to a private no-argument instance method, e.g. an entity's ID generator
+    public static MethodHandle privateMethod(Class<?> type, String name, Class<?> returnType) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                .findVirtual(type, name, MethodType.methodType(returnType));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + type.getSimpleName() + "." + name, e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.bankmanagement.benchmark;
+
+import com.bankmanagement.entity.Admin;
+import com.bankmanagement.entity.Card;
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Loan;
+import com.bankmanagement.entity.LoanPayment;
+import com.bankmanagement.entity.Staff;
+import com.bankmanagement.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The private business-identifier generators each entity runs in its constructor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IdGeneratorBenchmark {
+    
+    private static final MethodHandle CUSTOMER_ID =
+        BenchmarkFixtures.privateMethod(Customer.class, "generateCustomerId", String.class);
+    private static final MethodHandle TRANSACTION_ID =
+        BenchmarkFixtures.privateMethod(Transaction.class, "generateTransactionId", String.class);
+    private static final MethodHandle LOAN_NUMBER =
+        BenchmarkFixtures.privateMethod(Loan.class, "generateLoanNumber", String.class);
+    private static final MethodHandle PAYMENT_NUMBER =
+        BenchmarkFixtures.privateMethod(LoanPayment.class, "generatePaymentNumber", String.class);
+    private static final MethodHandle CARD_NUMBER =
+        BenchmarkFixtures.privateMethod(Card.class, "generateCardNumber", String.class);
+    private static final MethodHandle EMPLOYEE_ID =
+        BenchmarkFixtures.privateMethod(Staff.class, "generateEmployeeId", String.class);
+    private static final MethodHandle ADMIN_ID =
+        BenchmarkFixtures.privateMethod(Admin.class, "generateAdminId", String.class);
+    
+    private final Customer customer = new Customer();
+    private final Transaction transaction = new Transaction();
+    private final Loan loan = new Loan();
+    private final LoanPayment loanPayment = new LoanPayment();
+    private final Card card = new Card();
+    private final Staff staff = new Staff();
+    private final Admin admin = new Admin();
+    
+    @Benchmark
+    public String customerId() throws Throwable {
+        return (String) CUSTOMER_ID.invokeExact(customer);
+    }
+    
+    @Benchmark
+    public String transactionId() throws Throwable {
+        return (String) TRANSACTION_ID.invokeExact(transaction);
+    }
+    
+    @Benchmark
+    public String loanNumber() throws Throwable {
+        return (String) LOAN_NUMBER.invokeExact(loan);
+    }
+    
+    @Benchmark
+    public String paymentNumber() throws Throwable {
+        return (String) PAYMENT_NUMBER.invokeExact(loanPayment);
+    }
+    
+    @Benchmark
+    public String cardNumber() throws Throwable {
+        return (String) CARD_NUMBER.invokeExact(card);
+    }
+    
+    @Benchmark
+    public String employeeId() throws Throwable {
+        return (String) EMPLOYEE_ID.invokeExact(staff);
+    }
+    
+    @Benchmark
+    public String adminId() throws Throwable {
+        return (String) ADMIN_ID.invokeExact(admin);
+    }
+}
@@ -0,0 +1,61 @@
+package com.bankmanagement.benchmark;
+
+import com.bankmanagement.entity.Customer;
+import com.bankmanagement.entity.Loan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Amortisation on {@link Loan}: the private calculateLoanDetails on its own, and a full loan
+ * application as built by the service (number generation plus calculation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoanBenchmark {
+    
+    private static final MethodHandle CALCULATE_LOAN_DETAILS =
+        BenchmarkFixtures.privateMethod(Loan.class, "calculateLoanDetails", void.class);
+    
+    private static final BigDecimal PRINCIPAL = new BigDecimal("250000.00");
+    private static final BigDecimal INTEREST_RATE = new BigDecimal("6.7500");
+    
+    @Param({"12", "60", "360"})
+    private int loanTermMonths;
+    
+    private Customer customer;
+    private Loan loan;
+    
+    @Setup
+    public void createLoan() {
+        customer = BenchmarkFixtures.customer();
+        loan = new Loan(customer, Loan.LoanType.HOME, PRINCIPAL, INTEREST_RATE, loanTermMonths);
+    }
+    
+    @Benchmark
+    public BigDecimal calculateLoanDetails() throws Throwable {
+        CALCULATE_LOAN_DETAILS.invokeExact(loan);
+        return loan.getMonthlyPayment();
+    }
+    
+    @Benchmark
+    public Loan applyForLoan() {
+        return new Loan(customer, Loan.LoanType.HOME, PRINCIPAL, INTEREST_RATE, loanTermMonths);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.benchmark.BenchmarkFixtures;
+import com.bankmanagement.dto.CustomerDto;
+import com.bankmanagement.entity.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping used by every customer read. Lives in the service package because
+ * {@link CustomerService#mapToDto(Customer)} is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CustomerMappingBenchmark {
+    
+    private final Customer customer = BenchmarkFixtures.customer();
+    
+    @Benchmark
+    public CustomerDto mapToDto() {
+        return CustomerService.mapToDto(customer);
+    }
+}
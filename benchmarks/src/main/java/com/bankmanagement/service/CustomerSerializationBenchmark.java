@@ -0,0 +1,70 @@
+package com.bankmanagement.service;
+
+import com.bankmanagement.benchmark.BenchmarkFixtures;
+import com.bankmanagement.dto.CustomerDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round trip of a {@link CustomerDto} in each format the API negotiates. The mappers are
+ * built the way WebConfig builds them, from a builder carrying the spring.jackson settings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CustomerSerializationBenchmark {
+    
+    @Param({"json", "smile", "cbor"})
+    private String format;
+    
+    private ObjectMapper objectMapper;
+    private CustomerDto customer;
+    private byte[] encoded;
+    
+    @Setup
+    public void createMapper() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .dateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"))
+            .timeZone(TimeZone.getTimeZone("UTC"))
+            .serializationInclusion(JsonInclude.Include.NON_NULL);
+        if ("smile".equals(format)) {
+            builder.factory(new SmileFactory());
+        } else if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        }
+        objectMapper = builder.build();
+        customer = CustomerService.mapToDto(BenchmarkFixtures.customer());
+        encoded = objectMapper.writeValueAsBytes(customer);
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(customer);
+    }
+    
+    @Benchmark
+    public CustomerDto deserialize() throws Exception {
+        return objectMapper.readValue(encoded, CustomerDto.class);
+    }
+}
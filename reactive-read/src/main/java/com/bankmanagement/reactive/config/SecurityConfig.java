@@ -0,0 +1,53 @@
+package com.bankmanagement.reactive.config;
+
+import com.bankmanagement.reactive.security.AdminIpAllowlistCache;
+import com.bankmanagement.reactive.security.AdminIpAllowlistWebFilter;
+import com.bankmanagement.reactive.security.BearerTokenAuthenticationManager;
+import com.bankmanagement.reactive.security.BearerTokenConverter;
+import com.bankmanagement.reactive.security.ClientAddressResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+    
+    @Bean
+    public SecurityWebFilterChain filterChain(ServerHttpSecurity http,
+                                              BearerTokenAuthenticationManager authenticationManager,
+                                              AdminIpAllowlistCache adminIpAllowlistCache,
+                                              @Value("${app.trusted-proxies:127.0.0.0/8, ::1}") String trustedProxies) {
+        HttpStatusServerEntryPoint entryPoint = new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED);
+        AuthenticationWebFilter bearerFilter = new AuthenticationWebFilter(authenticationManager);
+        bearerFilter.setServerAuthenticationConverter(new BearerTokenConverter());
+        bearerFilter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(entryPoint));
+        
+        return http
+            .csrf(csrf -> csrf.disable())
+            .httpBasic(basic -> basic.disable())
+            .formLogin(form -> form.disable())
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(entryPoint))
+            .addFilterAt(bearerFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+            // Admin tokens are only honoured from the admin's whitelisted addresses, as in the main application
+            .addFilterAfter(new AdminIpAllowlistWebFilter(adminIpAllowlistCache, new ClientAddressResolver(trustedProxies)),
+                SecurityWebFiltersOrder.AUTHENTICATION)
+            // Matchers are relative to the base path (/api/v1)
+            .authorizeExchange(authz -> authz
+                .pathMatchers("/actuator/health").permitAll()
+                .pathMatchers("/accounts/overdraft").hasAnyRole("ADMIN", "STAFF")
+                .anyExchange().authenticated()
+            )
+            .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bankmanagement.reactive.controller;
+
+import com.bankmanagement.reactive.dto.AccountFlowDto;
+import com.bankmanagement.reactive.entity.AccountView;
+import com.bankmanagement.reactive.entity.TransactionView;
+import com.bankmanagement.reactive.security.TokenPrincipal;
+import com.bankmanagement.reactive.service.AccountReadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/accounts")
+@CrossOrigin(origins = "*")
+public class AccountReadController {
+    
+    private final AccountReadService accountReadService;
+    
+    @Autowired
+    public AccountReadController(AccountReadService accountReadService) {
+        this.accountReadService = accountReadService;
+    }
+    
+    @GetMapping("/{id}")
+    public Mono<AccountView> getAccount(@PathVariable Long id, @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.getAccount(id, principal);
+    }
+    
+    @GetMapping("/number/{accountNumber}")
+    public Mono<AccountView> getAccountByNumber(@PathVariable String accountNumber,
+                                                @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.getAccountByNumber(accountNumber, principal);
+    }
+    
+    // Streamed newest first; rows are read from the database only as fast as the client takes them
+    @GetMapping(value = "/{id}/statement", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<TransactionView> getStatement(@PathVariable Long id,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                              @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.streamStatement(id, from, to, principal);
+    }
+    
+    @GetMapping("/{id}/flow")
+    public Mono<AccountFlowDto> getAccountFlow(@PathVariable Long id,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                                               @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.getAccountFlow(id, since, principal);
+    }
+    
+    @GetMapping(value = "/overdraft", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<AccountView> getOverdraftAccounts() {
+        return accountReadService.getOverdraftAccounts();
+    }
+}
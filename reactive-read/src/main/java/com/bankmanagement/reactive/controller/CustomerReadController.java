@@ -0,0 +1,43 @@
+package com.bankmanagement.reactive.controller;
+
+import com.bankmanagement.reactive.dto.CustomerBalanceDto;
+import com.bankmanagement.reactive.entity.AccountView;
+import com.bankmanagement.reactive.entity.TransactionView;
+import com.bankmanagement.reactive.security.TokenPrincipal;
+import com.bankmanagement.reactive.service.AccountReadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/customers/{customerId}")
+@CrossOrigin(origins = "*")
+public class CustomerReadController {
+    
+    private final AccountReadService accountReadService;
+    
+    @Autowired
+    public CustomerReadController(AccountReadService accountReadService) {
+        this.accountReadService = accountReadService;
+    }
+    
+    @GetMapping(value = "/accounts", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<AccountView> getAccounts(@PathVariable Long customerId, @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.getCustomerAccounts(customerId, principal);
+    }
+    
+    @GetMapping("/balance")
+    public Mono<CustomerBalanceDto> getBalance(@PathVariable Long customerId, @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.getCustomerBalance(customerId, principal);
+    }
+    
+    @GetMapping(value = "/transactions", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<TransactionView> getRecentTransactions(@PathVariable Long customerId,
+                                                       @RequestParam(defaultValue = "50") int limit,
+                                                       @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.getRecentTransactions(customerId, limit, principal);
+    }
+}
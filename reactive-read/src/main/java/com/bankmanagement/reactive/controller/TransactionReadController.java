@@ -0,0 +1,28 @@
+package com.bankmanagement.reactive.controller;
+
+import com.bankmanagement.reactive.entity.TransactionView;
+import com.bankmanagement.reactive.security.TokenPrincipal;
+import com.bankmanagement.reactive.service.AccountReadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/transactions")
+@CrossOrigin(origins = "*")
+public class TransactionReadController {
+    
+    private final AccountReadService accountReadService;
+    
+    @Autowired
+    public TransactionReadController(AccountReadService accountReadService) {
+        this.accountReadService = accountReadService;
+    }
+    
+    @GetMapping("/{transactionId}")
+    public Mono<TransactionView> getTransaction(@PathVariable String transactionId,
+                                                @AuthenticationPrincipal TokenPrincipal principal) {
+        return accountReadService.getTransaction(transactionId, principal);
+    }
+}
@@ -0,0 +1,48 @@
+package com.bankmanagement.reactive.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AccountFlowDto {
+    
+    private Long accountId;
+    private LocalDateTime since;
+    private BigDecimal totalDeposits;
+    private BigDecimal totalWithdrawals;
+    
+    // Constructors
+    public AccountFlowDto() {}
+    
+    // Getters and Setters
+    public Long getAccountId() { 
+        return accountId; 
+    }
+    
+    public void setAccountId(Long accountId) { 
+        this.accountId = accountId; 
+    }
+    
+    public LocalDateTime getSince() { 
+        return since; 
+    }
+    
+    public void setSince(LocalDateTime since) { 
+        this.since = since; 
+    }
+    
+    public BigDecimal getTotalDeposits() { 
+        return totalDeposits; 
+    }
+    
+    public void setTotalDeposits(BigDecimal totalDeposits) { 
+        this.totalDeposits = totalDeposits; 
+    }
+    
+    public BigDecimal getTotalWithdrawals() { 
+        return totalWithdrawals; 
+    }
+    
+    public void setTotalWithdrawals(BigDecimal totalWithdrawals) { 
+        this.totalWithdrawals = totalWithdrawals; 
+    }
+}
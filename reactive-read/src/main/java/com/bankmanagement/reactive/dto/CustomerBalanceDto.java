@@ -0,0 +1,29 @@
+package com.bankmanagement.reactive.dto;
+
+import java.math.BigDecimal;
+
+public class CustomerBalanceDto {
+    
+    private Long customerId;
+    private BigDecimal totalBalance;
+    
+    // Constructors
+    public CustomerBalanceDto() {}
+    
+    // Getters and Setters
+    public Long getCustomerId() { 
+        return customerId; 
+    }
+    
+    public void setCustomerId(Long customerId) { 
+        this.customerId = customerId; 
+    }
+    
+    public BigDecimal getTotalBalance() { 
+        return totalBalance; 
+    }
+    
+    public void setTotalBalance(BigDecimal totalBalance) { 
+        this.totalBalance = totalBalance; 
+    }
+}
@@ -0,0 +1,138 @@
+package com.bankmanagement.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Read-only mapping of the accounts table. Type and status stay strings so a new enum constant in the
+// main application does not need a redeploy here
+@Table("accounts")
+public class AccountView {
+    
+    @Id
+    private Long id;
+    
+    @Column("account_number")
+    private String accountNumber;
+    
+    @Column("customer_id")
+    private Long customerId;
+    
+    @Column("account_type")
+    private String accountType;
+    
+    @Column("account_status")
+    private String accountStatus;
+    
+    @Column("balance")
+    private BigDecimal balance;
+    
+    @Column("currency")
+    private String currency;
+    
+    @Column("interest_rate")
+    private BigDecimal interestRate;
+    
+    @Column("minimum_balance")
+    private BigDecimal minimumBalance;
+    
+    @Column("opening_date")
+    private LocalDateTime openingDate;
+    
+    @Column("last_activity_date")
+    private LocalDateTime lastActivityDate;
+    
+    // Constructors
+    public AccountView() {}
+    
+    // Getters and Setters
+    public Long getId() { 
+        return id; 
+    }
+    
+    public void setId(Long id) { 
+        this.id = id; 
+    }
+    
+    public String getAccountNumber() { 
+        return accountNumber; 
+    }
+    
+    public void setAccountNumber(String accountNumber) { 
+        this.accountNumber = accountNumber; 
+    }
+    
+    public Long getCustomerId() { 
+        return customerId; 
+    }
+    
+    public void setCustomerId(Long customerId) { 
+        this.customerId = customerId; 
+    }
+    
+    public String getAccountType() { 
+        return accountType; 
+    }
+    
+    public void setAccountType(String accountType) { 
+        this.accountType = accountType; 
+    }
+    
+    public String getAccountStatus() { 
+        return accountStatus; 
+    }
+    
+    public void setAccountStatus(String accountStatus) { 
+        this.accountStatus = accountStatus; 
+    }
+    
+    public BigDecimal getBalance() { 
+        return balance; 
+    }
+    
+    public void setBalance(BigDecimal balance) { 
+        this.balance = balance; 
+    }
+    
+    public String getCurrency() { 
+        return currency; 
+    }
+    
+    public void setCurrency(String currency) { 
+        this.currency = currency; 
+    }
+    
+    public BigDecimal getInterestRate() { 
+        return interestRate; 
+    }
+    
+    public void setInterestRate(BigDecimal interestRate) { 
+        this.interestRate = interestRate; 
+    }
+    
+    public BigDecimal getMinimumBalance() { 
+        return minimumBalance; 
+    }
+    
+    public void setMinimumBalance(BigDecimal minimumBalance) { 
+        this.minimumBalance = minimumBalance; 
+    }
+    
+    public LocalDateTime getOpeningDate() { 
+        return openingDate; 
+    }
+    
+    public void setOpeningDate(LocalDateTime openingDate) { 
+        this.openingDate = openingDate; 
+    }
+    
+    public LocalDateTime getLastActivityDate() { 
+        return lastActivityDate; 
+    }
+    
+    public void setLastActivityDate(LocalDateTime lastActivityDate) { 
+        this.lastActivityDate = lastActivityDate; 
+    }
+}
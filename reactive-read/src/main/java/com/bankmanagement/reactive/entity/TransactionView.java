@@ -0,0 +1,159 @@
+package com.bankmanagement.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Read-only mapping of the transactions table; see AccountView
+@Table("transactions")
+public class TransactionView {
+    
+    @Id
+    private Long id;
+    
+    @Column("transaction_id")
+    private String transactionId;
+    
+    @Column("from_account_id")
+    private Long fromAccountId;
+    
+    @Column("to_account_id")
+    private Long toAccountId;
+    
+    @Column("transaction_type")
+    private String transactionType;
+    
+    @Column("amount")
+    private BigDecimal amount;
+    
+    @Column("currency")
+    private String currency;
+    
+    @Column("description")
+    private String description;
+    
+    @Column("status")
+    private String status;
+    
+    @Column("transaction_date")
+    private LocalDateTime transactionDate;
+    
+    @Column("processed_date")
+    private LocalDateTime processedDate;
+    
+    @Column("reference_number")
+    private String referenceNumber;
+    
+    @Column("fee_amount")
+    private BigDecimal feeAmount;
+    
+    // Constructors
+    public TransactionView() {}
+    
+    // Getters and Setters
+    public Long getId() { 
+        return id; 
+    }
+    
+    public void setId(Long id) { 
+        this.id = id; 
+    }
+    
+    public String getTransactionId() { 
+        return transactionId; 
+    }
+    
+    public void setTransactionId(String transactionId) { 
+        this.transactionId = transactionId; 
+    }
+    
+    public Long getFromAccountId() { 
+        return fromAccountId; 
+    }
+    
+    public void setFromAccountId(Long fromAccountId) { 
+        this.fromAccountId = fromAccountId; 
+    }
+    
+    public Long getToAccountId() { 
+        return toAccountId; 
+    }
+    
+    public void setToAccountId(Long toAccountId) { 
+        this.toAccountId = toAccountId; 
+    }
+    
+    public String getTransactionType() { 
+        return transactionType; 
+    }
+    
+    public void setTransactionType(String transactionType) { 
+        this.transactionType = transactionType; 
+    }
+    
+    public BigDecimal getAmount() { 
+        return amount; 
+    }
+    
+    public void setAmount(BigDecimal amount) { 
+        this.amount = amount; 
+    }
+    
+    public String getCurrency() { 
+        return currency; 
+    }
+    
+    public void setCurrency(String currency) { 
+        this.currency = currency; 
+    }
+    
+    public String getDescription() { 
+        return description; 
+    }
+    
+    public void setDescription(String description) { 
+        this.description = description; 
+    }
+    
+    public String getStatus() { 
+        return status; 
+    }
+    
+    public void setStatus(String status) { 
+        this.status = status; 
+    }
+    
+    public LocalDateTime getTransactionDate() { 
+        return transactionDate; 
+    }
+    
+    public void setTransactionDate(LocalDateTime transactionDate) { 
+        this.transactionDate = transactionDate; 
+    }
+    
+    public LocalDateTime getProcessedDate() { 
+        return processedDate; 
+    }
+    
+    public void setProcessedDate(LocalDateTime processedDate) { 
+        this.processedDate = processedDate; 
+    }
+    
+    public String getReferenceNumber() { 
+        return referenceNumber; 
+    }
+    
+    public void setReferenceNumber(String referenceNumber) { 
+        this.referenceNumber = referenceNumber; 
+    }
+    
+    public BigDecimal getFeeAmount() { 
+        return feeAmount; 
+    }
+    
+    public void setFeeAmount(BigDecimal feeAmount) { 
+        this.feeAmount = feeAmount; 
+    }
+}
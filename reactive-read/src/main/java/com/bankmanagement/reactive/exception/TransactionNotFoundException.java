@@ -0,0 +1,16 @@
+package com.bankmanagement.reactive.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class TransactionNotFoundException extends RuntimeException {
+    
+    public TransactionNotFoundException(String message) {
+        super(message);
+    }
+    
+    public TransactionNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,49 @@
+package com.bankmanagement.reactive.repository;
+
+import com.bankmanagement.reactive.dto.CustomerBalanceDto;
+import com.bankmanagement.reactive.entity.AccountView;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// Non-blocking counterpart of the read methods in the main application's AccountRepository; finders only
+public interface ReactiveAccountRepository extends Repository<AccountView, Long> {
+    
+    Mono<AccountView> findById(Long id);
+    
+    Mono<AccountView> findByAccountNumber(String accountNumber);
+    
+    Flux<AccountView> findByCustomerId(Long customerId);
+    
+    Flux<AccountView> findByAccountType(String accountType);
+    
+    Flux<AccountView> findByAccountStatus(String accountStatus);
+    
+    @Query("SELECT * FROM accounts WHERE balance < minimum_balance")
+    Flux<AccountView> findOverdraftAccounts();
+    
+    @Query("SELECT * FROM accounts WHERE balance >= :minBalance")
+    Flux<AccountView> findByMinimumBalance(@Param("minBalance") BigDecimal minBalance);
+    
+    @Query("SELECT * FROM accounts WHERE customer_id = :customerId AND account_status = 'ACTIVE'")
+    Flux<AccountView> findActiveAccountsByCustomer(@Param("customerId") Long customerId);
+    
+    // Zero rather than empty when the customer has no active account
+    @Query("SELECT COALESCE(SUM(balance), 0) FROM accounts WHERE customer_id = :customerId AND account_status = 'ACTIVE'")
+    Mono<BigDecimal> getTotalBalanceByCustomer(@Param("customerId") Long customerId);
+    
+    @Query("SELECT customer_id, SUM(balance) AS total_balance FROM accounts " +
+           "WHERE customer_id IN (:customerIds) AND account_status = 'ACTIVE' GROUP BY customer_id")
+    Flux<CustomerBalanceDto> getTotalBalanceByCustomers(@Param("customerIds") Collection<Long> customerIds);
+    
+    @Query("SELECT COUNT(*) FROM accounts WHERE opening_date >= :startDate")
+    Mono<Long> countAccountsOpenedAfter(@Param("startDate") LocalDateTime startDate);
+    
+    Mono<Boolean> existsByAccountNumber(String accountNumber);
+}
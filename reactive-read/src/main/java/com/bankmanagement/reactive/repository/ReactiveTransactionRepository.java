@@ -0,0 +1,54 @@
+package com.bankmanagement.reactive.repository;
+
+import com.bankmanagement.reactive.entity.TransactionView;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// Non-blocking counterpart of the read methods in the main application's TransactionRepository
+public interface ReactiveTransactionRepository extends Repository<TransactionView, Long>, ReactiveTransactionRepositoryCustom {
+    
+    Mono<TransactionView> findByTransactionId(String transactionId);
+    
+    Flux<TransactionView> findByFromAccountId(Long fromAccountId);
+    
+    Flux<TransactionView> findByToAccountId(Long toAccountId);
+    
+    // Transactions carry no customer column, so the customer is reached through either account
+    @Query("SELECT t.* FROM transactions t WHERE t.from_account_id IN (SELECT id FROM accounts WHERE customer_id = :customerId) " +
+           "OR t.to_account_id IN (SELECT id FROM accounts WHERE customer_id = :customerId) ORDER BY t.transaction_date DESC")
+    Flux<TransactionView> findByCustomerId(@Param("customerId") Long customerId);
+    
+    Flux<TransactionView> findByTransactionType(String transactionType);
+    
+    Flux<TransactionView> findByStatus(String status);
+    
+    Flux<TransactionView> findByTransactionDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+    
+    @Query("SELECT * FROM transactions WHERE from_account_id = :accountId OR to_account_id = :accountId ORDER BY transaction_date DESC")
+    Flux<TransactionView> findByAccountIdOrderByDateDesc(@Param("accountId") Long accountId);
+    
+    @Query("SELECT * FROM transactions WHERE from_account_id IN (:accountIds) OR to_account_id IN (:accountIds) " +
+           "ORDER BY transaction_date DESC LIMIT :limit")
+    Flux<TransactionView> findRecentByAccountIds(@Param("accountIds") Collection<Long> accountIds, @Param("limit") int limit);
+    
+    @Query("SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE from_account_id = :accountId " +
+           "AND transaction_date >= :startDate AND status = 'COMPLETED'")
+    Mono<BigDecimal> getTotalWithdrawalsByAccountAndDateRange(@Param("accountId") Long accountId, @Param("startDate") LocalDateTime startDate);
+    
+    @Query("SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE to_account_id = :accountId " +
+           "AND transaction_date >= :startDate AND status = 'COMPLETED'")
+    Mono<BigDecimal> getTotalDepositsByAccountAndDateRange(@Param("accountId") Long accountId, @Param("startDate") LocalDateTime startDate);
+    
+    @Query("SELECT COUNT(*) FROM transactions WHERE transaction_date >= :startDate AND status = 'COMPLETED'")
+    Mono<Long> countCompletedTransactionsAfter(@Param("startDate") LocalDateTime startDate);
+    
+    @Query("SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE transaction_date >= :startDate AND status = 'COMPLETED'")
+    Mono<BigDecimal> getTotalTransactionVolumeAfter(@Param("startDate") LocalDateTime startDate);
+}
@@ -0,0 +1,13 @@
+package com.bankmanagement.reactive.repository;
+
+import com.bankmanagement.reactive.entity.TransactionView;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveTransactionRepositoryCustom {
+    
+    // Transactions into or out of an account within [from, to), newest first, fetched in chunks as the
+    // subscriber requests them, so a slow client holds back the query instead of filling memory
+    Flux<TransactionView> streamStatement(Long accountId, LocalDateTime from, LocalDateTime to);
+}
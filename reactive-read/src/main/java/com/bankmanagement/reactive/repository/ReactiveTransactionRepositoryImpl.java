@@ -0,0 +1,39 @@
+package com.bankmanagement.reactive.repository;
+
+import com.bankmanagement.reactive.entity.TransactionView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+public class ReactiveTransactionRepositoryImpl implements ReactiveTransactionRepositoryCustom {
+    
+    private static final String STATEMENT_SQL =
+        "SELECT * FROM transactions WHERE (from_account_id = $1 OR to_account_id = $1) " +
+        "AND transaction_date >= $2 AND transaction_date < $3 ORDER BY transaction_date DESC, id DESC";
+    
+    private final R2dbcEntityTemplate template;
+    private final int fetchSize;
+    
+    @Autowired
+    public ReactiveTransactionRepositoryImpl(R2dbcEntityTemplate template,
+                                             @Value("${app.statement.fetch-size:500}") int fetchSize) {
+        this.template = template;
+        this.fetchSize = fetchSize;
+    }
+    
+    @Override
+    public Flux<TransactionView> streamStatement(Long accountId, LocalDateTime from, LocalDateTime to) {
+        return template.getDatabaseClient()
+            .sql(STATEMENT_SQL)
+            // Read through a portal in chunks of fetch-size rows rather than as one unbounded result
+            .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+            .bind(0, accountId)
+            .bind(1, from)
+            .bind(2, to)
+            .map((row, metadata) -> template.getConverter().read(TransactionView.class, row, metadata))
+            .all();
+    }
+}
@@ -0,0 +1,64 @@
+package com.bankmanagement.reactive.security;
+
+import com.bankmanagement.security.CidrTrie;
+import com.bankmanagement.security.IpWhitelist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Each admin's ip_whitelist from the main application's admins table, compiled with the same rules into a
+// CidrTrie and kept for a short time. A user that is no longer an admin is allowed no address.
+@Component
+public class AdminIpAllowlistCache {
+    
+    private static final String WHITELIST_SQL = "SELECT ip_whitelist FROM admins WHERE id = :id";
+    
+    private final DatabaseClient databaseClient;
+    private final long ttlNanos;
+    
+    private final Map<Long, Allowlist> allowlists = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public AdminIpAllowlistCache(DatabaseClient databaseClient,
+                                 @Value("${app.admin-ip-allowlist.ttl:PT1M}") Duration ttl) {
+        this.databaseClient = databaseClient;
+        this.ttlNanos = ttl.toNanos();
+    }
+    
+    public Mono<Boolean> isAllowed(Long adminId, String address) {
+        if (adminId == null || address == null) {
+            return Mono.just(false);
+        }
+        Allowlist cached = allowlists.get(adminId);
+        if (cached != null && System.nanoTime() - cached.loadedAt < ttlNanos) {
+            return Mono.just(cached.addresses.contains(address));
+        }
+        return databaseClient.sql(WHITELIST_SQL)
+            .bind("id", adminId)
+            .map(row -> Optional.ofNullable(row.get("ip_whitelist", String.class)))
+            .one()
+            .map(whitelist -> IpWhitelist.compile(whitelist.orElse(null)))
+            // No admins row: the user is no longer an admin
+            .defaultIfEmpty(CidrTrie.EMPTY)
+            .map(Allowlist::new)
+            .doOnNext(allowlist -> allowlists.put(adminId, allowlist))
+            .map(allowlist -> allowlist.addresses.contains(address));
+    }
+    
+    private static final class Allowlist {
+        
+        private final CidrTrie addresses;
+        private final long loadedAt = System.nanoTime();
+        
+        private Allowlist(CidrTrie addresses) {
+            this.addresses = addresses;
+        }
+    }
+}
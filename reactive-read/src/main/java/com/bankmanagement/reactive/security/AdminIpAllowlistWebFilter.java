@@ -0,0 +1,52 @@
+package com.bankmanagement.reactive.security;
+
+import com.bankmanagement.reactive.security.TokenPrincipal.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// Rejects admins whose address is outside their IP whitelist, as the main application does, so an admin
+// token is not accepted here from anywhere
+public class AdminIpAllowlistWebFilter implements WebFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(AdminIpAllowlistWebFilter.class);
+    
+    private final AdminIpAllowlistCache allowlistCache;
+    private final ClientAddressResolver addressResolver;
+    
+    public AdminIpAllowlistWebFilter(AdminIpAllowlistCache allowlistCache, ClientAddressResolver addressResolver) {
+        this.allowlistCache = allowlistCache;
+        this.addressResolver = addressResolver;
+    }
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String address = addressResolver.resolve(exchange.getRequest());
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(authentication -> authentication.getPrincipal() instanceof TokenPrincipal principal
+                && principal.hasRole(Role.ADMIN))
+            .map(authentication -> (TokenPrincipal) authentication.getPrincipal())
+            .flatMap(principal -> allowlistCache.isAllowed(principal.getUserId(), address)
+                .doOnNext(allowed -> {
+                    if (!allowed) {
+                        log.warn("Rejected admin {} from address {} outside the IP whitelist",
+                            principal.getUsername(), address);
+                    }
+                }))
+            .defaultIfEmpty(true)
+            .flatMap(allowed -> {
+                if (allowed) {
+                    return chain.filter(exchange);
+                }
+                exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+                return exchange.getResponse().setComplete();
+            });
+    }
+}
@@ -0,0 +1,62 @@
+package com.bankmanagement.reactive.security;
+
+import com.bankmanagement.security.TokenClaims;
+import com.bankmanagement.security.TokenClaims.TokenType;
+import com.bankmanagement.security.TokenCodec;
+import com.bankmanagement.security.TokenVerificationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// Verifies access tokens with the main application's codec and revocation rules. Verification is an HMAC
+// check plus in-memory lookups, so it runs inline on the event loop.
+@Component
+public class BearerTokenAuthenticationManager implements ReactiveAuthenticationManager {
+    
+    private final TokenCodec codec;
+    private final TokenRevocationCache revocationCache;
+    
+    @Autowired
+    public BearerTokenAuthenticationManager(TokenRevocationCache revocationCache,
+                                            @Value("${jwt.secret}") String secret) {
+        this.codec = new TokenCodec(secret);
+        this.revocationCache = revocationCache;
+    }
+    
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        return Mono.fromCallable(() -> toAuthentication((String) authentication.getCredentials()));
+    }
+    
+    // Helper methods
+    private Authentication toAuthentication(String token) {
+        TokenClaims claims;
+        try {
+            claims = codec.decode(token);
+        } catch (TokenVerificationException e) {
+            throw new BadCredentialsException(e.getMessage(), e);
+        }
+        if (claims.getType() != TokenType.ACCESS) {
+            throw new BadCredentialsException("Not an access token");
+        }
+        if (!revocationCache.isReady()) {
+            throw new BadCredentialsException("Token revocations not loaded yet");
+        }
+        if (revocationCache.isRevoked(claims)) {
+            throw new BadCredentialsException("Token has been revoked");
+        }
+        // The user's status or grants changed after this token was issued; the client refreshes to get new ones
+        if (revocationCache.isIssuedBeforeWatermark(claims)) {
+            throw new BadCredentialsException("Token was issued before the user's watermark");
+        }
+        
+        TokenPrincipal principal = new TokenPrincipal(claims.getTokenId(), claims.getUserId(), claims.getUsername(),
+            claims.getRoleBits());
+        return UsernamePasswordAuthenticationToken.authenticated(principal, token, principal.toGrantedAuthorities());
+    }
+}
@@ -0,0 +1,24 @@
+package com.bankmanagement.reactive.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// Requests without a bearer token continue unauthenticated and are answered 401 where a user is needed
+public class BearerTokenConverter implements ServerAuthenticationConverter {
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return Mono.empty();
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return Mono.just(UsernamePasswordAuthenticationToken.unauthenticated(null, token));
+    }
+}
@@ -0,0 +1,61 @@
+package com.bankmanagement.reactive.security;
+
+import com.bankmanagement.security.CidrTrie;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.net.InetSocketAddress;
+import java.util.regex.Pattern;
+
+// The client address admin whitelists are checked against. Behind a trusted proxy it is the right-most
+// X-Forwarded-For entry that is not itself a trusted proxy, as Tomcat's RemoteIpValve picks it in the main
+// application; from any other peer the header is ignored, so it cannot be used to spoof an address.
+public class ClientAddressResolver {
+    
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final Pattern SEPARATORS = Pattern.compile("[,;\\s]+");
+    
+    private final CidrTrie trustedProxies;
+    
+    public ClientAddressResolver(String trustedProxies) {
+        CidrTrie.Builder builder = CidrTrie.builder();
+        if (trustedProxies != null && !trustedProxies.isBlank()) {
+            for (String entry : SEPARATORS.split(trustedProxies.trim())) {
+                if (!builder.add(entry)) {
+                    throw new IllegalArgumentException("Invalid trusted proxy address: " + entry);
+                }
+            }
+        }
+        this.trustedProxies = builder.build();
+    }
+    
+    // Null when the request has no peer address
+    public String resolve(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null || remote.getAddress() == null) {
+            return null;
+        }
+        String address = remote.getAddress().getHostAddress();
+        int scope = address.indexOf('%');
+        if (scope >= 0) {
+            address = address.substring(0, scope);
+        }
+        
+        String forwardedFor = request.getHeaders().getFirst(FORWARDED_FOR);
+        if (forwardedFor == null || !trustedProxies.contains(address)) {
+            return address;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (CidrTrie.parseAddress(hop) == null) {
+                // Not an address; everything to its left was written by someone we cannot vouch for
+                return address;
+            }
+            address = hop;
+            if (!trustedProxies.contains(hop)) {
+                break;
+            }
+        }
+        return address;
+    }
+}
@@ -0,0 +1,67 @@
+package com.bankmanagement.reactive.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Principal rebuilt from an access token's claims; role bits use the main application's PrincipalRole ordinals
+public final class TokenPrincipal implements AuthenticatedPrincipal {
+    
+    public enum Role { 
+        ADMIN, STAFF, CUSTOMER 
+    }
+    
+    private final String tokenId;
+    private final Long userId;
+    private final String username;
+    private final int roleBits;
+    
+    // Constructors
+    public TokenPrincipal(String tokenId, Long userId, String username, int roleBits) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.username = username;
+        this.roleBits = roleBits;
+    }
+    
+    // Business methods
+    public boolean hasRole(Role role) {
+        return (roleBits & (1 << role.ordinal())) != 0;
+    }
+    
+    // Staff and admins read any customer's data; customers only their own
+    public boolean canRead(Long customerId) {
+        return hasRole(Role.ADMIN) || hasRole(Role.STAFF) || (userId != null && userId.equals(customerId));
+    }
+    
+    public List<GrantedAuthority> toGrantedAuthorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Role role : Role.values()) {
+            if (hasRole(role)) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+            }
+        }
+        return authorities;
+    }
+    
+    // Getters
+    public String getTokenId() { 
+        return tokenId; 
+    }
+    
+    public Long getUserId() { 
+        return userId; 
+    }
+    
+    public String getUsername() { 
+        return username; 
+    }
+    
+    @Override
+    public String getName() { 
+        return username; 
+    }
+}
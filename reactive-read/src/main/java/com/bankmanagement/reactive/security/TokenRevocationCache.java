@@ -0,0 +1,141 @@
+package com.bankmanagement.reactive.security;
+
+import com.bankmanagement.security.PollCursor;
+import com.bankmanagement.security.TokenClaims;
+import com.bankmanagement.security.TokenRevocationList;
+import io.r2dbc.spi.Readable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+// Mirror of the main application's revoked_tokens and token_watermarks tables, polled the same way and
+// held in the same TokenRevocationList, so a token is rejected here exactly when it is rejected there
+@Component
+public class TokenRevocationCache {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationCache.class);
+    
+    private static final long ALL_USERS = 0L;
+    
+    private static final String REVOKED_SINCE_SQL =
+        "SELECT token_id, expires_at, expiry_known, created_at FROM revoked_tokens " +
+        "WHERE created_at >= :since AND expires_at > :now ORDER BY created_at";
+    
+    private static final String WATERMARKS_SINCE_SQL =
+        "SELECT user_id, not_before, updated_at FROM token_watermarks WHERE updated_at >= :since ORDER BY updated_at";
+    
+    private final DatabaseClient databaseClient;
+    private final TokenRevocationList revocationList;
+    private final Duration accessTokenTtl;
+    
+    private final PollCursor revocationCursor;
+    private final PollCursor watermarkCursor;
+    
+    @Autowired
+    public TokenRevocationCache(DatabaseClient databaseClient,
+                                @Value("${jwt.expiration:900000}") long expirationMillis,
+                                @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationMillis,
+                                @Value("${jwt.revocation.buckets-per-lifetime:168}") int bucketsPerLifetime,
+                                @Value("${jwt.revocation.bucket-capacity:1024}") long bucketCapacity,
+                                @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${jwt.revocation.poll-overlap:PT30S}") Duration pollOverlap) {
+        this.databaseClient = databaseClient;
+        this.accessTokenTtl = Duration.ofMillis(expirationMillis);
+        this.revocationList = TokenRevocationList.forTokenLifetime(
+            Duration.ofMillis(Math.max(expirationMillis, refreshExpirationMillis)), bucketsPerLifetime,
+            bucketCapacity, falsePositiveRate);
+        this.revocationCursor = new PollCursor(pollOverlap);
+        this.watermarkCursor = new PollCursor(pollOverlap);
+    }
+    
+    // Until both tables have loaded once, a revoked token could not be told apart
+    public boolean isReady() {
+        return revocationCursor.isStarted() && watermarkCursor.isStarted();
+    }
+    
+    public boolean isRevoked(TokenClaims token) {
+        return revocationList.isRevoked(token.getTokenId(), token.getExpiresAt());
+    }
+    
+    public boolean isIssuedBeforeWatermark(TokenClaims token) {
+        return revocationList.isIssuedBeforeWatermark(token.getUserId(), token.getIssuedAt());
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval:PT5S}")
+    public Mono<Void> pollRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        return pollRevokedTokens(now)
+            .then(pollWatermarks(now))
+            .doOnSuccess(done -> revocationList.evictExpired(Instant.now(), accessTokenTtl))
+            .doOnError(e -> log.warn("Could not poll token revocations: {}", e.getMessage()))
+            .onErrorComplete();
+    }
+    
+    // Helper methods
+    private Mono<Void> pollRevokedTokens(LocalDateTime now) {
+        return databaseClient.sql(REVOKED_SINCE_SQL)
+            .bind("since", revocationCursor.since())
+            .bind("now", now)
+            .map(row -> {
+                String tokenId = row.get("token_id", String.class);
+                Instant expiresAt = toInstant(row.get("expires_at", LocalDateTime.class));
+                if (Boolean.FALSE.equals(row.get("expiry_known", Boolean.class))) {
+                    revocationList.addWithoutExpiry(tokenId, expiresAt);
+                } else {
+                    revocationList.add(tokenId, expiresAt);
+                }
+                return row.get("created_at", LocalDateTime.class);
+            })
+            .all()
+            .reduce(TokenRevocationCache::later)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .doOnNext(newest -> revocationCursor.advance(newest.orElse(null), now))
+            .then();
+    }
+    
+    private Mono<Void> pollWatermarks(LocalDateTime now) {
+        return databaseClient.sql(WATERMARKS_SINCE_SQL)
+            .bind("since", watermarkCursor.since())
+            .map(row -> {
+                applyWatermark(row);
+                return row.get("updated_at", LocalDateTime.class);
+            })
+            .all()
+            .reduce(TokenRevocationCache::later)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .doOnNext(newest -> watermarkCursor.advance(newest.orElse(null), now))
+            .then();
+    }
+    
+    private void applyWatermark(Readable row) {
+        Long userId = row.get("user_id", Long.class);
+        Instant notBefore = toInstant(row.get("not_before", LocalDateTime.class));
+        if (userId != null && userId == ALL_USERS) {
+            revocationList.raiseWatermarkForAll(notBefore);
+        } else {
+            revocationList.raiseWatermark(userId, notBefore);
+        }
+    }
+    
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return b.isAfter(a) ? b : a;
+    }
+    
+    // The tables hold local times; both applications read them in the system time zone
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
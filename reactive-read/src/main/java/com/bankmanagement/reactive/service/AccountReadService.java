@@ -0,0 +1,133 @@
+package com.bankmanagement.reactive.service;
+
+import com.bankmanagement.reactive.dto.AccountFlowDto;
+import com.bankmanagement.reactive.dto.CustomerBalanceDto;
+import com.bankmanagement.reactive.entity.AccountView;
+import com.bankmanagement.reactive.entity.TransactionView;
+import com.bankmanagement.reactive.exception.AccountNotFoundException;
+import com.bankmanagement.reactive.exception.TransactionNotFoundException;
+import com.bankmanagement.reactive.repository.ReactiveAccountRepository;
+import com.bankmanagement.reactive.repository.ReactiveTransactionRepository;
+import com.bankmanagement.reactive.security.TokenPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Same ownership rule as the main application: customers read their own accounts, staff and admins
+// everyone's. Nothing here blocks, so a few event-loop threads and a small pool serve every reader
+@Service
+public class AccountReadService {
+    
+    public static final int MAX_RECENT_TRANSACTIONS = 500;
+    
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveTransactionRepository transactionRepository;
+    private final Period defaultStatementPeriod;
+    
+    @Autowired
+    public AccountReadService(ReactiveAccountRepository accountRepository,
+                              ReactiveTransactionRepository transactionRepository,
+                              @Value("${app.statement.default-period:P90D}") Period defaultStatementPeriod) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.defaultStatementPeriod = defaultStatementPeriod;
+    }
+    
+    // Business methods
+    public Mono<AccountView> getAccount(Long id, TokenPrincipal principal) {
+        return accountRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new AccountNotFoundException("Account not found with id: " + id)))
+            .flatMap(account -> authorize(principal, account.getCustomerId()).thenReturn(account));
+    }
+    
+    public Mono<AccountView> getAccountByNumber(String accountNumber, TokenPrincipal principal) {
+        return accountRepository.findByAccountNumber(accountNumber)
+            .switchIfEmpty(Mono.error(() -> new AccountNotFoundException("Account not found with number: " + accountNumber)))
+            .flatMap(account -> authorize(principal, account.getCustomerId()).thenReturn(account));
+    }
+    
+    public Flux<AccountView> getCustomerAccounts(Long customerId, TokenPrincipal principal) {
+        return authorize(principal, customerId)
+            .thenMany(Flux.defer(() -> accountRepository.findByCustomerId(customerId)));
+    }
+    
+    public Mono<CustomerBalanceDto> getCustomerBalance(Long customerId, TokenPrincipal principal) {
+        return authorize(principal, customerId)
+            .then(Mono.defer(() -> accountRepository.getTotalBalanceByCustomer(customerId)))
+            .map(total -> {
+                CustomerBalanceDto balance = new CustomerBalanceDto();
+                balance.setCustomerId(customerId);
+                balance.setTotalBalance(total);
+                return balance;
+            });
+    }
+    
+    // Both bounds are optional: the statement defaults to the last default-period up to now
+    public Flux<TransactionView> streamStatement(Long accountId, LocalDateTime from, LocalDateTime to, TokenPrincipal principal) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(defaultStatementPeriod);
+        if (!start.isBefore(end)) {
+            return Flux.error(new ServerWebInputException("Statement start must be before its end"));
+        }
+        return getAccount(accountId, principal)
+            .thenMany(Flux.defer(() -> transactionRepository.streamStatement(accountId, start, end)));
+    }
+    
+    public Mono<AccountFlowDto> getAccountFlow(Long accountId, LocalDateTime since, TokenPrincipal principal) {
+        return getAccount(accountId, principal)
+            .then(Mono.zip(
+                transactionRepository.getTotalDepositsByAccountAndDateRange(accountId, since),
+                transactionRepository.getTotalWithdrawalsByAccountAndDateRange(accountId, since)))
+            .map(totals -> {
+                AccountFlowDto flow = new AccountFlowDto();
+                flow.setAccountId(accountId);
+                flow.setSince(since);
+                flow.setTotalDeposits(totals.getT1());
+                flow.setTotalWithdrawals(totals.getT2());
+                return flow;
+            });
+    }
+    
+    public Flux<TransactionView> getRecentTransactions(Long customerId, int limit, TokenPrincipal principal) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_RECENT_TRANSACTIONS));
+        return authorize(principal, customerId)
+            .thenMany(Flux.defer(() -> accountRepository.findByCustomerId(customerId)))
+            .map(AccountView::getId)
+            .collectList()
+            .filter(accountIds -> !accountIds.isEmpty())
+            .flatMapMany(accountIds -> transactionRepository.findRecentByAccountIds(accountIds, boundedLimit));
+    }
+    
+    // Readable by anyone who can read either side of the transfer
+    public Mono<TransactionView> getTransaction(String transactionId, TokenPrincipal principal) {
+        return transactionRepository.findByTransactionId(transactionId)
+            .switchIfEmpty(Mono.error(() -> new TransactionNotFoundException("Transaction not found with id: " + transactionId)))
+            .flatMap(transaction -> Flux.fromStream(Stream.of(transaction.getFromAccountId(), transaction.getToAccountId())
+                    .filter(Objects::nonNull))
+                .flatMap(accountRepository::findById)
+                .any(account -> principal.canRead(account.getCustomerId()))
+                .flatMap(allowed -> allowed ? Mono.just(transaction) : Mono.error(accessDenied())));
+    }
+    
+    public Flux<AccountView> getOverdraftAccounts() {
+        return accountRepository.findOverdraftAccounts();
+    }
+    
+    // Helper methods
+    private Mono<Void> authorize(TokenPrincipal principal, Long customerId) {
+        return principal.canRead(customerId) ? Mono.empty() : Mono.error(accessDenied());
+    }
+    
+    private static AccessDeniedException accessDenied() {
+        return new AccessDeniedException("Access is denied");
+    }
+}
@@ -0,0 +1,188 @@
+package com.bankmanagement.reactive;
+
+import com.bankmanagement.reactive.entity.TransactionView;
+import com.bankmanagement.reactive.security.TokenRevocationCache;
+import com.bankmanagement.security.TokenClaims;
+import com.bankmanagement.security.TokenClaims.TokenType;
+import com.bankmanagement.security.TokenCodec;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Runs the module against PostgreSQL with the main application's migrations, so the R2DBC queries and the
+// revocation polling are checked against the real schema
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "jwt.secret=" + ReactiveReadPostgresTest.SECRET,
+    // The tests poll themselves, after writing the rows they need
+    "jwt.revocation.poll-interval=PT1H"
+})
+class ReactiveReadPostgresTest {
+    
+    static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+    
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+    private static final long ROOT = 3L;
+    private static final int ADMIN_ROLE = 1;
+    private static final int CUSTOMER_ROLE = 1 << 2;
+    
+    private static EmbeddedPostgres postgres;
+    
+    private final TokenCodec codec = new TokenCodec(SECRET);
+    
+    @Autowired
+    private WebTestClient webTestClient;
+    
+    @Autowired
+    private TokenRevocationCache revocationCache;
+    
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure()
+            .dataSource(postgres.getPostgresDatabase())
+            .locations("filesystem:" + System.getProperty("app.migrations"))
+            .load()
+            .migrate();
+        
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (id, username, password_hash, first_name, last_name, email, user_type) VALUES " +
+                "(1, 'alice', 'x', 'Alice', 'A', 'alice@example.com', 'CUSTOMER'), " +
+                "(2, 'bob', 'x', 'Bob', 'B', 'bob@example.com', 'CUSTOMER'), " +
+                "(3, 'root', 'x', 'Root', 'R', 'root@example.com', 'ADMIN')");
+            statement.execute("INSERT INTO customers (id, customer_id) VALUES (1, 'C1'), (2, 'C2')");
+            statement.execute("INSERT INTO admins (id, admin_id, admin_level, ip_whitelist) VALUES (3, 'A1', 'SYSTEM', '10.0.0.0/8')");
+            statement.execute("INSERT INTO accounts (id, account_number, customer_id, account_type, account_status, balance) VALUES " +
+                "(10, 'ACC10', 1, 'SAVINGS', 'ACTIVE', 1000.00), (20, 'ACC20', 2, 'SAVINGS', 'ACTIVE', 500.00)");
+            statement.execute("INSERT INTO transactions (transaction_id, from_account_id, to_account_id, transaction_type, amount, status, transaction_date) " +
+                "SELECT 'T' || g, 20, 10, 'TRANSFER', g, 'COMPLETED', now() - (g || ' minutes')::interval FROM generate_series(1, 1200) g");
+        }
+    }
+    
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        postgres.close();
+    }
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres");
+        registry.add("spring.r2dbc.username", () -> "postgres");
+        registry.add("spring.r2dbc.password", () -> "postgres");
+    }
+    
+    @BeforeEach
+    void poll() {
+        revocationCache.pollRevocations().block();
+    }
+    
+    @Test
+    void customersReadTheirOwnAccounts() {
+        String token = accessToken(ALICE, "alice", CUSTOMER_ROLE, Instant.now());
+        
+        get("/accounts/10", token).expectStatus().isOk()
+            .expectBody().jsonPath("$.accountNumber").isEqualTo("ACC10");
+        get("/accounts/20", token).expectStatus().isForbidden();
+    }
+    
+    @Test
+    void statementStreamsEveryRowInThePeriod() {
+        String token = accessToken(ALICE, "alice", CUSTOMER_ROLE, Instant.now());
+        
+        // More rows than one fetch, so the statement is read in several round trips
+        Flux<TransactionView> statement = webTestClient.get().uri("/accounts/10/statement")
+            .headers(headers -> headers.setBearerAuth(token))
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .returnResult(TransactionView.class)
+            .getResponseBody();
+        
+        StepVerifier.create(statement).expectNextCount(1200).verifyComplete();
+    }
+    
+    @Test
+    void revokedTokensAreRejected() throws Exception {
+        String tokenId = UUID.randomUUID().toString();
+        String token = codec.encode(new TokenClaims(tokenId, TokenType.ACCESS, ALICE, "alice", CUSTOMER_ROLE, 0L,
+            Instant.now(), Instant.now().plus(Duration.ofMinutes(15))));
+        get("/accounts/10", token).expectStatus().isOk();
+        
+        update("INSERT INTO revoked_tokens (token_id, user_id, expires_at, expiry_known, reason, created_at) " +
+            "VALUES (?, 1, ?, TRUE, 'logout', ?)", tokenId, LocalDateTime.now().plusMinutes(15), LocalDateTime.now());
+        revocationCache.pollRevocations().block();
+        
+        get("/accounts/10", token).expectStatus().isUnauthorized();
+    }
+    
+    @Test
+    void tokensIssuedBeforeTheUsersWatermarkAreRejected() throws Exception {
+        String before = accessToken(BOB, "bob", CUSTOMER_ROLE, Instant.now().minusSeconds(60));
+        
+        update("INSERT INTO token_watermarks (user_id, not_before, created_at, updated_at) VALUES (2, ?, ?, ?)",
+            LocalDateTime.now().minusSeconds(30), LocalDateTime.now(), LocalDateTime.now());
+        revocationCache.pollRevocations().block();
+        
+        get("/accounts/20", before).expectStatus().isUnauthorized();
+        get("/accounts/20", accessToken(BOB, "bob", CUSTOMER_ROLE, Instant.now())).expectStatus().isOk();
+    }
+    
+    @Test
+    void adminsAreHeldToTheirIpWhitelist() {
+        String token = accessToken(ROOT, "root", ADMIN_ROLE, Instant.now());
+        
+        get("/accounts/20", token).expectStatus().isForbidden();
+        // The test client connects over loopback, a trusted proxy by default, so its forwarded address counts
+        webTestClient.get().uri("/accounts/20")
+            .headers(headers -> {
+                headers.setBearerAuth(token);
+                headers.set("X-Forwarded-For", "10.1.2.3");
+            })
+            .exchange()
+            .expectStatus().isOk();
+    }
+    
+    // Helper methods
+    private WebTestClient.ResponseSpec get(String path, String token) {
+        return webTestClient.get().uri(path)
+            .headers(headers -> headers.setBearerAuth(token))
+            .exchange();
+    }
+    
+    private String accessToken(long userId, String username, int roleBits, Instant issuedAt) {
+        return codec.encode(new TokenClaims(UUID.randomUUID().toString(), TokenType.ACCESS, userId, username,
+            roleBits, 0L, issuedAt, issuedAt.plus(Duration.ofMinutes(15))));
+    }
+    
+    private static void update(String sql, Object... parameters) throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                Object parameter = parameters[i];
+                statement.setObject(i + 1, parameter instanceof LocalDateTime time ? Timestamp.valueOf(time) : parameter);
+            }
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bankmanagement.reactive.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientAddressResolverTest {
+    
+    private final ClientAddressResolver resolver = new ClientAddressResolver("127.0.0.0/8, ::1, 10.0.0.0/24");
+    
+    @Test
+    void forwardedForIsIgnoredFromUntrustedPeers() {
+        assertThat(resolver.resolve(request("203.0.113.7", "10.1.2.3"))).isEqualTo("203.0.113.7");
+    }
+    
+    @Test
+    void clientIsTheRightMostUntrustedHop() {
+        // Everything left of the first untrusted hop may have been written by the client itself
+        assertThat(resolver.resolve(request("127.0.0.1", "192.0.2.99, 198.51.100.4, 10.0.0.5"))).isEqualTo("198.51.100.4");
+        assertThat(resolver.resolve(request("::1", "198.51.100.4"))).isEqualTo("198.51.100.4");
+    }
+    
+    @Test
+    void peerIsUsedWithoutAForwardedFor() {
+        assertThat(resolver.resolve(request("127.0.0.1", null))).isEqualTo("127.0.0.1");
+    }
+    
+    @Test
+    void invalidProxyEntriesFailAtStartup() {
+        assertThatThrownBy(() -> new ClientAddressResolver("127.0.0.0/8, proxy.internal"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    // Helper methods
+    private static MockServerHttpRequest request(String peer, String forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("/api/v1/accounts/1")
+            .remoteAddress(new InetSocketAddress(peer, 40000));
+        if (forwardedFor != null) {
+            builder.header("X-Forwarded-For", forwardedFor);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,304 @@
+package com.bankmanagement.security;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+
+// Immutable path-compressed binary trie of IPv4 and IPv6 CIDR blocks; a lookup costs one compare per
+// branching node and never resolves a host name
+public final class CidrTrie {
+    
+    public static final CidrTrie EMPTY = builder().build();
+    
+    private static final int IPV4 = 0;
+    private static final int IPV6 = 1;
+    private static final int[] MAX_BITS = { 32, 128 };
+    private static final int NONE = -1;
+    
+    private final int[] roots;
+    private final long[] prefixHigh;
+    private final long[] prefixLow;
+    private final int[] prefixLength;
+    private final boolean[] terminal;
+    private final int[] zero;
+    private final int[] one;
+    private final int blockCount;
+    
+    private CidrTrie(int[] roots, long[] prefixHigh, long[] prefixLow, int[] prefixLength, boolean[] terminal,
+                     int[] zero, int[] one, int blockCount) {
+        this.roots = roots;
+        this.prefixHigh = prefixHigh;
+        this.prefixLow = prefixLow;
+        this.prefixLength = prefixLength;
+        this.terminal = terminal;
+        this.zero = zero;
+        this.one = one;
+        this.blockCount = blockCount;
+    }
+    
+    public boolean contains(byte[] address) {
+        int family = familyOf(address);
+        if (family < 0) {
+            return false;
+        }
+        int offset = address.length == 16 && family == IPV4 ? 12 : 0;
+        long high = readLong(address, offset, Math.min(8, address.length - offset));
+        long low = address.length - offset == 16 ? readLong(address, offset + 8, 8) : 0L;
+        return contains(family, high, low);
+    }
+    
+    // Returns false for anything that is not an IP literal, without ever resolving a host name
+    public boolean contains(String address) {
+        byte[] bytes = parseAddress(address);
+        return bytes != null && contains(bytes);
+    }
+    
+    public boolean isEmpty() {
+        return blockCount == 0;
+    }
+    
+    public int blockCount() {
+        return blockCount;
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    // Parses an IPv4 or IPv6 literal, or returns null; host names are rejected, not looked up
+    public static byte[] parseAddress(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        if (text.indexOf(':') < 0) {
+            return parseIpv4(text);
+        }
+        String literal = text.startsWith("[") && text.endsWith("]") ? text.substring(1, text.length() - 1) : text;
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            boolean allowed = c == ':' || c == '.' || Character.digit(c, 16) >= 0;
+            if (!allowed) {
+                return null;
+            }
+        }
+        try {
+            // A colon makes InetAddress parse this as an IPv6 literal, so no lookup can happen
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+    
+    // Helper methods
+    private boolean contains(int family, long high, long low) {
+        int maxBits = MAX_BITS[family];
+        int node = roots[family];
+        while (node != NONE) {
+            int length = prefixLength[node];
+            if (!matches(high, low, prefixHigh[node], prefixLow[node], length)) {
+                return false;
+            }
+            if (terminal[node]) {
+                return true;
+            }
+            if (length == maxBits) {
+                return false;
+            }
+            node = bitAt(high, low, length) == 0 ? zero[node] : one[node];
+        }
+        return false;
+    }
+    
+    private static boolean matches(long high, long low, long prefixHigh, long prefixLow, int length) {
+        if (length <= 64) {
+            return ((high ^ prefixHigh) & mask(length)) == 0;
+        }
+        return high == prefixHigh && ((low ^ prefixLow) & mask(length - 64)) == 0;
+    }
+    
+    private static long mask(int bits) {
+        return bits == 0 ? 0L : -1L << (64 - bits);
+    }
+    
+    private static int bitAt(long high, long low, int index) {
+        return index < 64 ? (int) (high >>> (63 - index)) & 1 : (int) (low >>> (127 - index)) & 1;
+    }
+    
+    private static int familyOf(byte[] address) {
+        if (address.length == 4) {
+            return IPV4;
+        }
+        if (address.length == 16) {
+            return isIpv4Mapped(address) ? IPV4 : IPV6;
+        }
+        return -1;
+    }
+    
+    // Reads count bytes big-endian into the top of a long
+    private static long readLong(byte[] bytes, int offset, int count) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (i < count ? bytes[offset + i] & 0xFF : 0);
+        }
+        return value;
+    }
+    
+    private static byte[] parseIpv4(String text) {
+        byte[] address = new byte[4];
+        int part = 0;
+        int value = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : '.';
+            if (c == '.') {
+                if (value < 0 || part == 4) {
+                    return null;
+                }
+                address[part++] = (byte) value;
+                value = -1;
+            } else if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 255) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return part == 4 ? address : null;
+    }
+    
+    private static boolean isIpv4Mapped(byte[] address) {
+        for (int i = 0; i < 10; i++) {
+            if (address[i] != 0) {
+                return false;
+            }
+        }
+        return address[10] == (byte) 0xff && address[11] == (byte) 0xff;
+    }
+    
+    // Collects blocks into a one-bit-per-level trie and compresses it on build
+    public static final class Builder {
+        
+        // Plain trie; nodes 0 and 1 are the IPv4 and IPv6 roots, and 0 as a child means "no child"
+        private int[] zero = new int[64];
+        private int[] one = new int[64];
+        private boolean[] terminal = new boolean[64];
+        private int size = 2;
+        private int blockCount;
+        
+        // Compressed output, filled by build
+        private long[] outHigh;
+        private long[] outLow;
+        private int[] outLength;
+        private boolean[] outTerminal;
+        private int[] outZero;
+        private int[] outOne;
+        private int outSize;
+        
+        private Builder() {}
+        
+        // Adds a block such as 10.0.0.0/8, 2001:db8::/32 or a single address; false if the text is not one
+        public boolean add(String cidr) {
+            String text = cidr.trim();
+            int slash = text.indexOf('/');
+            String addressText = slash < 0 ? text : text.substring(0, slash);
+            byte[] address = parseAddress(addressText);
+            if (address == null) {
+                return false;
+            }
+            
+            int family = familyOf(address);
+            int offset = address.length == 16 && family == IPV4 ? 12 : 0;
+            int prefix = MAX_BITS[family];
+            if (slash >= 0) {
+                try {
+                    prefix = Integer.parseInt(text.substring(slash + 1));
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+                // An IPv4-mapped block written in IPv6 form counts the 96 mapping bits in its prefix
+                if (family == IPV4 && addressText.indexOf(':') >= 0) {
+                    prefix -= 96;
+                }
+                if (prefix < 0 || prefix > MAX_BITS[family]) {
+                    return false;
+                }
+            }
+            
+            int node = family;
+            for (int i = 0; i < prefix && !terminal[node]; i++) {
+                int bit = (address[offset + (i >>> 3)] >>> (7 - (i & 7))) & 1;
+                int child = bit == 0 ? zero[node] : one[node];
+                if (child == 0) {
+                    // Allocate before picking the array to write to, since allocation may replace it
+                    child = newNode();
+                    (bit == 0 ? zero : one)[node] = child;
+                }
+                node = child;
+            }
+            terminal[node] = true;
+            blockCount++;
+            return true;
+        }
+        
+        public CidrTrie build() {
+            outHigh = new long[size];
+            outLow = new long[size];
+            outLength = new int[size];
+            outTerminal = new boolean[size];
+            outZero = new int[size];
+            outOne = new int[size];
+            outSize = 0;
+            
+            int[] roots = { compress(IPV4, 0L, 0L, 0), compress(IPV6, 0L, 0L, 0) };
+            return new CidrTrie(roots, Arrays.copyOf(outHigh, outSize), Arrays.copyOf(outLow, outSize),
+                Arrays.copyOf(outLength, outSize), Arrays.copyOf(outTerminal, outSize),
+                Arrays.copyOf(outZero, outSize), Arrays.copyOf(outOne, outSize), blockCount);
+        }
+        
+        // Emits one node per terminal or branching node, folding single-child chains into its prefix
+        private int compress(int node, long high, long low, int depth) {
+            while (!terminal[node] && (zero[node] == 0) != (one[node] == 0)) {
+                if (one[node] != 0) {
+                    if (depth < 64) {
+                        high |= 1L << (63 - depth);
+                    } else {
+                        low |= 1L << (127 - depth);
+                    }
+                    node = one[node];
+                } else {
+                    node = zero[node];
+                }
+                depth++;
+            }
+            if (!terminal[node] && zero[node] == 0) {
+                // Only an empty root ends without a block
+                return NONE;
+            }
+            
+            int index = outSize++;
+            outHigh[index] = high;
+            outLow[index] = low;
+            outLength[index] = depth;
+            outTerminal[index] = terminal[node];
+            outZero[index] = NONE;
+            outOne[index] = NONE;
+            if (!terminal[node]) {
+                outZero[index] = compress(zero[node], high, low, depth + 1);
+                long oneHigh = depth < 64 ? high | 1L << (63 - depth) : high;
+                long oneLow = depth < 64 ? low : low | 1L << (127 - depth);
+                outOne[index] = compress(one[node], oneHigh, oneLow, depth + 1);
+            }
+            return index;
+        }
+        
+        private int newNode() {
+            if (size == zero.length) {
+                zero = Arrays.copyOf(zero, size * 2);
+                one = Arrays.copyOf(one, size * 2);
+                terminal = Arrays.copyOf(terminal, size * 2);
+            }
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bankmanagement.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.regex.Pattern;
+
+// The admins.ip_whitelist rules both applications enforce: no whitelist leaves the admin unrestricted,
+// invalid entries are skipped, and a whitelist with no valid entry allows no address
+public final class IpWhitelist {
+    
+    private static final Logger log = LoggerFactory.getLogger(IpWhitelist.class);
+    
+    // Entries may be separated by commas, semicolons or whitespace
+    private static final Pattern SEPARATORS = Pattern.compile("[,;\\s]+");
+    
+    public static final CidrTrie UNRESTRICTED = compile("0.0.0.0/0, ::/0");
+    
+    private IpWhitelist() {}
+    
+    public static CidrTrie compile(String whitelist) {
+        if (whitelist == null || whitelist.isBlank()) {
+            return UNRESTRICTED;
+        }
+        
+        CidrTrie.Builder builder = CidrTrie.builder();
+        for (String entry : SEPARATORS.split(whitelist.trim())) {
+            if (!entry.isEmpty() && !builder.add(entry)) {
+                log.warn("Ignoring invalid IP whitelist entry '{}'", entry);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.bankmanagement.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Where the next poll of revoked_tokens or token_watermarks starts. Rows from transactions that committed
+// late, or on a node with a skewed clock, can carry an earlier time than rows already seen, so each poll
+// re-reads a short overlap.
+public final class PollCursor {
+    
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
+    private final Duration overlap;
+    
+    // Null until the first poll has read the table
+    private volatile LocalDateTime position;
+    
+    public PollCursor(Duration overlap) {
+        this.overlap = overlap;
+    }
+    
+    public boolean isStarted() {
+        return position != null;
+    }
+    
+    public LocalDateTime since() {
+        LocalDateTime current = position;
+        return current != null ? current : BEGINNING;
+    }
+    
+    // newest is the latest time among the rows the poll read, or null when it read none
+    public synchronized void advance(LocalDateTime newest, LocalDateTime now) {
+        LocalDateTime next = (newest != null ? newest : now).minus(overlap);
+        if (position == null || next.isAfter(position)) {
+            position = next;
+        }
+    }
+}
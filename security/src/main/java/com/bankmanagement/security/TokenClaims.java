@@ -0,0 +1,71 @@
+package com.bankmanagement.security;
+
+import java.time.Instant;
+
+// The claims both applications read from a token; role and permission bits use the main application's ordinals
+public final class TokenClaims {
+    
+    public enum TokenType {
+        ACCESS, REFRESH
+    }
+    
+    private final String tokenId;
+    private final TokenType type;
+    private final Long userId;
+    private final String username;
+    private final int roleBits;
+    private final long permissionBits;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    
+    // Constructors
+    public TokenClaims(String tokenId, TokenType type, Long userId, String username, int roleBits,
+                       long permissionBits, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.type = type;
+        this.userId = userId;
+        this.username = username;
+        this.roleBits = roleBits;
+        this.permissionBits = permissionBits;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+    
+    // Business methods
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+    
+    // Getters
+    public String getTokenId() {
+        return tokenId;
+    }
+    
+    public TokenType getType() {
+        return type;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public int getRoleBits() {
+        return roleBits;
+    }
+    
+    public long getPermissionBits() {
+        return permissionBits;
+    }
+    
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,81 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.security.TokenClaims.TokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+// Signs and verifies the HMAC tokens the main application issues; the one place the claim names are defined
+public final class TokenCodec {
+    
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLES = "rol";
+    private static final String CLAIM_PERMISSIONS = "prm";
+    private static final String CLAIM_TYPE = "typ";
+    // iat has whole-second precision; watermarks need to order tokens against changes within a second
+    private static final String CLAIM_ISSUED_AT_MILLIS = "iam";
+    
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    
+    // Key and parser are built once; neither is cheap enough to construct per request
+    public TokenCodec(String secret) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+    
+    public String encode(TokenClaims claims) {
+        return Jwts.builder()
+            .id(claims.getTokenId())
+            .subject(claims.getUsername())
+            .claim(CLAIM_USER_ID, claims.getUserId())
+            .claim(CLAIM_ROLES, claims.getRoleBits())
+            .claim(CLAIM_PERMISSIONS, claims.getPermissionBits())
+            .claim(CLAIM_TYPE, claims.getType().name())
+            .claim(CLAIM_ISSUED_AT_MILLIS, claims.getIssuedAt().toEpochMilli())
+            .issuedAt(Date.from(claims.getIssuedAt()))
+            .expiration(Date.from(claims.getExpiresAt()))
+            .signWith(signingKey)
+            .compact();
+    }
+    
+    // Rejects bad signatures, expired tokens and tokens missing a claim either application relies on
+    public TokenClaims decode(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new TokenVerificationException("Invalid token", e);
+        }
+        
+        Object userId = claims.get(CLAIM_USER_ID);
+        Object roles = claims.get(CLAIM_ROLES);
+        Object permissions = claims.get(CLAIM_PERMISSIONS);
+        String type = claims.get(CLAIM_TYPE, String.class);
+        if (!(userId instanceof Number) || !(roles instanceof Number) || !(permissions instanceof Number)
+                || type == null || claims.getExpiration() == null) {
+            throw new TokenVerificationException("Token is missing required claims");
+        }
+        
+        TokenType tokenType;
+        try {
+            tokenType = TokenType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new TokenVerificationException("Unknown token type: " + type);
+        }
+        
+        Object issuedAtMillis = claims.get(CLAIM_ISSUED_AT_MILLIS);
+        Instant issuedAt = issuedAtMillis instanceof Number millis ? Instant.ofEpochMilli(millis.longValue())
+            : claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+        return new TokenClaims(claims.getId(), tokenType, ((Number) userId).longValue(), claims.getSubject(),
+            ((Number) roles).intValue(), ((Number) permissions).longValue(), issuedAt,
+            claims.getExpiration().toInstant());
+    }
+}
@@ -0,0 +1,133 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.util.ScalableBloomFilter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// In-memory mirror of revoked token ids, bucketed by expiry so whole buckets are dropped once expired.
+// Each bucket is a Bloom filter over an exact set; ids revoked without a known expiry are kept apart
+public class TokenRevocationList {
+    
+    private final long bucketMillis;
+    private final long bucketCapacity;
+    private final double falsePositiveRate;
+    
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    
+    // Token id to the time it can be forgotten (the latest expiry any token could have)
+    private final ConcurrentHashMap<String, Instant> revokedWithoutExpiry = new ConcurrentHashMap<>();
+    
+    // User id to the time before which that user's access tokens are rejected, plus one for every user
+    private final ConcurrentHashMap<Long, Instant> notBefore = new ConcurrentHashMap<>();
+    private volatile Instant allUsersNotBefore = Instant.EPOCH;
+    
+    public TokenRevocationList(Duration bucketWidth, long bucketCapacity, double falsePositiveRate) {
+        if (bucketWidth.toMillis() <= 0) {
+            throw new IllegalArgumentException("Bucket width must be positive");
+        }
+        this.bucketMillis = bucketWidth.toMillis();
+        this.bucketCapacity = bucketCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+    
+    // Rotated refresh tokens make up most revocations, so buckets span the longest token lifetime
+    public static TokenRevocationList forTokenLifetime(Duration maxTokenLifetime, int bucketsPerLifetime,
+                                                       long bucketCapacity, double falsePositiveRate) {
+        Duration bucketWidth = Duration.ofMillis(Math.max(1, maxTokenLifetime.toMillis() / Math.max(1, bucketsPerLifetime)));
+        return new TokenRevocationList(bucketWidth, bucketCapacity, falsePositiveRate);
+    }
+    
+    public boolean isRevoked(String tokenId, Instant expiresAt) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (!revokedWithoutExpiry.isEmpty() && revokedWithoutExpiry.containsKey(tokenId)) {
+            return true;
+        }
+        if (buckets.isEmpty()) {
+            return false;
+        }
+        Bucket bucket = buckets.get(bucketOf(expiresAt));
+        return bucket != null && bucket.contains(tokenId);
+    }
+    
+    public void add(String tokenId, Instant expiresAt) {
+        buckets.computeIfAbsent(bucketOf(expiresAt), key -> new Bucket(bucketCapacity, falsePositiveRate))
+            .add(tokenId);
+    }
+    
+    public boolean isIssuedBeforeWatermark(Long userId, Instant issuedAt) {
+        if (issuedAt == null) {
+            return true;
+        }
+        if (issuedAt.isBefore(allUsersNotBefore)) {
+            return true;
+        }
+        Instant userNotBefore = userId != null && !notBefore.isEmpty() ? notBefore.get(userId) : null;
+        return userNotBefore != null && issuedAt.isBefore(userNotBefore);
+    }
+    
+    // Watermarks only move forward, whatever order nodes' updates arrive in
+    public void raiseWatermark(Long userId, Instant watermark) {
+        notBefore.merge(userId, watermark, (current, raised) -> current.isAfter(raised) ? current : raised);
+    }
+    
+    public synchronized void raiseWatermarkForAll(Instant watermark) {
+        if (watermark.isAfter(allUsersNotBefore)) {
+            allUsersNotBefore = watermark;
+        }
+    }
+    
+    public void addWithoutExpiry(String tokenId, Instant keepUntil) {
+        revokedWithoutExpiry.merge(tokenId, keepUntil, (current, added) -> current.isAfter(added) ? current : added);
+    }
+    
+    // Drops buckets whose whole time range lies in the past, and watermarks older than any live access token
+    public void evictExpired(Instant now, Duration accessTokenTtl) {
+        buckets.headMap(bucketOf(now)).clear();
+        revokedWithoutExpiry.values().removeIf(keepUntil -> !keepUntil.isAfter(now));
+        Instant oldestLiveIssue = now.minus(accessTokenTtl);
+        notBefore.values().removeIf(watermark -> !watermark.isAfter(oldestLiveIssue));
+    }
+    
+    public long size() {
+        long size = revokedWithoutExpiry.size() + notBefore.size();
+        for (Bucket bucket : buckets.values()) {
+            size += bucket.tokenIds.size();
+        }
+        return size;
+    }
+    
+    public int bucketCount() {
+        return buckets.size();
+    }
+    
+    // Helper methods
+    private long bucketOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), bucketMillis);
+    }
+    
+    private static final class Bucket {
+        
+        private final ScalableBloomFilter filter;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+        
+        private Bucket(long capacity, double falsePositiveRate) {
+            this.filter = new ScalableBloomFilter(capacity, falsePositiveRate);
+        }
+        
+        private boolean contains(String tokenId) {
+            return filter.mightContain(tokenId) && tokenIds.contains(tokenId);
+        }
+        
+        // The exact set is written first so a filter hit always finds the id in the set
+        private void add(String tokenId) {
+            tokenIds.add(tokenId);
+            filter.put(tokenId);
+        }
+    }
+}
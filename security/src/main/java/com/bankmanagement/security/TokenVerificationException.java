@@ -0,0 +1,12 @@
+package com.bankmanagement.security;
+
+public class TokenVerificationException extends RuntimeException {
+    
+    public TokenVerificationException(String message) {
+        super(message);
+    }
+    
+    public TokenVerificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bankmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CidrTrieTest {
+    
+    @Test
+    void zeroLengthPrefixesMatchTheirWholeFamily() {
+        CidrTrie ipv4 = trie("0.0.0.0/0");
+        assertThat(ipv4.contains("203.0.113.7")).isTrue();
+        assertThat(ipv4.contains("::ffff:203.0.113.7")).isTrue();
+        assertThat(ipv4.contains("2001:db8::1")).isFalse();
+        
+        CidrTrie ipv6 = trie("::/0");
+        assertThat(ipv6.contains("2001:db8::1")).isTrue();
+        assertThat(ipv6.contains("::1")).isTrue();
+        assertThat(ipv6.contains("203.0.113.7")).isFalse();
+    }
+    
+    @Test
+    void fullLengthPrefixesMatchOneAddress() {
+        CidrTrie trie = trie("192.0.2.10/32", "2001:db8::10/128", "198.51.100.1");
+        
+        assertThat(trie.contains("192.0.2.10")).isTrue();
+        assertThat(trie.contains("192.0.2.11")).isFalse();
+        assertThat(trie.contains("2001:db8::10")).isTrue();
+        assertThat(trie.contains("[2001:db8::10]")).isTrue();
+        assertThat(trie.contains("2001:db8::11")).isFalse();
+        assertThat(trie.contains("198.51.100.1")).isTrue();
+        assertThat(trie.contains("198.51.100.2")).isFalse();
+    }
+    
+    @Test
+    void ipv4MappedAddressesShareTheIpv4Blocks() {
+        CidrTrie trie = trie("10.0.0.0/8", "::ffff:192.168.0.0/112");
+        
+        assertThat(trie.contains("::ffff:10.1.2.3")).isTrue();
+        assertThat(trie.contains("192.168.4.5")).isTrue();
+        assertThat(trie.contains("::ffff:192.168.4.5")).isTrue();
+        assertThat(trie.contains("192.169.0.1")).isFalse();
+        assertThat(trie.contains(new byte[] { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff, (byte) 0xff, 10, 9, 8, 7 }))
+            .isTrue();
+    }
+    
+    @Test
+    void overlappingBlocksMatchRegardlessOfInsertionOrder() {
+        for (CidrTrie trie : new CidrTrie[] { trie("10.0.0.0/8", "10.1.0.0/16"), trie("10.1.0.0/16", "10.0.0.0/8") }) {
+            assertThat(trie.contains("10.1.2.3")).isTrue();
+            assertThat(trie.contains("10.200.0.1")).isTrue();
+            assertThat(trie.contains("11.0.0.1")).isFalse();
+            assertThat(trie.blockCount()).isEqualTo(2);
+        }
+    }
+    
+    @Test
+    void siblingBlocksDoNotLeakIntoEachOther() {
+        CidrTrie trie = trie("192.0.2.0/25", "192.0.2.192/26", "2001:db8:0:1::/64", "2001:db8:0:3::/64");
+        
+        assertThat(trie.contains("192.0.2.127")).isTrue();
+        assertThat(trie.contains("192.0.2.128")).isFalse();
+        assertThat(trie.contains("192.0.2.200")).isTrue();
+        assertThat(trie.contains("2001:db8:0:1::ffff")).isTrue();
+        assertThat(trie.contains("2001:db8:0:2::1")).isFalse();
+        assertThat(trie.contains("2001:db8:0:3:ffff:ffff:ffff:ffff")).isTrue();
+    }
+    
+    @Test
+    void invalidBlocksAreRejectedWithoutChangingTheTrie() {
+        CidrTrie.Builder builder = CidrTrie.builder();
+        
+        assertThat(builder.add("10.0.0.0/33")).isFalse();
+        assertThat(builder.add("10.0.0.0/-1")).isFalse();
+        assertThat(builder.add("10.0.0.0/abc")).isFalse();
+        assertThat(builder.add("2001:db8::/129")).isFalse();
+        assertThat(builder.add("::ffff:10.0.0.0/95")).isFalse();
+        assertThat(builder.add("256.0.0.1")).isFalse();
+        assertThat(builder.add("10.0.0")).isFalse();
+        assertThat(builder.add("10.0.0.1.2")).isFalse();
+        assertThat(builder.add("localhost")).isFalse();
+        assertThat(builder.add("/8")).isFalse();
+        assertThat(builder.add("")).isFalse();
+        
+        CidrTrie trie = builder.build();
+        assertThat(trie.isEmpty()).isTrue();
+        assertThat(trie.contains("10.0.0.1")).isFalse();
+    }
+    
+    @Test
+    void nonLiteralAddressesNeverMatch() {
+        CidrTrie trie = trie("0.0.0.0/0", "::/0");
+        
+        assertThat(trie.contains("example.com")).isFalse();
+        assertThat(trie.contains((String) null)).isFalse();
+        assertThat(trie.contains("")).isFalse();
+        assertThat(trie.contains(new byte[5])).isFalse();
+        assertThat(CidrTrie.EMPTY.contains("10.0.0.1")).isFalse();
+    }
+    
+    // Helper methods
+    private static CidrTrie trie(String... blocks) {
+        CidrTrie.Builder builder = CidrTrie.builder();
+        for (String block : blocks) {
+            assertThat(builder.add(block)).as(block).isTrue();
+        }
+        return builder.build();
+    }
+}
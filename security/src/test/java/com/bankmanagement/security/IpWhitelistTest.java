@@ -0,0 +1,40 @@
+package com.bankmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IpWhitelistTest {
+    
+    @Test
+    void noWhitelistLeavesTheAdminUnrestricted() {
+        assertThat(IpWhitelist.compile(null).contains("203.0.113.7")).isTrue();
+        assertThat(IpWhitelist.compile("  ").contains("2001:db8::1")).isTrue();
+    }
+    
+    @Test
+    void entriesMayBeSeparatedByCommasSemicolonsOrWhitespace() {
+        CidrTrie allowlist = IpWhitelist.compile("10.0.0.0/8, 192.0.2.1;2001:db8::/32\n198.51.100.0/24");
+        
+        assertThat(allowlist.blockCount()).isEqualTo(4);
+        assertThat(allowlist.contains("10.20.30.40")).isTrue();
+        assertThat(allowlist.contains("2001:db8::1")).isTrue();
+        assertThat(allowlist.contains("203.0.113.7")).isFalse();
+    }
+    
+    @Test
+    void invalidEntriesAreSkipped() {
+        CidrTrie allowlist = IpWhitelist.compile("10.0.0.0/8, localhost, 300.1.1.1, 192.0.2.0/33");
+        
+        assertThat(allowlist.blockCount()).isEqualTo(1);
+        assertThat(allowlist.contains("10.1.1.1")).isTrue();
+    }
+    
+    @Test
+    void aWhitelistWithNoValidEntryAllowsNoAddress() {
+        CidrTrie allowlist = IpWhitelist.compile("localhost, not-an-address");
+        
+        assertThat(allowlist.isEmpty()).isTrue();
+        assertThat(allowlist.contains("127.0.0.1")).isFalse();
+    }
+}
@@ -0,0 +1,44 @@
+package com.bankmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PollCursorTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+    
+    private final PollCursor cursor = new PollCursor(Duration.ofSeconds(30));
+    
+    @Test
+    void firstPollReadsTheWholeTable() {
+        assertThat(cursor.isStarted()).isFalse();
+        assertThat(cursor.since()).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+    }
+    
+    @Test
+    void nextPollRereadsAnOverlapBeforeTheNewestRow() {
+        cursor.advance(NOW.minusMinutes(5), NOW);
+        
+        assertThat(cursor.isStarted()).isTrue();
+        assertThat(cursor.since()).isEqualTo(NOW.minusMinutes(5).minusSeconds(30));
+    }
+    
+    @Test
+    void anEmptyPollMovesTheCursorUpToNow() {
+        cursor.advance(null, NOW);
+        
+        assertThat(cursor.since()).isEqualTo(NOW.minusSeconds(30));
+    }
+    
+    @Test
+    void theCursorNeverMovesBack() {
+        cursor.advance(null, NOW);
+        cursor.advance(NOW.minusMinutes(5), NOW.plusSeconds(5));
+        
+        assertThat(cursor.since()).isEqualTo(NOW.minusSeconds(30));
+    }
+}
@@ -0,0 +1,71 @@
+package com.bankmanagement.security;
+
+import com.bankmanagement.security.TokenClaims.TokenType;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenCodecTest {
+    
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+    
+    private final TokenCodec codec = new TokenCodec(SECRET);
+    
+    @Test
+    void decodeReturnsTheEncodedClaims() {
+        Instant issuedAt = Instant.parse("2030-01-01T10:00:00.123Z");
+        TokenClaims claims = new TokenClaims("jti-1", TokenType.ACCESS, 42L, "alice", 0b101, 0xF0L,
+            issuedAt, issuedAt.plus(Duration.ofDays(3650)));
+        
+        TokenClaims decoded = codec.decode(codec.encode(claims));
+        
+        assertThat(decoded.getTokenId()).isEqualTo("jti-1");
+        assertThat(decoded.getType()).isEqualTo(TokenType.ACCESS);
+        assertThat(decoded.getUserId()).isEqualTo(42L);
+        assertThat(decoded.getUsername()).isEqualTo("alice");
+        assertThat(decoded.getRoleBits()).isEqualTo(0b101);
+        assertThat(decoded.getPermissionBits()).isEqualTo(0xF0L);
+        // Millisecond precision survives, unlike the standard iat claim
+        assertThat(decoded.getIssuedAt()).isEqualTo(issuedAt);
+    }
+    
+    @Test
+    void tokensSignedWithAnotherSecretAreRejected() {
+        String token = new TokenCodec(SECRET + "-other").encode(claims(Instant.now().plusSeconds(60)));
+        
+        assertThatThrownBy(() -> codec.decode(token)).isInstanceOf(TokenVerificationException.class);
+    }
+    
+    @Test
+    void expiredTokensAreRejected() {
+        String token = codec.encode(claims(Instant.now().minusSeconds(60)));
+        
+        assertThatThrownBy(() -> codec.decode(token)).isInstanceOf(TokenVerificationException.class);
+    }
+    
+    @Test
+    void tokensWithoutTheApplicationClaimsAreRejected() {
+        String token = Jwts.builder()
+            .subject("alice")
+            .expiration(Date.from(Instant.now().plusSeconds(60)))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+        
+        assertThatThrownBy(() -> codec.decode(token))
+            .isInstanceOf(TokenVerificationException.class)
+            .hasMessageContaining("missing required claims");
+    }
+    
+    // Helper methods
+    private static TokenClaims claims(Instant expiresAt) {
+        return new TokenClaims("jti-1", TokenType.ACCESS, 42L, "alice", 1, 0L, expiresAt.minusSeconds(900), expiresAt);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bankmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScalableBloomFilterTest {
+    
+    @Test
+    void neverReportsAnAddedValueAsAbsent() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+        
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+    
+    @Test
+    void growsSlicesAndKeepsTheCompoundFalsePositiveRateBounded() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("present-" + i);
+        }
+        assertThat(filter.sliceCount()).isGreaterThan(1);
+        
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.01);
+    }
+    
+    @Test
+    void countsEachDistinctValueOnce() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+        filter.put("jdoe");
+        filter.put("jdoe");
+        filter.put(null);
+        
+        assertThat(filter.approximateCount()).isEqualTo(1);
+        assertThat(filter.mightContain("jdoe")).isTrue();
+        assertThat(filter.mightContain("asmith")).isFalse();
+    }
+    
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatThrownBy(() -> new ScalableBloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScalableBloomFilter(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScalableBloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}